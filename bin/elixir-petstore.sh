@@ -33,4 +33,4 @@ rm -Rf "samples/client/petstore/elixir/lib/swagger_petstore/lib/"
 export JAVA_OPTS="${JAVA_OPTS} -XX:MaxPermSize=256M -Xmx1024M -DloggerPath=conf/log4j.properties"
 args="$@ generate -t modules/swagger-codegen/src/main/resources/elixir -i modules/swagger-codegen/src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml -l elixir -o samples/client/petstore/elixir"
 
-java $JAVA_OPTS -jar $executable $args
+./bin/utils/swagger-codegen-cli.sh $args
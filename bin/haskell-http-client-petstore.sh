@@ -29,5 +29,5 @@ export JAVA_OPTS="${JAVA_OPTS} -XX:MaxPermSize=256M -Xmx1024M -DloggerPath=conf/
 
 args="$@ generate -t modules/swagger-codegen/src/main/resources/haskell-http-client -i modules/swagger-codegen/src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml -l haskell-http-client -o samples/client/petstore/haskell-http-client"
 
-echo "java ${JAVA_OPTS} -jar ${executable} ${args}"
-java $JAVA_OPTS -jar $executable $args
+echo "./bin/utils/swagger-codegen-cli.sh ${args}"
+./bin/utils/swagger-codegen-cli.sh $args
@@ -31,4 +31,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/MSF4J -i modules/
 echo "Removing files and folders under samples/server/petstore/java-msf4j/src/main"
 rm -rf samples/server/petstore/java-msf4j/src/main
 find samples/server/petstore/java-msf4j -maxdepth 1 -type f ! -name "README.md" ! -name "pom.xml" ! -name "mvn_test_jdk8_only.sh" ! -name ".swagger-codegen-ignore" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
@@ -31,4 +31,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/Java/libraries/go
 echo "Removing files and folders under samples/client/petstore/java/google-api-client/src/main"
 rm -rf samples/client/petstore/java/google-api-client/src/main
 find samples/client/petstore/java/google-api-client -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
@@ -31,4 +31,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/Java -i modules/s
 echo "Removing files and folders under samples/client/petstore/java/jersey1/src/main"
 rm -rf samples/client/petstore/java/jersey1/src/main
 find samples/client/petstore/java/jersey1 -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
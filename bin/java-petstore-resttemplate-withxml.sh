@@ -31,4 +31,4 @@ ags="$@ generate -i modules/swagger-codegen/src/test/resources/2_0/petstore-with
 echo "Removing files and folders under samples/client/petstore/java/resttemplate/src/main"
 rm -rf samples/client/petstore/java/resttemplate-withXml/src/main
 find samples/client/petstore/java/resttemplate-withXml -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
@@ -31,4 +31,4 @@ ags="generate -t modules/swagger-codegen/src/main/resources/Javascript/es6 \
 -o samples/client/petstore/javascript-es6 \
 --additional-properties useES6=true $@"
 
-java -DappName=PetstoreClient $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags -DappName=PetstoreClient
@@ -32,4 +32,4 @@ echo "Removing files and folders under samples/server/petstore/jaxrs-resteasy/ea
 rm -rf samples/server/petstore/jaxrs-resteasy/eap-java8/src/main
 find samples/server/petstore/jaxrs-resteasy/eap-java8 -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
 
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
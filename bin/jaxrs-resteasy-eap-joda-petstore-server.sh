@@ -32,4 +32,4 @@ echo "Removing files and folders under samples/server/petstore/jaxrs-resteasy/ea
 rm -rf samples/server/petstore/jaxrs-resteasy/eap-joda/src/main
 find samples/server/petstore/jaxrs-resteasy/eap-joda -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
 
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
@@ -30,4 +30,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/Java/libraries/ok
 
 rm -rf samples/client/petstore-security-test/java/okhttp-gson/src/main
 find samples/client/petstore-security-test/java/okhttp-gson -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
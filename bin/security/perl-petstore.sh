@@ -29,6 +29,6 @@ export JAVA_OPTS="${JAVA_OPTS} -XX:MaxPermSize=256M -Xmx1024M -DloggerPath=conf/
 # complex module name used for testing
 ags="$@ generate -i modules/swagger-codegen/src/test/resources/2_0/petstore-security-test.yaml  -l perl -o samples/client/petstore-security-test/perl"
 
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
 
-java $JAVA_OPTS -jar $executable $ags --additional-properties moduleName=Something::Deep -o samples/client/petstore-security-test/perl/deep_module_test
+./bin/utils/swagger-codegen-cli.sh $ags --additional-properties moduleName=Something::Deep -o samples/client/petstore-security-test/perl/deep_module_test
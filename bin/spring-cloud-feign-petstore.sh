@@ -31,4 +31,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/JavaSpring/librar
 echo "Removing files and folders under samples/client/petstore/spring-cloud/src/main"
 rm -rf samples/client/petstore/spring-cloud/src/main
 find samples/client/petstore/spring-cloud -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
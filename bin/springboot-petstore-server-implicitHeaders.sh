@@ -31,4 +31,4 @@ ags="$@ generate -t modules/swagger-codegen/src/main/resources/JavaSpring -i mod
 echo "Removing files and folders under samples/server/petstore/springboot-implicitHeaders/src/main"
 rm -rf samples/server/petstore/springboot-implicitHeaders/src/main
 find samples/server/petstore/springboot-implicitHeaders -maxdepth 1 -type f ! -name "README.md" -exec rm {} +
-java $JAVA_OPTS -jar $executable $ags
+./bin/utils/swagger-codegen-cli.sh $ags
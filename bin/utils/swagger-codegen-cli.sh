@@ -0,0 +1,54 @@
+#!/bin/bash
+#
+# Runs swagger-codegen-cli with the given arguments. If a daemon started in the current directory with
+#
+#   java -jar modules/swagger-codegen-cli/target/swagger-codegen-cli.jar daemon
+#
+# is running, the command runs in it instead of a new JVM; JAVA_OPTS only applies to a new JVM.
+# If the build left an AppCDS archive next to the jar (mvn package -Pappcds), a new JVM uses it.
+
+executable="$(dirname "$0")/../../modules/swagger-codegen-cli/target/swagger-codegen-cli.jar"
+state="${SWAGGER_CODEGEN_DAEMON:-$HOME/.swagger-codegen/daemon}"
+marker="swagger-codegen-daemon-exit: "
+
+# Runs the command in the daemon and sets daemon_status to its exit status. daemon_status stays empty when
+# the daemon can't take the command: none is running, the connection failed before the command was sent,
+# or the daemon answered "refused". Only then does the command run in a new JVM.
+daemon_status=
+run_in_daemon() {
+  local port token dir line status=
+  [ -r "$state" ] || return
+  { read -r port; read -r token; read -r dir; } < "$state"
+  [ -n "$port" ] && [ "$dir" = "$(pwd -P)" ] || return
+  { exec 3<>"/dev/tcp/127.0.0.1/$port"; } 2>/dev/null || return
+  if ! { printf '%s\0' "$token" run "$dir" "$#" "$@" >&3; } 2>/dev/null; then
+    exec 3<&-
+    return
+  fi
+  while IFS= read -r line <&3 || [ -n "$line" ]; do
+    case "$line" in
+      "$marker"*) status="${line#"$marker"}" ;;
+      *) printf '%s\n' "$line" ;;
+    esac
+  done
+  exec 3<&-
+  case "$status" in
+    refused) ;;
+    "")
+      # the command may have run already, so it isn't run a second time
+      echo "swagger-codegen daemon closed the connection before the command finished" >&2
+      daemon_status=1 ;;
+    *) daemon_status="$status" ;;
+  esac
+}
+
+run_in_daemon "$@"
+if [ -n "$daemon_status" ]; then
+  exit "$daemon_status"
+fi
+
+archive="${executable%.jar}.jsa"
+if [ -f "$archive" ]; then
+  JAVA_OPTS="${JAVA_OPTS} -XX:SharedArchiveFile=$archive"
+fi
+exec java $JAVA_OPTS -jar "$executable" "$@"
@@ -0,0 +1,83 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.models.properties.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts all models, properties and operations of a synthetic spec into their codegen
+ * counterparts, the way {@link io.swagger.codegen.DefaultGenerator} does before rendering.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodegenBenchmark {
+    @Param({"100", "1000"})
+    public int models;
+
+    private Swagger swagger;
+    private DefaultCodegen config;
+
+    @Setup
+    public void setUp() {
+        swagger = new SyntheticSpecGenerator().models(models).operations(models * 2).generate();
+        new InlineModelResolver().flatten(swagger);
+        config = new JavaClientCodegen();
+        config.processOpts();
+        config.preprocessSwagger(swagger);
+    }
+
+    @Benchmark
+    public void fromModel(Blackhole blackhole) {
+        Map<String, Model> definitions = swagger.getDefinitions();
+        for (Map.Entry<String, Model> entry : definitions.entrySet()) {
+            blackhole.consume(config.fromModel(entry.getKey(), entry.getValue(), definitions));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(Blackhole blackhole) {
+        for (Model model : swagger.getDefinitions().values()) {
+            if (model.getProperties() == null) {
+                continue;
+            }
+            for (Map.Entry<String, Property> entry : model.getProperties().entrySet()) {
+                blackhole.consume(config.fromProperty(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(Blackhole blackhole) {
+        for (Map.Entry<String, Path> path : swagger.getPaths().entrySet()) {
+            for (Map.Entry<HttpMethod, Operation> operation : path.getValue().getOperationMap().entrySet()) {
+                blackhole.consume(config.fromOperation(path.getKey(), operation.getKey().name().toLowerCase(),
+                        operation.getValue(), swagger.getDefinitions(), swagger));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Response;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates JSON and XML examples for every response of a synthetic spec, as done for the
+ * documentation of each operation. The referenced models link to each other, so the examples
+ * cover nested and recursive structures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExampleGeneratorBenchmark {
+    private static final List<String> MEDIA_TYPES = Arrays.asList("application/json", "application/xml");
+
+    @Param({"100", "1000"})
+    public int models;
+
+    private Swagger swagger;
+
+    @Setup
+    public void setUp() {
+        swagger = new SyntheticSpecGenerator().models(models).operations(models * 2).generate();
+        new InlineModelResolver().flatten(swagger);
+    }
+
+    @Benchmark
+    public void responses(Blackhole blackhole) {
+        ExampleGenerator generator = new ExampleGenerator(swagger.getDefinitions());
+        for (Path path : swagger.getPaths().values()) {
+            for (Operation operation : path.getOperations()) {
+                for (Response response : operation.getResponses().values()) {
+                    if (response.getSchema() != null) {
+                        blackhole.consume(generator.generate(response.getExamples(), MEDIA_TYPES, response.getSchema()));
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void models(Blackhole blackhole) {
+        ExampleGenerator generator = new ExampleGenerator(swagger.getDefinitions());
+        for (String name : swagger.getDefinitions().keySet()) {
+            blackhole.consume(generator.generate(null, MEDIA_TYPES, name));
+        }
+    }
+}
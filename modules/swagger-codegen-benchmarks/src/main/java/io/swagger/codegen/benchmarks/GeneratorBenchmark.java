@@ -0,0 +1,86 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenConfigLoader;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a complete generation for a synthetic spec. Files are collected in memory, so disk speed
+ * doesn't influence the results.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+    @Param({"java", "python", "typescript-angular"})
+    public String language;
+
+    @Param({"100"})
+    public int models;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private File outputDir;
+    private Swagger swagger;
+    private CodegenConfig config;
+
+    @Setup(Level.Trial)
+    public void createOutputDir() throws IOException {
+        outputDir = Files.createTempDirectory("swagger-codegen-benchmark").toFile();
+    }
+
+    // generation modifies both the spec and the config, so every run needs fresh ones
+    @Setup(Level.Invocation)
+    public void setUp() {
+        swagger = new SyntheticSpecGenerator().models(models).operations(models * 2).generate();
+        config = CodegenConfigLoader.forName(language);
+        config.setOutputDir(outputDir.getAbsolutePath());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutputDir() {
+        // nothing should have been written, but configs may create the folder itself
+        FileUtils.deleteQuietly(outputDir);
+    }
+
+    @Benchmark
+    public Map<String, byte[]> generate() {
+        InMemoryOutputSink sink = new InMemoryOutputSink(outputDir.getAbsolutePath());
+        ClientOptInput input = new ClientOptInput()
+                .opts(new ClientOpts())
+                .swagger(swagger)
+                .config(config)
+                .threads(threads)
+                .outputSink(sink);
+        new DefaultGenerator().opts(input).generate();
+        return sink.getFiles();
+    }
+}
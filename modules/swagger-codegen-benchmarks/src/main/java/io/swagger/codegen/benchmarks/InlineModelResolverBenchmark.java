@@ -0,0 +1,49 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattens the inline schemas of a synthetic spec. Each model carries an inline object property
+ * and every delete operation an inline response, so the number of generated models grows with
+ * the spec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InlineModelResolverBenchmark {
+    @Param({"100", "1000"})
+    public int models;
+
+    private Swagger swagger;
+
+    // flatten() modifies the spec, so every invocation needs a fresh one; a flatten run takes
+    // long enough for the per invocation setup not to distort the measurement
+    @Setup(Level.Invocation)
+    public void setUp() {
+        swagger = new SyntheticSpecGenerator().models(models).operations(models * 2).generate();
+    }
+
+    @Benchmark
+    public Swagger flatten() {
+        new InlineModelResolver().flatten(swagger);
+        return swagger;
+    }
+}
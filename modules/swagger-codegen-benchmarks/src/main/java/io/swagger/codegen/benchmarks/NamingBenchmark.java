@@ -0,0 +1,85 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.codegen.DefaultCodegen;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the naming helpers over identifiers in the styles found in real specs: snake case,
+ * kebab case, camel case, paths, package names and names with special characters. Generators
+ * call these helpers many times for the same names, so repeated lookups are part of the workload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamingBenchmark {
+    private static final String[] STYLES = {
+            "%s_%s_id", "%s-%s-count", "%s%sValue", "/%s/{%sId}/items", "io.swagger.%s.%s",
+            "%s %s name", "$%s.%s", "_%s__%s", "%s[%s]", "HTTP%sURL%s"
+    };
+    private static final String[] WORDS = {
+            "pet", "order", "user", "category", "tag", "status", "address", "payment", "shipping", "Invoice",
+            "lineItem", "XMLHttp", "api", "v2", "customer", "product"
+    };
+
+    private final List<String> names = new ArrayList<String>();
+    private DefaultCodegen config;
+
+    @Setup
+    public void setUp() {
+        for (String style : STYLES) {
+            for (int i = 0; i < WORDS.length; i++) {
+                names.add(String.format(style, WORDS[i], WORDS[(i + 5) % WORDS.length]));
+            }
+        }
+        config = new JavaClientCodegen();
+    }
+
+    @Benchmark
+    public void camelize(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(DefaultCodegen.camelize(name));
+            blackhole.consume(DefaultCodegen.camelize(name, true));
+        }
+    }
+
+    @Benchmark
+    public void underscore(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(DefaultCodegen.underscore(name));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(config.sanitizeName(name));
+        }
+    }
+
+    @Benchmark
+    public void javaNames(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(config.toModelName(name));
+            blackhole.consume(config.toVarName(name));
+            blackhole.consume(config.toApiName(name));
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Info;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.RefModel;
+import io.swagger.models.Response;
+import io.swagger.models.Scheme;
+import io.swagger.models.Swagger;
+import io.swagger.models.Tag;
+import io.swagger.models.auth.ApiKeyAuthDefinition;
+import io.swagger.models.auth.In;
+import io.swagger.models.parameters.BodyParameter;
+import io.swagger.models.parameters.HeaderParameter;
+import io.swagger.models.parameters.PathParameter;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.ArrayProperty;
+import io.swagger.models.properties.BooleanProperty;
+import io.swagger.models.properties.DateTimeProperty;
+import io.swagger.models.properties.DoubleProperty;
+import io.swagger.models.properties.IntegerProperty;
+import io.swagger.models.properties.LongProperty;
+import io.swagger.models.properties.MapProperty;
+import io.swagger.models.properties.ObjectProperty;
+import io.swagger.models.properties.Property;
+import io.swagger.models.properties.RefProperty;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds Swagger 2.0 specs of arbitrary size with the constructs generators spend their time on:
+ * models with primitive, enum, array, map, reference and inline object properties, inheritance
+ * via allOf, and CRUD style operations with path, query, header and body parameters. The output
+ * only depends on the requested sizes, so runs are comparable.
+ *
+ * Run the main method to write a spec to a file, e.g. for use with the command line generator:
+ * {@code java -cp benchmarks.jar io.swagger.codegen.benchmarks.SyntheticSpecGenerator 500 2000 spec.json}
+ */
+public class SyntheticSpecGenerator {
+    private static final String[] HTTP_METHODS = {"get", "post", "get", "put", "delete"};
+    private static final int REFERENCE_GROUP = 5;
+
+    private int models = 10;
+    private int operations = 40;
+    private int propertiesPerModel = 12;
+    private int operationsPerTag = 20;
+
+    public SyntheticSpecGenerator models(int models) {
+        this.models = models;
+        return this;
+    }
+
+    public SyntheticSpecGenerator operations(int operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    public SyntheticSpecGenerator propertiesPerModel(int propertiesPerModel) {
+        this.propertiesPerModel = propertiesPerModel;
+        return this;
+    }
+
+    public SyntheticSpecGenerator operationsPerTag(int operationsPerTag) {
+        this.operationsPerTag = operationsPerTag;
+        return this;
+    }
+
+    public Swagger generate() {
+        Swagger swagger = new Swagger()
+                .info(new Info().title("Synthetic API").version("1.0.0")
+                        .description("Generated with " + models + " models and " + operations + " operations"))
+                .host("api.example.com")
+                .basePath("/v1")
+                .scheme(Scheme.HTTPS)
+                .consumes("application/json")
+                .produces("application/json");
+        swagger.securityDefinition("api_key", new ApiKeyAuthDefinition("X-API-Key", In.HEADER));
+
+        for (int i = 0; i < models; i++) {
+            swagger.addDefinition(modelName(i), model(i));
+        }
+
+        Map<String, Path> paths = new LinkedHashMap<String, Path>();
+        for (int j = 0; j < operations; j++) {
+            String tag = "group" + (j / operationsPerTag);
+            if (j % operationsPerTag == 0) {
+                swagger.tag(new Tag().name(tag).description("Operations of " + tag));
+            }
+            // five operations per resource: list, create, read, update, delete
+            int resource = j / HTTP_METHODS.length;
+            int kind = j % HTTP_METHODS.length;
+            String path = "/resources" + resource + (kind >= 2 ? "/{id}" : "");
+            Path item = paths.get(path);
+            if (item == null) {
+                item = new Path();
+                paths.put(path, item);
+            }
+            item.set(HTTP_METHODS[kind], operation(j, tag, resource, kind));
+        }
+        swagger.setPaths(paths);
+        return swagger;
+    }
+
+    private Model model(int index) {
+        ModelImpl model = new ModelImpl();
+        model.setType("object");
+        model.setDescription("Synthetic model number " + index);
+        for (int p = 0; p < propertiesPerModel; p++) {
+            String name = propertyName(p);
+            model.addProperty(name, property(index, p));
+            if (p % 3 == 0) {
+                model.required(name);
+            }
+        }
+        if (index > 0 && index % 10 == 0) {
+            // every tenth model extends its predecessor, set up the way the parser does it
+            RefModel parent = new RefModel(modelName(index - 1));
+            ComposedModel composed = new ComposedModel()
+                    .parent(parent)
+                    .child(model)
+                    .interfaces(Collections.singletonList(parent));
+            composed.setDescription(model.getDescription());
+            return composed;
+        }
+        return model;
+    }
+
+    private Property property(int model, int index) {
+        switch (index % 10) {
+            case 0:
+                return new LongProperty().description("identifier");
+            case 1:
+                return new StringProperty().minLength(1).maxLength(255).example("value " + model);
+            case 2:
+                StringProperty status = new StringProperty();
+                status._enum(Arrays.asList("available", "pending", "sold", "with-dash", "123numeric"));
+                return status;
+            case 3:
+                return new DateTimeProperty();
+            case 4:
+                return new ArrayProperty(new StringProperty());
+            case 5:
+                return new DoubleProperty().description("amount");
+            case 6:
+                return reference(model, 1) ? new RefProperty(modelName(model + 1)) : new StringProperty();
+            case 7:
+                return reference(model, 2) ? new ArrayProperty(new RefProperty(modelName(model + 2))) : new ArrayProperty(new LongProperty());
+            case 8:
+                return new MapProperty(new IntegerProperty());
+            default:
+                // resolved into a separate model by the inline model resolver
+                Map<String, Property> properties = new LinkedHashMap<String, Property>();
+                properties.put("enabled", new BooleanProperty());
+                properties.put("label", new StringProperty());
+                return new ObjectProperty(properties);
+        }
+    }
+
+    /**
+     * Models reference the following models of their group of five, so reference chains stay
+     * short like in typical specs, while still forming trees of nested objects.
+     */
+    private boolean reference(int model, int distance) {
+        return model % REFERENCE_GROUP + distance < REFERENCE_GROUP && model + distance < models;
+    }
+
+    private Operation operation(int index, String tag, int resource, int kind) {
+        String model = modelName(resource % models);
+        Operation operation = new Operation()
+                .tag(tag)
+                .operationId(HTTP_METHODS[kind] + "Resource" + resource + "Op" + index)
+                .summary("Operation " + index)
+                .description("Synthetic operation " + index + " on " + model);
+        operation.setSecurity(Collections.singletonList(Collections.singletonMap("api_key", Collections.<String>emptyList())));
+        operation.parameter(new HeaderParameter().name("X-Request-ID").type("string"));
+        if (kind >= 2) {
+            operation.parameter(new PathParameter().name("id").type("integer").format("int64"));
+        }
+        switch (kind) {
+            case 0:
+                operation.parameter(new QueryParameter().name("limit").type("integer").format("int32"));
+                operation.parameter(new QueryParameter().name("offset").type("integer").format("int32"));
+                operation.parameter(new QueryParameter().name("sort_by").type("string"));
+                operation.response(200, new Response().description("list").schema(new ArrayProperty(new RefProperty(model))));
+                break;
+            case 1:
+            case 3:
+                operation.parameter(new BodyParameter().name("body").schema(new RefModel(model)));
+                operation.response(200, new Response().description("saved").schema(new RefProperty(model)));
+                operation.response(400, new Response().description("invalid input"));
+                break;
+            case 2:
+                operation.response(200, new Response().description("found").schema(new RefProperty(model)));
+                operation.response(404, new Response().description("not found"));
+                break;
+            default:
+                Map<String, Property> status = new LinkedHashMap<String, Property>();
+                status.put("deleted", new BooleanProperty());
+                operation.response(200, new Response().description("deleted").schema(new ObjectProperty(status)));
+        }
+        return operation;
+    }
+
+    static String modelName(int index) {
+        return "Model" + index;
+    }
+
+    private static String propertyName(int index) {
+        List<String> names = Arrays.asList("id", "display_name", "status", "created-at", "tags", "totalAmount",
+                "owner", "relatedItems", "counters", "settings");
+        String name = names.get(index % names.size());
+        return index < names.size() ? name : name + (index / names.size());
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: SyntheticSpecGenerator <models> <operations> <output file>");
+            System.exit(1);
+        }
+        Swagger swagger = new SyntheticSpecGenerator()
+                .models(Integer.parseInt(args[0]))
+                .operations(Integer.parseInt(args[1]))
+                .generate();
+        Json.pretty().writeValue(new File(args[2]), swagger);
+    }
+}
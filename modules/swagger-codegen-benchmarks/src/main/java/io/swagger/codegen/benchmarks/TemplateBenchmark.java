@@ -0,0 +1,123 @@
+package io.swagger.codegen.benchmarks;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.codegen.CodegenModel;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.codegen.InlineModelResolver;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Model;
+import io.swagger.models.Swagger;
+import org.apache.commons.io.output.NullWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compiles the Java model template and renders it for every model of a synthetic spec, with the
+ * same compiler settings and model bundles the generator uses. The output is discarded, so only
+ * the template engine is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateBenchmark {
+    @Param({"100"})
+    public int models;
+
+    private final DefaultGenerator generator = new DefaultGenerator();
+    private CodegenConfig config;
+    private Mustache.Compiler compiler;
+    private String source;
+    private Template template;
+    private List<Map<String, Object>> bundles;
+
+    @Setup
+    public void setUp() {
+        config = new JavaClientCodegen();
+        config.processOpts();
+        compiler = config.processCompiler(Mustache.compiler())
+                .withLoader(new Mustache.TemplateLoader() {
+                    @Override
+                    public Reader getTemplate(String name) {
+                        return new StringReader(read(name + ".mustache"));
+                    }
+                })
+                .defaultValue("");
+        source = read("model.mustache");
+        template = compiler.compile(source);
+
+        Swagger swagger = new SyntheticSpecGenerator().models(models).generate();
+        new InlineModelResolver().flatten(swagger);
+        config.preprocessSwagger(swagger);
+        bundles = new ArrayList<Map<String, Object>>();
+        for (Map.Entry<String, Model> entry : swagger.getDefinitions().entrySet()) {
+            bundles.add(modelBundle(config.fromModel(entry.getKey(), entry.getValue(), swagger.getDefinitions())));
+        }
+    }
+
+    @Benchmark
+    public Template compile() {
+        return compiler.compile(source);
+    }
+
+    @Benchmark
+    public void execute() {
+        NullWriter out = new NullWriter();
+        for (Map<String, Object> bundle : bundles) {
+            template.execute(bundle, out);
+        }
+    }
+
+    private String read(String templateFile) {
+        return generator.readTemplate(generator.getFullTemplateFile(config, templateFile));
+    }
+
+    // simplified version of DefaultGenerator#processModels for a single model
+    private Map<String, Object> modelBundle(CodegenModel model) {
+        Map<String, Object> modelEntry = new HashMap<String, Object>();
+        modelEntry.put("model", model);
+        modelEntry.put("importPath", config.toModelImport(model.classname));
+
+        List<Map<String, String>> imports = new ArrayList<Map<String, String>>();
+        for (String name : new TreeSet<String>(model.imports)) {
+            String mapping = config.importMapping().get(name);
+            if (mapping == null) {
+                mapping = config.toModelImport(name);
+            }
+            if (mapping != null && !config.defaultIncludes().contains(mapping)) {
+                imports.add(Collections.singletonMap("import", mapping));
+            }
+        }
+
+        Map<String, Object> bundle = new HashMap<String, Object>();
+        bundle.put("package", config.modelPackage());
+        bundle.put("models", Collections.singletonList(modelEntry));
+        bundle.put("imports", imports);
+        config.postProcessModels(bundle);
+        bundle.putAll(config.additionalProperties());
+        return bundle;
+    }
+}
@@ -0,0 +1,44 @@
+package io.swagger.codegen.benchmarks;
+
+import io.swagger.models.ComposedModel;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class SyntheticSpecGeneratorTest {
+
+    @Test(description = "generate a spec of the requested size")
+    public void testSize() {
+        Swagger swagger = new SyntheticSpecGenerator().models(25).operations(60).propertiesPerModel(15).generate();
+
+        assertEquals(swagger.getDefinitions().size(), 25);
+        int operations = 0;
+        for (Path path : swagger.getPaths().values()) {
+            operations += path.getOperations().size();
+        }
+        assertEquals(operations, 60);
+        assertEquals(swagger.getTags().size(), 3);
+        assertEquals(swagger.getDefinitions().get("Model3").getProperties().size(), 15);
+        assertTrue(swagger.getDefinitions().get("Model10") instanceof ComposedModel);
+    }
+
+    @Test(description = "generated specs are deterministic and survive a round trip through the parser")
+    public void testRoundTrip() throws Exception {
+        Swagger swagger = new SyntheticSpecGenerator().models(12).operations(20).generate();
+        String json = Json.pretty(swagger);
+
+        assertEquals(Json.pretty(new SyntheticSpecGenerator().models(12).operations(20).generate()), json);
+
+        Swagger parsed = new SwaggerParser().parse(json);
+        assertNotNull(parsed);
+        assertEquals(parsed.getDefinitions().keySet(), swagger.getDefinitions().keySet());
+        assertEquals(parsed.getPaths().keySet(), swagger.getPaths().keySet());
+        assertEquals(Json.pretty(parsed), json);
+    }
+}
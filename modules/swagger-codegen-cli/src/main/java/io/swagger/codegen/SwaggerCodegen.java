@@ -3,7 +3,9 @@ package io.swagger.codegen;
 import io.airlift.airline.Cli;
 import io.airlift.airline.Help;
 import io.swagger.codegen.cmd.ConfigHelp;
+import io.swagger.codegen.cmd.Daemon;
 import io.swagger.codegen.cmd.Generate;
+import io.swagger.codegen.cmd.GenerateBatch;
 import io.swagger.codegen.cmd.Langs;
 import io.swagger.codegen.cmd.Meta;
 import io.swagger.codegen.cmd.Validate;
@@ -20,6 +22,17 @@ public class SwaggerCodegen {
 
 
     public static void main(String[] args) {
+        if (args.length > 0 && Daemon.NAME.equals(args[0])) {
+            // before the loggers keep the console streams
+            Daemon.redirectConsole();
+        }
+        cli().parse(args).run();
+    }
+
+    /**
+     * @return the parser of the command line
+     */
+    public static Cli<Runnable> cli() {
         String version = Version.readVersionFromResources();
         @SuppressWarnings("unchecked")
         Cli.CliBuilder<Runnable> builder =
@@ -30,8 +43,9 @@ public class SwaggerCodegen {
                                         version))
                         .withDefaultCommand(Langs.class)
                         .withCommands(Generate.class, Meta.class, Langs.class, Help.class,
-                                ConfigHelp.class, Validate.class, Version.class);
+                                ConfigHelp.class, Validate.class, Version.class, GenerateBatch.class,
+                                Daemon.class);
 
-        builder.build().parse(args).run();
+        return builder.build();
     }
 }
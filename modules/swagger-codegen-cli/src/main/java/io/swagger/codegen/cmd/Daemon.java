@@ -0,0 +1,406 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.SwaggerCodegen;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a JVM running so that scripts can run commands without starting a new one each time.
+ *
+ * The daemon listens on the loopback interface and writes its port and a random token to a state file which only
+ * the current user can read. A client connects, sends the token, the action ({@code run} or {@code stop}), its
+ * working directory, the number of arguments and the arguments, each followed by a NUL byte. The daemon runs the
+ * command, sends back what it printed, and ends with a line starting with {@value #EXIT_MARKER} followed by the exit
+ * code, or by {@value #REFUSED} if it didn't run the command. Commands run one at a time, and only for clients in
+ * the directory the daemon was started in, as relative paths are resolved against it.
+ */
+@Command(name = Daemon.NAME, description = "Keeps a JVM running in the current directory for bin/utils/swagger-codegen-cli.sh to run commands in")
+public class Daemon implements Runnable {
+
+    public static final String NAME = "daemon";
+    public static final String STATE_FILE_VARIABLE = "SWAGGER_CODEGEN_DAEMON";
+    public static final String EXIT_MARKER = "swagger-codegen-daemon-exit: ";
+    public static final String REFUSED = "refused";
+
+    private static final int MAX_FIELD_LENGTH = 1024 * 1024;
+    private static final int MAX_ARGUMENTS = 10000;
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+
+    private static ConsoleStream stdout;
+    private static ConsoleStream stderr;
+
+    @Option(name = {"--port"}, title = "port",
+            description = "port to listen on, on the loopback interface (any free port by default)")
+    private Integer port;
+
+    @Option(name = {"--idle-timeout"}, title = "minutes",
+            description = "stops after that many minutes without commands (60 by default, 0 to keep running)")
+    private Integer idleTimeout;
+
+    @Option(name = {"--state-file"}, title = "state file",
+            description = "where to write the port and token of the daemon (" + STATE_FILE_VARIABLE
+                    + " or ~/.swagger-codegen/daemon by default)")
+    private String stateFile;
+
+    @Option(name = {"--stop"}, description = "stops the running daemon")
+    private Boolean stop;
+
+    /**
+     * Send what is printed to the console to the client of the current command. The loggers keep the console
+     * streams they find when they are created, so this is called before anything is logged; for the same reason
+     * this class doesn't have a logger of its own.
+     */
+    public static synchronized void redirectConsole() {
+        if (stdout == null) {
+            stdout = new ConsoleStream(System.out);
+            stderr = new ConsoleStream(System.err);
+            System.setOut(new PrintStream(stdout, true));
+            System.setErr(new PrintStream(stderr, true));
+        }
+    }
+
+    @Override
+    public void run() {
+        File state = getStateFile();
+        if (Boolean.TRUE.equals(stop)) {
+            stop(state);
+            return;
+        }
+        redirectConsole();
+
+        State running = State.read(state);
+        if (running != null && running.isAlive()) {
+            throw new RuntimeException("A daemon is already running on port " + running.port
+                    + ", stop it with `" + NAME + " --stop`");
+        }
+
+        String token = new BigInteger(130, new SecureRandom()).toString(32);
+        try (ServerSocket server = new ServerSocket()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port != null ? port : 0));
+            int minutes = idleTimeout != null ? idleTimeout : 60;
+            server.setSoTimeout((int) TimeUnit.MINUTES.toMillis(Math.max(0, minutes)));
+            String dir = new File(".").getCanonicalPath();
+            new State(server.getLocalPort(), token, dir).write(state);
+            System.out.println("Listening on port " + server.getLocalPort() + " for commands in " + dir);
+            try {
+                serve(server, token, dir);
+            } finally {
+                State current = State.read(state);
+                if (current != null && token.equals(current.token) && !state.delete()) {
+                    System.err.println("Unable to delete " + state);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Daemon failed", e);
+        }
+    }
+
+    private void serve(ServerSocket server, String token, String dir) throws IOException {
+        while (true) {
+            Socket socket;
+            try {
+                socket = server.accept();
+            } catch (SocketTimeoutException e) {
+                System.out.println("Stopping after " + server.getSoTimeout() / 60000 + " idle minutes");
+                return;
+            }
+            try (Socket client = socket) {
+                if (!handle(client, token, dir)) {
+                    System.out.println("Stopped by a client");
+                    return;
+                }
+            } catch (IOException e) {
+                System.err.println("Client failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return whether to keep running
+     */
+    private boolean handle(Socket socket, String token, String dir) throws IOException {
+        socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+        InputStream in = socket.getInputStream();
+        OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+        boolean authorized = MessageDigest.isEqual(readField(in).getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+        String action = readField(in);
+        if (authorized && "stop".equals(action)) {
+            exit(out, "0");
+            return false;
+        }
+        List<String> args = new ArrayList<String>();
+        String clientDir = null;
+        if ("run".equals(action)) {
+            // read the whole request, closing with unread input would reset the connection before the reply
+            clientDir = readField(in);
+            int count;
+            try {
+                count = Integer.parseInt(readField(in));
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid number of arguments");
+            }
+            if (count < 0 || count > MAX_ARGUMENTS) {
+                throw new IOException("Invalid number of arguments");
+            }
+            for (int i = 0; i < count; i++) {
+                args.add(readField(in));
+            }
+        }
+        if (!authorized || !"run".equals(action) || !dir.equals(clientDir)) {
+            exit(out, REFUSED);
+            return true;
+        }
+        socket.setSoTimeout(0);
+
+        LineEndStream console = new LineEndStream(out);
+        stdout.redirect(console);
+        stderr.redirect(console);
+        int status;
+        try {
+            status = execute(args.toArray(new String[args.size()]));
+        } finally {
+            System.out.flush();
+            System.err.flush();
+            stdout.redirect(null);
+            stderr.redirect(null);
+        }
+        if (!console.atLineStart()) {
+            out.write('\n');
+        }
+        exit(out, String.valueOf(status));
+        return true;
+    }
+
+    /**
+     * Run a command as if it was given to {@link SwaggerCodegen#main(String[])}.
+     *
+     * @param args the command line
+     * @return the exit code
+     */
+    static int execute(String[] args) {
+        // generate sets the system properties given with -D
+        Properties properties = (Properties) System.getProperties().clone();
+        try {
+            Runnable command = SwaggerCodegen.cli().parse(args);
+            if (command instanceof Daemon) {
+                System.err.println("The daemon can't run " + NAME);
+                return 1;
+            }
+            command.run();
+            return 0;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return 1;
+        } finally {
+            System.setProperties(properties);
+        }
+    }
+
+    private static void exit(OutputStream out, String status) throws IOException {
+        out.write((EXIT_MARKER + status + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String readField(InputStream in) throws IOException {
+        ByteArrayOutputStream field = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != 0) {
+            if (b < 0) {
+                throw new IOException("Incomplete request");
+            }
+            if (field.size() >= MAX_FIELD_LENGTH) {
+                throw new IOException("Request too large");
+            }
+            field.write(b);
+        }
+        return new String(field.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private void stop(File state) {
+        State running = State.read(state);
+        if (running == null) {
+            System.out.println("No daemon is running");
+            return;
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), running.port)) {
+            OutputStream out = socket.getOutputStream();
+            out.write((running.token + "\0stop\0").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            String reply = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))
+                    .readLine();
+            if (!(EXIT_MARKER + "0").equals(reply)) {
+                throw new RuntimeException("The daemon on port " + running.port + " refused to stop");
+            }
+            System.out.println("Stopped the daemon on port " + running.port);
+        } catch (IOException e) {
+            System.out.println("No daemon is running on port " + running.port);
+            if (!state.delete()) {
+                System.err.println("Unable to delete " + state);
+            }
+        }
+    }
+
+    private File getStateFile() {
+        if (stateFile != null) {
+            return new File(stateFile);
+        }
+        String variable = System.getenv(STATE_FILE_VARIABLE);
+        if (variable != null && !variable.isEmpty()) {
+            return new File(variable);
+        }
+        return new File(System.getProperty("user.home"), ".swagger-codegen" + File.separator + NAME);
+    }
+
+    /**
+     * The port, token and directory of a running daemon: one per line, for shell scripts to read.
+     */
+    static class State {
+        final int port;
+        final String token;
+        final String dir;
+
+        State(int port, String token, String dir) {
+            this.port = port;
+            this.token = token;
+            this.dir = dir;
+        }
+
+        static State read(File file) {
+            if (!file.isFile()) {
+                return null;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file),
+                    StandardCharsets.UTF_8))) {
+                return new State(Integer.parseInt(reader.readLine()), reader.readLine(), reader.readLine());
+            } catch (IOException | NumberFormatException e) {
+                return null;
+            }
+        }
+
+        void write(File file) throws IOException {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("Unable to create " + parent);
+            }
+            if (!file.exists() && !file.createNewFile()) {
+                throw new IOException("Unable to create " + file);
+            }
+            // only the current user may connect
+            file.setReadable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(false, false);
+            file.setWritable(true, true);
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                writer.write(port + "\n" + token + "\n" + dir + "\n");
+            }
+        }
+
+        boolean isAlive() {
+            try (Socket ignored = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * A console stream which writes to the client of the current command, if any.
+     */
+    static class ConsoleStream extends OutputStream {
+        private final OutputStream console;
+        private volatile OutputStream target;
+
+        ConsoleStream(OutputStream console) {
+            this.console = console;
+        }
+
+        void redirect(OutputStream target) {
+            this.target = target;
+        }
+
+        private OutputStream current() {
+            OutputStream current = target;
+            return current != null ? current : console;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            current().write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            current().write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            current().flush();
+        }
+    }
+
+    /**
+     * Remembers whether the output ends with a new line, so that the exit line starts on a line of its own.
+     */
+    static class LineEndStream extends OutputStream {
+        private final OutputStream out;
+        private boolean atLineStart = true;
+
+        LineEndStream(OutputStream out) {
+            this.out = out;
+        }
+
+        boolean atLineStart() {
+            return atLineStart;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            out.write(b);
+            atLineStart = b == '\n';
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                out.write(b, off, len);
+                atLineStart = b[off + len - 1] == '\n';
+            }
+        }
+
+        @Override
+        public synchronized void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -6,12 +6,15 @@ import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.metrics.GenerationMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static io.swagger.codegen.config.CodegenConfiguratorUtils.*;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -172,6 +175,19 @@ public class Generate implements Runnable {
             description = CodegenConstants.REMOVE_OPERATION_ID_PREFIX_DESC)
     private Boolean removeOperationIdPrefix;
 
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of threads used to render templates and write files (1 by default)")
+    private Integer threads;
+
+    @Option(name = {"--incremental"}, title = "incremental",
+            description = "skips rendering files whose spec fragment, template and options didn't change since the previous run"
+                    + " (tracked in .swagger-codegen/MANIFEST)")
+    private Boolean incremental;
+
+    @Option(name = {"--metrics-out"}, title = "metrics report file",
+            description = "writes the time spent in each generation phase and template as JSON to the given file")
+    private String metricsOut;
+
     @Override
     public void run() {
 
@@ -273,6 +289,20 @@ public class Generate implements Runnable {
             configurator.setRemoveOperationIdPrefix(removeOperationIdPrefix);
         }
 
+        if (threads != null) {
+            configurator.setThreads(threads);
+        }
+
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
+        }
+
+        GenerationMetrics metrics = null;
+        if (isNotEmpty(metricsOut)) {
+            metrics = new GenerationMetrics();
+            configurator.setGenerationListener(metrics);
+        }
+
         applySystemPropertiesKvpList(systemProperties, configurator);
         applyInstantiationTypesKvpList(instantiationTypes, configurator);
         applyImportMappingsKvpList(importMappings, configurator);
@@ -283,5 +313,13 @@ public class Generate implements Runnable {
         final ClientOptInput clientOptInput = configurator.toClientOptInput();
 
         new DefaultGenerator().opts(clientOptInput).generate();
+
+        if (metrics != null) {
+            try {
+                metrics.writeReport(new File(metricsOut));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not write generation metrics to " + metricsOut, e);
+            }
+        }
     }
 }
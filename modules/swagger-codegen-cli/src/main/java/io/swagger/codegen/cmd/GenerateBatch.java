@@ -0,0 +1,52 @@
+package io.swagger.codegen.cmd;
+
+import io.airlift.airline.Arguments;
+import io.airlift.airline.Command;
+import io.airlift.airline.Option;
+import io.swagger.codegen.BatchGenerator;
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+@Command(name = "generate-batch", description = "Generate code for several specs and langs in one run")
+public class GenerateBatch implements Runnable {
+
+    public static final Logger LOG = LoggerFactory.getLogger(GenerateBatch.class);
+
+    @Option(name = {"--threads"}, title = "threads",
+            description = "number of jobs generated at the same time (number of processors by default)")
+    private Integer threads;
+
+    @Arguments(title = "batch files", required = true,
+            description = "JSON or YAML files with a list of jobs, each in the format of the configuration file of the generate command (-c)")
+    private List<String> batchFiles;
+
+    @Override
+    public void run() {
+        List<CodegenConfigurator> jobs = new ArrayList<CodegenConfigurator>();
+        for (String batchFile : batchFiles) {
+            jobs.addAll(BatchGenerator.readJobs(new File(batchFile)));
+        }
+
+        int poolSize = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        List<BatchGenerator.Result> results = new BatchGenerator(poolSize).generate(jobs);
+
+        int failures = 0;
+        for (BatchGenerator.Result result : results) {
+            if (result.isSuccessful()) {
+                System.out.println("[OK] " + BatchGenerator.describe(result.getJob())
+                        + " (" + result.getFiles().size() + " files, " + result.getElapsedMillis() + " ms)");
+            } else {
+                failures++;
+                System.out.println("[FAILED] " + BatchGenerator.describe(result.getJob()) + ": " + result.getError().getMessage());
+            }
+        }
+        if (failures > 0) {
+            throw new RuntimeException(failures + " of " + results.size() + " jobs failed");
+        }
+    }
+}
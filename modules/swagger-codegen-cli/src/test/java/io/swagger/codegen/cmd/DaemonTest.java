@@ -0,0 +1,103 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class DaemonTest {
+
+    private static final String SPEC = "../swagger-codegen/src/test/resources/2_0/petstore.yaml";
+
+    private File root;
+    private File stateFile;
+    private Thread daemon;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = new File("target/daemon-test");
+        FileUtils.deleteQuietly(root);
+        stateFile = new File(root, "daemon");
+        final Runnable command = SwaggerCodegen.cli().parse("daemon", "--state-file", stateFile.getPath(),
+                "--idle-timeout", "1");
+        daemon = new Thread(command, "daemon-test");
+        daemon.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (Daemon.State.read(stateFile) == null) {
+            assertTrue(System.nanoTime() < deadline, "daemon didn't start");
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        SwaggerCodegen.cli().parse("daemon", "--stop", "--state-file", stateFile.getPath()).run();
+        daemon.join(TimeUnit.SECONDS.toMillis(30));
+        assertFalse(daemon.isAlive());
+        assertFalse(stateFile.exists());
+        FileUtils.deleteQuietly(root);
+    }
+
+    @Test
+    public void testRunCommands() throws Exception {
+        Daemon.State state = Daemon.State.read(stateFile);
+        assertEquals(state.dir, new File(".").getCanonicalPath());
+
+        String version = send(state.token, "run", state.dir, "version");
+        assertTrue(version.endsWith("\n" + Daemon.EXIT_MARKER + "0\n"), version);
+        assertTrue(version.startsWith(Version.readVersionFromResources()), version);
+
+        File output = new File(root, "java");
+        String generated = send(state.token, "run", state.dir, "generate", "-l", "java", "-i", SPEC,
+                "-o", output.getPath(), "-DhideGenerationTimestamp=true");
+        assertTrue(generated.endsWith(Daemon.EXIT_MARKER + "0\n"), generated);
+        assertTrue(new File(output, "src/main/java/io/swagger/client/model/Pet.java").isFile());
+        assertNull(System.getProperty("hideGenerationTimestamp"));
+
+        String failed = send(state.token, "run", state.dir, "generate", "-l", "no-such-language", "-i", SPEC);
+        assertTrue(failed.contains("Can't load config class with name no-such-language"), failed);
+        assertTrue(failed.endsWith("\n" + Daemon.EXIT_MARKER + "1\n"), failed);
+    }
+
+    @Test
+    public void testRefuseOtherClients() throws Exception {
+        Daemon.State state = Daemon.State.read(stateFile);
+
+        assertEquals(send("wrong token", "run", state.dir, "version"), Daemon.EXIT_MARKER + Daemon.REFUSED + "\n");
+        assertEquals(send(state.token, "run", "/somewhere/else", "version"),
+                Daemon.EXIT_MARKER + Daemon.REFUSED + "\n");
+        assertEquals(send("wrong token", "stop", null), Daemon.EXIT_MARKER + Daemon.REFUSED + "\n");
+        assertTrue(daemon.isAlive());
+        assertEquals(send(state.token, "run", state.dir, "daemon"), "The daemon can't run daemon\n"
+                + Daemon.EXIT_MARKER + "1\n");
+    }
+
+    private String send(String token, String action, String dir, String... args) throws IOException {
+        Daemon.State state = Daemon.State.read(stateFile);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), state.port)) {
+            StringBuilder request = new StringBuilder(token).append('\0').append(action).append('\0');
+            if (dir != null) {
+                request.append(dir).append('\0').append(args.length).append('\0');
+                for (String arg : args) {
+                    request.append(arg).append('\0');
+                }
+            }
+            OutputStream out = socket.getOutputStream();
+            out.write(request.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            return IOUtils.toString(socket.getInputStream(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.swagger.codegen.cmd;
+
+import io.swagger.codegen.SwaggerCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertTrue;
+
+public class GenerateBatchTest {
+
+    private static final String SPEC = "../swagger-codegen/src/test/resources/2_0/petstore.yaml";
+
+    @Test
+    public void testGenerateBatch() throws Exception {
+        File root = new File("target/generate-batch-test");
+        FileUtils.deleteQuietly(root);
+        File batchFile = new File(root, "batch.json");
+        FileUtils.writeStringToFile(batchFile, "["
+                + "{\"lang\": \"java\", \"inputSpec\": \"" + SPEC + "\", \"outputDir\": \"" + root.getPath() + "/java\"},"
+                + "{\"lang\": \"python\", \"inputSpec\": \"" + SPEC + "\", \"outputDir\": \"" + root.getPath() + "/python\"}"
+                + "]", StandardCharsets.UTF_8);
+
+        SwaggerCodegen.main(new String[]{"generate-batch", "--threads", "2", batchFile.getPath()});
+
+        assertTrue(new File(root, "java/src/main/java/io/swagger/client/model/Pet.java").isFile());
+        assertTrue(new File(root, "python/swagger_client/models/pet.py").isFile());
+    }
+
+    @Test(expectedExceptions = RuntimeException.class, expectedExceptionsMessageRegExp = "1 of 2 jobs failed")
+    public void testGenerateBatchFailure() throws Exception {
+        File root = new File("target/generate-batch-failure-test");
+        FileUtils.deleteQuietly(root);
+        File batchFile = new File(root, "batch.yaml");
+        FileUtils.writeStringToFile(batchFile,
+                "- lang: java\n  inputSpec: " + SPEC + "\n  outputDir: " + root.getPath() + "/java\n"
+                        + "- lang: no-such-language\n  inputSpec: " + SPEC + "\n  outputDir: " + root.getPath() + "/other\n",
+                StandardCharsets.UTF_8);
+
+        SwaggerCodegen.main(new String[]{"generate-batch", batchFile.getPath()});
+    }
+}
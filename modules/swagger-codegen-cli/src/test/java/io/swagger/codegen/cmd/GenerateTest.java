@@ -4,6 +4,7 @@ import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.SwaggerCodegen;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.metrics.GenerationMetrics;
 import mockit.Expectations;
 import mockit.FullVerifications;
 import mockit.Injectable;
@@ -12,6 +13,10 @@ import mockit.Verifications;
 import org.apache.commons.lang3.ArrayUtils;
 import org.testng.annotations.Test;
 
+import java.io.File;
+
+import static org.testng.Assert.assertTrue;
+
 @SuppressWarnings("unused")
 public class GenerateTest {
 
@@ -487,6 +492,45 @@ public class GenerateTest {
         };
     }
 
+    @Test
+    public void testThreads() throws Exception {
+        setupAndRunGenericTest("--threads", "4");
+
+        new FullVerifications() {
+            {
+                configurator.setThreads(4);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testIncremental() throws Exception {
+        setupAndRunGenericTest("--incremental");
+
+        new FullVerifications() {
+            {
+                configurator.setIncremental(true);
+                times = 1;
+            }
+        };
+    }
+
+    @Test
+    public void testMetricsOut() throws Exception {
+        File report = new File("target/generate-test/metrics.json");
+        report.delete();
+        setupAndRunGenericTest("--metrics-out", report.getPath());
+
+        new FullVerifications() {
+            {
+                configurator.setGenerationListener(withInstanceOf(GenerationMetrics.class));
+                times = 1;
+            }
+        };
+        assertTrue(report.isFile());
+    }
+
     private void setupAndRunTest(String specFlag, final String spec, String langFlag,
             final String lang, String outputDirFlag, final String outputDir,
             boolean configuratorFromFile, final String configFile, String... additionalParameters) {
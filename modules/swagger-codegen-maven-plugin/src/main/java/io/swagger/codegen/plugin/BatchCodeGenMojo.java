@@ -0,0 +1,143 @@
+package io.swagger.codegen.plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+import io.swagger.codegen.BatchGenerator;
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.config.CodegenConfigurator;
+
+/**
+ * Goal which runs several generations, e.g. one spec for several languages, concurrently in the
+ * build JVM.
+ */
+@Mojo(name = "generate-batch", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class BatchCodeGenMojo extends AbstractMojo {
+
+    /**
+     * Entry of a generation in the batch file which adds its source folder to the project as a source root.
+     */
+    static final String ADD_COMPILE_SOURCE_ROOT = "addCompileSourceRoot";
+
+    /**
+     * The generations to run.
+     */
+    @Parameter(name = "jobs")
+    private List<Job> jobs;
+
+    /**
+     * JSON or YAML file with more generations to run, each in the format of the configurationFile
+     * of the generate goal.
+     */
+    @Parameter(name = "batchFile", property = "codegen.batchFile", required = false)
+    private File batchFile;
+
+    /**
+     * Number of generations run at the same time, the number of processors by default.
+     */
+    @Parameter(name = "threads", property = "codegen.batch.threads", required = false)
+    private Integer threads;
+
+    /**
+     * Skip the execution.
+     */
+    @Parameter(name = "skip", property = "codegen.skip", required = false, defaultValue = "false")
+    private Boolean skip;
+
+    /**
+     * The project being built.
+     */
+    @Parameter(readonly = true, required = true, defaultValue = "${project}")
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        // the outputs are needed for the compile source roots, also when the generation is skipped
+        if (jobs != null) {
+            for (Job job : jobs) {
+                if (job.getOutput() == null) {
+                    job.setOutput(new File(project.getBuild().getDirectory(), "generated-sources/swagger/" + job.getLanguage()));
+                }
+            }
+        }
+        List<CodegenConfigurator> batchFileJobs = readBatchFile();
+
+        if (!skip) {
+            generate(batchFileJobs);
+        } else {
+            getLog().info("Code generation is skipped.");
+        }
+
+        // Even when no new sources are generated, the existing ones should still be compiled
+        if (jobs != null) {
+            for (Job job : jobs) {
+                if (job.isAddCompileSourceRoot()) {
+                    project.addCompileSourceRoot(job.getOutput().toString() + "/" + job.getSourceFolder());
+                }
+            }
+        }
+        for (CodegenConfigurator configurator : batchFileJobs) {
+            Map<String, Object> properties = configurator.getDynamicProperties();
+            if (Boolean.parseBoolean(String.valueOf(properties.get(ADD_COMPILE_SOURCE_ROOT)))) {
+                Object sourceFolder = properties.containsKey(CodegenConstants.SOURCE_FOLDER)
+                        ? properties.get(CodegenConstants.SOURCE_FOLDER)
+                        : configurator.getAdditionalProperties().get(CodegenConstants.SOURCE_FOLDER);
+                project.addCompileSourceRoot(configurator.getOutputDir() + "/"
+                        + (sourceFolder == null ? "src/main/java" : sourceFolder.toString()));
+            }
+        }
+    }
+
+    private List<CodegenConfigurator> readBatchFile() throws MojoExecutionException {
+        if (batchFile == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return BatchGenerator.readJobs(batchFile);
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException(e.getMessage(), e);
+        }
+    }
+
+    private void generate(List<CodegenConfigurator> batchFileJobs) throws MojoExecutionException {
+        List<CodegenConfigurator> configurators = new ArrayList<CodegenConfigurator>();
+        if (jobs != null) {
+            for (Job job : jobs) {
+                configurators.add(job.toConfigurator());
+            }
+        }
+        configurators.addAll(batchFileJobs);
+        if (configurators.isEmpty()) {
+            getLog().warn("No generation configured, set jobs or batchFile.");
+            return;
+        }
+
+        int poolSize = threads != null ? threads : Runtime.getRuntime().availableProcessors();
+        List<BatchGenerator.Result> results = new BatchGenerator(poolSize).generate(configurators);
+
+        int failures = 0;
+        for (BatchGenerator.Result result : results) {
+            if (result.isSuccessful()) {
+                getLog().info("Generated " + BatchGenerator.describe(result.getJob())
+                        + " (" + result.getFiles().size() + " files, " + result.getElapsedMillis() + " ms)");
+            } else {
+                failures++;
+                getLog().error("Could not generate " + BatchGenerator.describe(result.getJob()), result.getError());
+            }
+        }
+        if (failures > 0) {
+            throw new MojoExecutionException(failures + " of " + results.size()
+                    + " generations failed. See above for the full exceptions.");
+        }
+    }
+}
@@ -26,9 +26,11 @@ import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyInstantiat
 import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyLanguageSpecificPrimitivesCsvList;
 import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyTypeMappingsKvpList;
 import static io.swagger.codegen.config.CodegenConfiguratorUtils.applyReservedWordsMappingsKvpList;
+import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +48,7 @@ import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.codegen.metrics.GenerationMetrics;
 
 /**
  * Goal which generates client/server code from a swagger json/yaml definition.
@@ -283,6 +286,24 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "withXml", required = false)
     private Boolean withXml = false;
 
+    /**
+     * Number of threads used to render templates and write files.
+     */
+    @Parameter(name = "threads", property = "codegen.threads", required = false)
+    private Integer threads;
+
+    /**
+     * Skip rendering files whose inputs didn't change since the previous run.
+     */
+    @Parameter(name = "incremental", property = "codegen.incremental", required = false)
+    private Boolean incremental;
+
+    /**
+     * File to write the time spent in each generation phase and template to, as JSON.
+     */
+    @Parameter(name = "metricsOutputFile", property = "codegen.metricsOutputFile", required = false)
+    private File metricsOutputFile;
+
     /**
      * Skip the execution.
      */
@@ -406,30 +427,23 @@ public class CodeGenMojo extends AbstractMojo {
             configurator.setTemplateDir(templateDirectory.getAbsolutePath());
         }
 
-        // Set generation options
-        if (null != generateApis && generateApis) {
-            System.setProperty(CodegenConstants.APIS, "");
-        } else {
-            System.clearProperty(CodegenConstants.APIS);
+        if (threads != null) {
+            configurator.setThreads(threads);
         }
 
-        if (null != generateModels && generateModels) {
-            System.setProperty(CodegenConstants.MODELS, modelsToGenerate);
-        } else {
-            System.clearProperty(CodegenConstants.MODELS);
+        if (incremental != null) {
+            configurator.setIncremental(incremental);
         }
 
-        if (null != generateSupportingFiles && generateSupportingFiles) {
-            System.setProperty(CodegenConstants.SUPPORTING_FILES, supportingFilesToGenerate);
-        } else {
-            System.clearProperty(CodegenConstants.SUPPORTING_FILES);
+        GenerationMetrics metrics = null;
+        if (metricsOutputFile != null) {
+            metrics = new GenerationMetrics();
+            configurator.setGenerationListener(metrics);
         }
 
-        System.setProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
-        System.setProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
-        System.setProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
-        System.setProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
-        System.setProperty(CodegenConstants.WITH_XML, withXml.toString());
+        if (withXml) {
+            configurator.addDynamicProperty(CodegenConstants.WITH_XML, withXml.toString());
+        }
 
         if (configOptions != null) {
             // Retained for backwards-compataibility with configOptions -> instantiation-types
@@ -501,13 +515,16 @@ public class CodeGenMojo extends AbstractMojo {
         if (environmentVariables != null) {
 
             for (String key : environmentVariables.keySet()) {
-                originalEnvironmentVariables.put(key, System.getProperty(key));
                 String value = environmentVariables.get(key);
                 if (value == null) {
                     // don't put null values
                     value = "";
                 }
-                System.setProperty(key, value);
+                // generator switches are passed to this generation only
+                if (!DefaultGenerator.GENERATOR_PROPERTIES.contains(key)) {
+                    originalEnvironmentVariables.put(key, System.getProperty(key));
+                    System.setProperty(key, value);
+                }
                 configurator.addSystemProperty(key, value);
             }
         }
@@ -515,6 +532,15 @@ public class CodeGenMojo extends AbstractMojo {
         final ClientOptInput input = configurator.toClientOptInput();
         final CodegenConfig config = input.getConfig();
 
+        // Set generation options. A switch that is off is set to null, so that a system property
+        // left over from another execution isn't picked up instead
+        setGeneratorSwitches(input);
+
+        input.generatorProperty(CodegenConstants.MODEL_TESTS, generateModelTests.toString());
+        input.generatorProperty(CodegenConstants.MODEL_DOCS, generateModelDocumentation.toString());
+        input.generatorProperty(CodegenConstants.API_TESTS, generateApiTests.toString());
+        input.generatorProperty(CodegenConstants.API_DOCS, generateApiDocumentation.toString());
+
         if (configOptions != null) {
             for (CliOption langCliOption : config.cliOptions()) {
                 if (configOptions.containsKey(langCliOption.getOpt())) {
@@ -544,9 +570,25 @@ public class CodeGenMojo extends AbstractMojo {
                     "Code generation failed. See above for the full exception.");
         }
 
+        if (metrics != null) {
+            try {
+                metrics.writeReport(metricsOutputFile);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Could not write generation metrics to " + metricsOutputFile, e);
+            }
+        }
+
         addCompileSourceRootIfConfigured();
     }
 
+    void setGeneratorSwitches(ClientOptInput input) {
+        input.generatorProperty(CodegenConstants.APIS, Boolean.TRUE.equals(generateApis) ? "" : null);
+        input.generatorProperty(CodegenConstants.MODELS, Boolean.TRUE.equals(generateModels)
+                ? defaultString(modelsToGenerate) : null);
+        input.generatorProperty(CodegenConstants.SUPPORTING_FILES, Boolean.TRUE.equals(generateSupportingFiles)
+                ? defaultString(supportingFilesToGenerate) : null);
+    }
+
     private void addCompileSourceRootIfConfigured() {
         if (addCompileSourceRoot) {
             final Object sourceFolderObject =
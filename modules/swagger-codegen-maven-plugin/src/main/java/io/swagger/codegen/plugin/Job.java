@@ -0,0 +1,175 @@
+package io.swagger.codegen.plugin;
+
+import java.io.File;
+import java.util.Map;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.config.CodegenConfigurator;
+
+/**
+ * One generation of the generate-batch goal.
+ */
+public class Job {
+
+    /**
+     * Location of the swagger spec, as URL or file.
+     */
+    private String inputSpec;
+
+    /**
+     * Client language to generate.
+     */
+    private String language;
+
+    /**
+     * Location of the output directory.
+     */
+    private File output;
+
+    /**
+     * Library template (sub-template).
+     */
+    private String library;
+
+    /**
+     * Folder containing the template files.
+     */
+    private File templateDirectory;
+
+    /**
+     * The package to use for generated api objects/classes
+     */
+    private String apiPackage;
+
+    /**
+     * The package to use for generated model objects/classes
+     */
+    private String modelPackage;
+
+    /**
+     * The package to use for the generated invoker objects
+     */
+    private String invokerPackage;
+
+    /**
+     * A map of language-specific parameters as passed with the -c option to the command line
+     */
+    private Map<String, String> configOptions;
+
+    /**
+     * Add the source folder of the output directory to the project as a source root.
+     */
+    private boolean addCompileSourceRoot;
+
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
+    public void setInputSpec(String inputSpec) {
+        this.inputSpec = inputSpec;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public File getOutput() {
+        return output;
+    }
+
+    public void setOutput(File output) {
+        this.output = output;
+    }
+
+    public String getLibrary() {
+        return library;
+    }
+
+    public void setLibrary(String library) {
+        this.library = library;
+    }
+
+    public File getTemplateDirectory() {
+        return templateDirectory;
+    }
+
+    public void setTemplateDirectory(File templateDirectory) {
+        this.templateDirectory = templateDirectory;
+    }
+
+    public String getApiPackage() {
+        return apiPackage;
+    }
+
+    public void setApiPackage(String apiPackage) {
+        this.apiPackage = apiPackage;
+    }
+
+    public String getModelPackage() {
+        return modelPackage;
+    }
+
+    public void setModelPackage(String modelPackage) {
+        this.modelPackage = modelPackage;
+    }
+
+    public String getInvokerPackage() {
+        return invokerPackage;
+    }
+
+    public void setInvokerPackage(String invokerPackage) {
+        this.invokerPackage = invokerPackage;
+    }
+
+    public Map<String, String> getConfigOptions() {
+        return configOptions;
+    }
+
+    public void setConfigOptions(Map<String, String> configOptions) {
+        this.configOptions = configOptions;
+    }
+
+    public boolean isAddCompileSourceRoot() {
+        return addCompileSourceRoot;
+    }
+
+    public void setAddCompileSourceRoot(boolean addCompileSourceRoot) {
+        this.addCompileSourceRoot = addCompileSourceRoot;
+    }
+
+    /**
+     * @return the folder of the generated sources below the output directory
+     */
+    public String getSourceFolder() {
+        if (configOptions != null && configOptions.get(CodegenConstants.SOURCE_FOLDER) != null) {
+            return configOptions.get(CodegenConstants.SOURCE_FOLDER);
+        }
+        return "src/main/java";
+    }
+
+    CodegenConfigurator toConfigurator() {
+        CodegenConfigurator configurator = new CodegenConfigurator();
+        configurator.setLang(language);
+        configurator.setInputSpec(inputSpec);
+        if (output != null) {
+            configurator.setOutputDir(output.getAbsolutePath());
+        }
+        configurator.setLibrary(library);
+        if (templateDirectory != null) {
+            configurator.setTemplateDir(templateDirectory.getAbsolutePath());
+        }
+        configurator.setApiPackage(apiPackage);
+        configurator.setModelPackage(modelPackage);
+        configurator.setInvokerPackage(invokerPackage);
+        if (configOptions != null) {
+            for (Map.Entry<String, String> option : configOptions.entrySet()) {
+                configurator.addDynamicProperty(option.getKey(), option.getValue());
+            }
+        }
+        return configurator;
+    }
+}
@@ -0,0 +1,61 @@
+package io.swagger.codegen.plugin;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.project.MavenProject;
+import org.testng.annotations.Test;
+
+public class BatchCodeGenMojoTest {
+
+    @Test
+    public void testCompileSourceRootsWhenSkipped() throws Exception {
+        File target = Files.createTempDirectory("batch").toFile();
+        try {
+            File batchFile = new File(target, "batch.yaml");
+            FileUtils.writeStringToFile(batchFile, "- lang: java\n"
+                    + "  inputSpec: examples/swagger.yaml\n"
+                    + "  outputDir: " + new File(target, "client").getAbsolutePath() + "\n"
+                    + "  sourceFolder: src/gen/java\n"
+                    + "  addCompileSourceRoot: true\n"
+                    + "- lang: php\n"
+                    + "  inputSpec: examples/swagger.yaml\n"
+                    + "  outputDir: " + new File(target, "php").getAbsolutePath() + "\n", StandardCharsets.UTF_8);
+
+            Job job = new Job();
+            job.setLanguage("java");
+            job.setAddCompileSourceRoot(true);
+
+            MavenProject project = new MavenProject();
+            project.getBuild().setDirectory(target.getAbsolutePath());
+
+            BatchCodeGenMojo mojo = new BatchCodeGenMojo();
+            set(mojo, "jobs", Arrays.asList(job));
+            set(mojo, "batchFile", batchFile);
+            set(mojo, "skip", true);
+            set(mojo, "project", project);
+
+            mojo.execute();
+
+            assertEquals(project.getCompileSourceRoots(), Arrays.asList(
+                    new File(target, "generated-sources/swagger/java").toString() + "/src/main/java",
+                    new File(target, "client").getAbsolutePath() + "/src/gen/java"));
+            assertFalse(new File(target, "client").exists());
+        } finally {
+            FileUtils.deleteDirectory(target);
+        }
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,77 @@
+package io.swagger.codegen.plugin;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.project.MavenProject;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.CodegenConstants;
+
+public class CodeGenMojoTest {
+
+    @AfterMethod
+    public void clearSystemProperties() {
+        System.clearProperty(CodegenConstants.MODELS);
+        System.clearProperty(CodegenConstants.SUPPORTING_FILES);
+    }
+
+    @Test
+    public void testSwitchesAlwaysSet() throws Exception {
+        CodeGenMojo mojo = new CodeGenMojo();
+        set(mojo, "generateModels", false);
+        set(mojo, "supportingFilesToGenerate", null);
+
+        ClientOptInput input = new ClientOptInput();
+        mojo.setGeneratorSwitches(input);
+
+        assertEquals(input.getGeneratorProperties().get(CodegenConstants.APIS), "");
+        assertTrue(input.getGeneratorProperties().containsKey(CodegenConstants.MODELS));
+        assertNull(input.getGeneratorProperties().get(CodegenConstants.MODELS));
+        assertEquals(input.getGeneratorProperties().get(CodegenConstants.SUPPORTING_FILES), "");
+    }
+
+    @Test
+    public void testStaleSystemPropertiesIgnored() throws Exception {
+        // left over from another execution in the same JVM
+        System.setProperty(CodegenConstants.MODELS, "");
+        System.setProperty(CodegenConstants.SUPPORTING_FILES, "");
+
+        File output = Files.createTempDirectory("codegen").toFile();
+        try {
+            CodeGenMojo mojo = new CodeGenMojo();
+            set(mojo, "inputSpec", new File("examples/swagger.yaml").getAbsolutePath());
+            set(mojo, "language", "java");
+            set(mojo, "output", output);
+            set(mojo, "skip", false);
+            set(mojo, "generateModels", false);
+            set(mojo, "generateSupportingFiles", false);
+            set(mojo, "generateApiTests", false);
+            set(mojo, "generateApiDocumentation", false);
+            set(mojo, "project", new MavenProject());
+
+            mojo.execute();
+
+            assertTrue(new File(output, "src/main/java/io/swagger/client/api").isDirectory());
+            assertFalse(new File(output, "src/main/java/io/swagger/client/model").exists());
+            assertFalse(new File(output, "pom.xml").exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
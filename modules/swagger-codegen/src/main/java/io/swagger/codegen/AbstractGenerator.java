@@ -1,40 +1,211 @@
 package io.swagger.codegen;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Scanner;
 import java.util.regex.Pattern;
 
-import org.apache.commons.lang3.StringUtils;
+import com.samskivert.mustache.MustacheException;
+import com.samskivert.mustache.Template;
+import io.swagger.codegen.metrics.GenerationListener;
+import io.swagger.codegen.metrics.Stopwatch;
+import io.swagger.codegen.output.FileSystemOutputSink;
+import io.swagger.codegen.output.OutputSink;
+import io.swagger.codegen.utils.HexUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public abstract class AbstractGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractGenerator.class);
 
-    @SuppressWarnings("static-method")
+    private OutputSink outputSink = new FileSystemOutputSink();
+    private GenerationListener generationListener;
+    private TemplateIndex templateIndex;
+
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    /**
+     * Set the destination of the generated files, the file system by default.
+     *
+     * @param outputSink the output sink
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+
+    /**
+     * Report the time spent rendering and writing each file to the given listener.
+     *
+     * @param generationListener the listener, or null to disable measuring
+     */
+    public void setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+    }
+
     public File writeToFile(String filename, String contents) throws IOException {
-        LOGGER.info("writing file " + filename);
-        File output = new File(filename);
+        return writeToFile(filename, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write the given bytes to a file of the output sink. On the file system, parent folders are
+     * created as needed and a file whose current content is already identical is left untouched,
+     * so its modification time is preserved and downstream incremental builds don't see a change.
+     *
+     * @param filename the file to write
+     * @param contents the file contents
+     * @return File the written file
+     * @throws IOException if the file can't be written
+     */
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        write(filename, new ByteArrayInputStream(contents));
+        return new File(filename);
+    }
+
+    /**
+     * Copy a stream to a file, see {@link #writeToFile(String, byte[])}.
+     *
+     * @param filename the file to write
+     * @param in the file contents, not closed by this method
+     * @return File the written file
+     * @throws IOException if the file can't be written
+     */
+    public File writeToFile(String filename, InputStream in) throws IOException {
+        write(filename, in);
+        return new File(filename);
+    }
+
+    /**
+     * Render a template straight into a file as UTF-8, without building the whole output in
+     * memory first, see {@link #writeToFile(String, byte[])}.
+     *
+     * @param filename the file to write
+     * @param template the compiled template
+     * @param context the template data
+     * @return File the written file
+     * @throws IOException if the file can't be written
+     */
+    public File writeToFile(String filename, Template template, Object context) throws IOException {
+        write(filename, template, context);
+        return new File(filename);
+    }
+
+    /**
+     * Render a template as UTF-8 into the given stream. The stream is flushed but not closed.
+     *
+     * @param template the compiled template
+     * @param context the template data
+     * @param out the target stream
+     * @throws IOException if writing to the stream fails
+     */
+    public static void writeTemplate(Template template, Object context, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            template.execute(context, writer);
+        } catch (MustacheException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        writer.flush();
+    }
 
-        if (output.getParent() != null && !new File(output.getParent()).exists()) {
-            File parent = new File(output.getParent());
-            parent.mkdirs();
+    /**
+     * Same as {@link #writeToFile(String, InputStream)}.
+     *
+     * @return String hex encoded SHA-1 digest of the written content
+     */
+    protected String write(String filename, InputStream in) throws IOException {
+        GenerationListener listener = generationListener;
+        Stopwatch io = listener != null ? Stopwatch.started() : null;
+        OutputStream sinkStream = outputSink.open(filename);
+        CountingOutputStream counter = new CountingOutputStream(sinkStream);
+        DigestOutputStream out = new DigestOutputStream(counter, newDigest());
+        try {
+            IOUtils.copy(in, out);
+        } catch (IOException | RuntimeException e) {
+            outputSink.abort(sinkStream);
+            throw e;
+        }
+        out.close();
+        if (listener != null) {
+            listener.fileWritten(filename, io.stop().getElapsedNanos(), counter.getByteCount());
         }
-        Writer out = new BufferedWriter(new OutputStreamWriter(
-                new FileOutputStream(output), "UTF-8"));
+        return HexUtils.toHex(out.getMessageDigest().digest());
+    }
 
-        out.write(contents);
+    /**
+     * Same as {@link #writeToFile(String, Template, Object)}.
+     *
+     * @return String hex encoded SHA-1 digest of the written content
+     */
+    protected String write(String filename, Template template, Object context) throws IOException {
+        return write(filename, null, template, context);
+    }
+
+    /**
+     * Same as {@link #writeToFile(String, Template, Object)}, reporting the rendering time of the
+     * given template file to the generation listener.
+     *
+     * @return String hex encoded SHA-1 digest of the written content
+     */
+    protected String write(String filename, String templateFile, Template template, Object context) throws IOException {
+        GenerationListener listener = generationListener;
+        Stopwatch io = listener != null ? Stopwatch.started() : null;
+        Stopwatch rendering = listener != null ? new Stopwatch() : null;
+        OutputStream sinkStream = outputSink.open(filename);
+        CountingOutputStream counter = new CountingOutputStream(sinkStream);
+        DigestOutputStream out = new DigestOutputStream(counter, newDigest());
+        try {
+            if (listener != null) {
+                io.stop();
+                rendering.start();
+            }
+            writeTemplate(template, context, out);
+        } catch (IOException | RuntimeException e) {
+            outputSink.abort(sinkStream);
+            throw e;
+        }
+        if (listener != null) {
+            rendering.stop();
+            io.start();
+        }
         out.close();
-        return output;
+        if (listener != null) {
+            io.stop();
+            listener.templateRendered(templateFile, filename, rendering.getElapsedNanos(), rendering.getAllocatedBytes());
+            listener.fileWritten(filename, io.getElapsedNanos(), counter.getByteCount());
+        }
+        return HexUtils.toHex(out.getMessageDigest().digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String readTemplate(String name) {
@@ -64,14 +235,13 @@ public abstract class AbstractGenerator {
         throw new RuntimeException("can't load template " + name);
     }
 
-    private String buildLibraryFilePath(String dir, String library, String file) {
-        return dir + File.separator + "libraries" + File.separator + library + File.separator + file;
-    }
-
     /**
      * Get the template file path with template dir prepended, and use the
      * library template if exists.
      *
+     * Lookups are answered from a {@link TemplateIndex} built for the template folders of the
+     * given config; see {@link #invalidateTemplateIndex()}.
+     *
      * @param config Codegen config
      * @param templateFile Template file
      * @return String Full template file path
@@ -81,34 +251,22 @@ public abstract class AbstractGenerator {
         //2nd it will check for the file in the specified <template folder> folder
         //3rd it will check if there's an <embedded template>/libraries/<library> folder containing the file
         //4th and last it will assume the file is in <embedded template> folder.
+        return getTemplateIndex(config).resolve(templateFile);
+    }
 
-        //check the supplied template library folder for the file
-        final String library = config.getLibrary();
-        if (StringUtils.isNotEmpty(library)) {
-            //look for the file in the library subfolder of the supplied template
-            final String libTemplateFile = buildLibraryFilePath(config.templateDir(), library, templateFile);
-            if (new File(libTemplateFile).exists()) {
-                return libTemplateFile;
-            }
-        }
-
-        //check the supplied template main folder for the file
-        final String template = config.templateDir() + File.separator + templateFile;
-        if (new File(template).exists()) {
-            return template;
-        }
+    /**
+     * Discard the template resolution index, so that template files added or removed since the
+     * last lookup are taken into account.
+     */
+    public synchronized void invalidateTemplateIndex() {
+        templateIndex = null;
+    }
 
-        //try the embedded template library folder next
-        if (StringUtils.isNotEmpty(library)) {
-            final String embeddedLibTemplateFile = buildLibraryFilePath(config.embeddedTemplateDir(), library, templateFile);
-            if (embeddedTemplateExists(embeddedLibTemplateFile)) {
-                // Fall back to the template file embedded/packaged in the JAR file library folder...
-                return embeddedLibTemplateFile;
-            }
+    private synchronized TemplateIndex getTemplateIndex(CodegenConfig config) {
+        if (templateIndex == null || !templateIndex.matches(config)) {
+            templateIndex = new TemplateIndex(config, this.getClass().getClassLoader());
         }
-            
-        // Fall back to the template file embedded/packaged in the JAR file...
-        return config.embeddedTemplateDir() + File.separator + templateFile;
+        return templateIndex;
     }
 
     public String readResourceContents(String resourceFilePath) {
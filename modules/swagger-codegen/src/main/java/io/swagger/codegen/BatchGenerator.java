@@ -0,0 +1,195 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.codegen.config.CodegenConfigurator;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs several generation jobs concurrently in the same JVM.
+ *
+ * Each job is described by its own {@link CodegenConfigurator} and gets its own config instance
+ * and {@link DefaultGenerator}; only the compiled templates are shared between jobs. A failing job
+ * doesn't stop the others, see {@link Result#getError()}.
+ *
+ * The generator switches of a job (models, apis, debugOperations, ... in its systemProperties) and
+ * its verbose flag apply to that job only, other system properties are global to the JVM and
+ * therefore seen by every job running at the same time.
+ */
+public class BatchGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchGenerator.class);
+
+    private final int threads;
+    private TemplateCache templateCache = new TemplateCache();
+
+    /**
+     * @param threads number of jobs to run at the same time
+     */
+    public BatchGenerator(int threads) {
+        this.threads = Math.max(1, threads);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
+    /**
+     * Use the given cache for the compiled templates of all jobs.
+     *
+     * @param templateCache the template cache
+     */
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    /**
+     * Read a list of jobs from a JSON or YAML file (by extension). Each entry has the format of
+     * the configuration file of the generate command.
+     *
+     * @param file the batch file
+     * @return the jobs
+     */
+    public static List<CodegenConfigurator> readJobs(File file) {
+        String name = file.getName().toLowerCase();
+        ObjectMapper mapper = name.endsWith(".yaml") || name.endsWith(".yml") ? Yaml.mapper() : Json.mapper();
+        try {
+            return mapper.readValue(file, new TypeReference<List<CodegenConfigurator>>() {
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read batch file " + file, e);
+        }
+    }
+
+    /**
+     * Run the given jobs and wait for all of them to finish.
+     *
+     * @param jobs the jobs to run
+     * @return the result of each job, in the order of the jobs
+     */
+    public List<Result> generate(List<CodegenConfigurator> jobs) {
+        if (jobs.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, jobs.size()), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "swagger-codegen-batch-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        try {
+            List<Future<Result>> futures = new ArrayList<Future<Result>>();
+            for (final CodegenConfigurator job : jobs) {
+                futures.add(executor.submit(new Callable<Result>() {
+                    @Override
+                    public Result call() {
+                        return run(job);
+                    }
+                }));
+            }
+            List<Result> results = new ArrayList<Result>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Batch generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Batch generation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result run(CodegenConfigurator job) {
+        long start = System.nanoTime();
+        try {
+            ClientOptInput input = job.toClientOptInput();
+            DefaultGenerator generator = new DefaultGenerator();
+            generator.setTemplateCache(templateCache);
+            List<File> files = generator.opts(input).generate();
+            Result result = new Result(job, files, null, System.nanoTime() - start);
+            LOGGER.info("Generated " + describe(job) + " in " + result.getElapsedMillis() + " ms");
+            return result;
+        } catch (Exception e) {
+            LOGGER.error("Could not generate " + describe(job), e);
+            return new Result(job, Collections.<File>emptyList(), e, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param job a job
+     * @return a short description of the job for messages
+     */
+    public static String describe(CodegenConfigurator job) {
+        return job.getLang() + " from " + job.getInputSpec() + " to " + job.getOutputDir();
+    }
+
+    /**
+     * Outcome of one job.
+     */
+    public static class Result {
+        private final CodegenConfigurator job;
+        private final List<File> files;
+        private final Exception error;
+        private final long elapsedNanos;
+
+        Result(CodegenConfigurator job, List<File> files, Exception error, long elapsedNanos) {
+            this.job = job;
+            this.files = files;
+            this.error = error;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public CodegenConfigurator getJob() {
+            return job;
+        }
+
+        /**
+         * @return the generated files, empty if the job failed
+         */
+        public List<File> getFiles() {
+            return files;
+        }
+
+        /**
+         * @return the cause of the failure, or null if the job succeeded
+         */
+        public Exception getError() {
+            return error;
+        }
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+}
@@ -2,16 +2,25 @@ package io.swagger.codegen;
 
 import io.swagger.annotations.ApiModelProperty;
 import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.metrics.GenerationListener;
+import io.swagger.codegen.output.OutputSink;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ClientOptInput {
     private CodegenConfig config;
     private ClientOpts opts;
     private Swagger swagger;
     private List<AuthorizationValue> auths;
+    private int threads = 1;
+    private boolean incremental;
+    private OutputSink outputSink;
+    private GenerationListener generationListener;
+    private Map<String, String> generatorProperties = new HashMap<String, String>();
 
     public ClientOptInput swagger(Swagger swagger) {
         this.setSwagger(swagger);
@@ -28,6 +37,31 @@ public class ClientOptInput {
         return this;
     }
 
+    public ClientOptInput threads(int threads) {
+        this.setThreads(threads);
+        return this;
+    }
+
+    public ClientOptInput incremental(boolean incremental) {
+        this.setIncremental(incremental);
+        return this;
+    }
+
+    public ClientOptInput outputSink(OutputSink outputSink) {
+        this.setOutputSink(outputSink);
+        return this;
+    }
+
+    public ClientOptInput generationListener(GenerationListener generationListener) {
+        this.setGenerationListener(generationListener);
+        return this;
+    }
+
+    public ClientOptInput generatorProperty(String key, String value) {
+        this.generatorProperties.put(key, value);
+        return this;
+    }
+
     @Deprecated
     public ClientOptInput auth(String urlEncodedAuthString) {
         this.setAuth(urlEncodedAuthString);
@@ -65,6 +99,76 @@ public class ClientOptInput {
         this.opts = opts;
     }
 
+    /**
+     * Number of threads used to render templates and write files. Values below 2 keep
+     * generation on the calling thread.
+     *
+     * @return the number of rendering threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Whether to skip rendering files whose inputs didn't change since the previous run,
+     * as recorded in the .swagger-codegen/MANIFEST file of the output folder.
+     *
+     * @return true if incremental generation is enabled
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Destination of the generated files, or null to write them to the output folder on disk.
+     *
+     * @return the output sink
+     */
+    public OutputSink getOutputSink() {
+        return outputSink;
+    }
+
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * Receiver of the phase and per file timings of the generation, or null to disable measuring.
+     *
+     * @return the generation listener
+     */
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+
+    public void setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+    }
+
+    /**
+     * Switches of this generation otherwise read from the system properties of the same name, e.g.
+     * {@link CodegenConstants#MODELS} or debugOperations, see {@link DefaultGenerator#GENERATOR_PROPERTIES}.
+     * A switch missing from this map falls back to the system property; a switch mapped to null is
+     * off, whatever the system property says.
+     *
+     * @return the generator properties
+     */
+    public Map<String, String> getGeneratorProperties() {
+        return generatorProperties;
+    }
+
+    public void setGeneratorProperties(Map<String, String> generatorProperties) {
+        this.generatorProperties = generatorProperties;
+    }
+
     @ApiModelProperty(dataType = "Object")
     public Swagger getSwagger() {
         return swagger;
@@ -1,10 +1,8 @@
 package io.swagger.codegen;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 import org.apache.commons.cli.BasicParser;
 import org.apache.commons.cli.CommandLine;
@@ -121,12 +119,7 @@ public class Codegen extends DefaultGenerator {
     }
 
     public static List<CodegenConfig> getExtensions() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class);
-        List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig aLoader : loader) {
-            output.add(aLoader);
-        }
-        return output;
+        return CodegenConfigLoader.getAll();
     }
 
     static void usage(Options options) {
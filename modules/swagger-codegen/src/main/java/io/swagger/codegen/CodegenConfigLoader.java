@@ -1,34 +1,218 @@
 package io.swagger.codegen;
 
-import java.util.ServiceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import static java.util.ServiceLoader.load;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.WeakHashMap;
 
+/**
+ * Registry of the available {@link CodegenConfig} implementations.
+ *
+ * The configs registered with SPI are discovered once per class loader. Their names are read from
+ * {@value #INDEX} where the jar provides one, so that a lookup only loads the class it needs;
+ * configs which are not in an index are instantiated once to learn their name. Every lookup returns
+ * a new instance: a config holds the options and the state of a single generation run (additional
+ * properties, supporting files, reserved words, ...) and must not be shared between runs or
+ * threads. Use one instance per run, e.g. one per {@link DefaultGenerator}.
+ */
 public class CodegenConfigLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
+    static final String SERVICES = "META-INF/services/" + CodegenConfig.class.getName();
+    static final String INDEX = "META-INF/swagger-codegen/languages.properties";
+
+    // config class names by config name, per class loader
+    private static final Map<ClassLoader, SoftReference<Map<String, String>>> REGISTRIES =
+            new WeakHashMap<ClassLoader, SoftReference<Map<String, String>>>();
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
      *
      * @param name name of config, or full qualified class name in classpath
-     * @return config class
+     * @return a new config instance
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = load(CodegenConfig.class);
-
-        StringBuilder availableConfigs = new StringBuilder();
-
-        for (CodegenConfig config : loader) {
-            if (config.getName().equals(name)) {
+        ClassLoader classLoader = getClassLoader();
+        Map<String, String> registry = getRegistry(classLoader);
+        String className = registry.get(name);
+        if (className != null) {
+            CodegenConfig config = newInstance(loadClass(className, classLoader));
+            if (name.equals(config.getName())) {
                 return config;
             }
-
-            availableConfigs.append(config.getName()).append("\n");
+            LOGGER.warn("outdated " + INDEX + ": " + className + " is named " + config.getName() + ", not " + name);
+            registry = rescan(classLoader);
+            className = registry.get(name);
+            if (className != null) {
+                return newInstance(loadClass(className, classLoader));
+            }
         }
 
         // else try to load directly
         try {
             return (CodegenConfig) Class.forName(name).newInstance();
         } catch (Exception e) {
+            StringBuilder availableConfigs = new StringBuilder();
+            for (String available : registry.keySet()) {
+                availableConfigs.append(available).append("\n");
+            }
             throw new RuntimeException("Can't load config class with name ".concat(name) + " Available: " + availableConfigs.toString(), e);
         }
     }
+
+    /**
+     * @return the names of the configs registered with SPI, in class path order
+     */
+    public static List<String> getNames() {
+        return new ArrayList<String>(getRegistry(getClassLoader()).keySet());
+    }
+
+    /**
+     * @return a new instance of each config registered with SPI, in class path order
+     */
+    public static List<CodegenConfig> getAll() {
+        ClassLoader classLoader = getClassLoader();
+        List<CodegenConfig> configs = new ArrayList<CodegenConfig>();
+        for (String className : getRegistry(classLoader).values()) {
+            configs.add(newInstance(loadClass(className, classLoader)));
+        }
+        return configs;
+    }
+
+    /**
+     * Forget the configs discovered so far, so that the next lookup scans the class path again.
+     */
+    public static void reset() {
+        synchronized (REGISTRIES) {
+            REGISTRIES.clear();
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
+    private static Map<String, String> getRegistry(ClassLoader classLoader) {
+        synchronized (REGISTRIES) {
+            SoftReference<Map<String, String>> ref = REGISTRIES.get(classLoader);
+            Map<String, String> registry = ref != null ? ref.get() : null;
+            if (registry == null) {
+                registry = scan(classLoader, readIndex(classLoader));
+                REGISTRIES.put(classLoader, new SoftReference<Map<String, String>>(registry));
+            }
+            return registry;
+        }
+    }
+
+    private static Map<String, String> rescan(ClassLoader classLoader) {
+        synchronized (REGISTRIES) {
+            Map<String, String> registry = scan(classLoader, new Properties());
+            REGISTRIES.put(classLoader, new SoftReference<Map<String, String>>(registry));
+            return registry;
+        }
+    }
+
+    /**
+     * Read the config classes listed in the SPI files, as {@link java.util.ServiceLoader} does, and
+     * name them from the index.
+     */
+    static Map<String, String> scan(ClassLoader classLoader, Properties index) {
+        Map<String, String> registry = new LinkedHashMap<String, String>();
+        Set<String> classNames = new HashSet<String>();
+        for (URL url : getResources(classLoader, SERVICES)) {
+            for (String className : readServices(url)) {
+                if (!classNames.add(className)) {
+                    continue;
+                }
+                String name = index.getProperty(className);
+                if (name == null) {
+                    name = newInstance(loadClass(className, classLoader)).getName();
+                }
+                if (!registry.containsKey(name)) {
+                    registry.put(name, className);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(registry);
+    }
+
+    private static Properties readIndex(ClassLoader classLoader) {
+        Properties index = new Properties();
+        for (URL url : getResources(classLoader, INDEX)) {
+            Properties properties = new Properties();
+            try (InputStream in = url.openStream()) {
+                properties.load(in);
+            } catch (IOException e) {
+                LOGGER.warn("unable to read " + url + ": " + e.getMessage());
+                continue;
+            }
+            // the first jar on the class path wins, as for the configs
+            for (String className : properties.stringPropertyNames()) {
+                if (!index.containsKey(className)) {
+                    index.setProperty(className, properties.getProperty(className).trim());
+                }
+            }
+        }
+        return index;
+    }
+
+    private static List<String> readServices(URL url) {
+        List<String> classNames = new ArrayList<String>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Can't read " + url, e);
+        }
+        return classNames;
+    }
+
+    private static List<URL> getResources(ClassLoader classLoader, String name) {
+        try {
+            return Collections.list(classLoader.getResources(name));
+        } catch (IOException e) {
+            throw new RuntimeException("Can't list " + name, e);
+        }
+    }
+
+    private static Class<? extends CodegenConfig> loadClass(String className, ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader).asSubclass(CodegenConfig.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new RuntimeException("Can't load config class " + className, e);
+        }
+    }
+
+    private static CodegenConfig newInstance(Class<? extends CodegenConfig> configClass) {
+        try {
+            return configClass.newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Can't instantiate config class " + configClass.getName(), e);
+        }
+    }
 }
@@ -228,4 +228,13 @@ public class CodegenConstants {
 
     public static final String STRIP_PACKAGE_NAME = "stripPackageName";
     public static final String STRIP_PACKAGE_NAME_DESC = "Whether to strip leading dot-separated packages from generated model classes";
+
+    public static final String EXAMPLE_MAX_ARRAY_ITEMS = "exampleMaxArrayItems";
+    public static final String EXAMPLE_MAX_ARRAY_ITEMS_DESC = "Maximum number of items of arrays in generated request and response examples.";
+
+    public static final String EXAMPLE_MAX_DEPTH = "exampleMaxDepth";
+    public static final String EXAMPLE_MAX_DEPTH_DESC = "Maximum number of nested models in generated request and response examples.";
+
+    public static final String EXAMPLE_MAX_LENGTH = "exampleMaxLength";
+    public static final String EXAMPLE_MAX_LENGTH_DESC = "Maximum number of characters of generated request and response examples, longer examples are left out.";
 }
@@ -0,0 +1,196 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.utils.HexUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records, for every generated file, a hash of the inputs it was rendered from (spec fragment,
+ * template and options) and a hash of its rendered content. The manifest is stored next to
+ * the VERSION file in the .swagger-codegen folder of the output directory and lets an incremental
+ * run skip rendering files whose inputs didn't change and which haven't been modified since.
+ *
+ * Each line of the manifest has the form {@code <input hash> <content hash> <relative path>}.
+ */
+public class CodegenManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenManifest.class);
+
+    public static final String MANIFEST_FILE = ".swagger-codegen" + File.separator + "MANIFEST";
+
+    private final File outputDir;
+    private final URI outputUri;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<String, Entry>();
+
+    private CodegenManifest(File outputDir, Map<String, Entry> previous) {
+        this.outputDir = outputDir;
+        // the output folder may not exist yet, in which case toURI() omits the trailing slash
+        String uri = outputDir.getAbsoluteFile().toURI().toString();
+        this.outputUri = URI.create(uri.endsWith("/") ? uri : uri + "/");
+        this.previous = previous;
+    }
+
+    /**
+     * Load the manifest of a previous run from the given output directory. A missing or unreadable
+     * manifest results in an empty one, meaning every file is rendered.
+     *
+     * @param outputDir the output directory
+     * @return the loaded manifest
+     */
+    public static CodegenManifest load(String outputDir) {
+        File dir = new File(outputDir);
+        Map<String, Entry> entries = new TreeMap<String, Entry>();
+        File manifestFile = new File(dir, MANIFEST_FILE);
+        if (manifestFile.isFile()) {
+            try (BufferedReader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split(" ", 3);
+                    if (parts.length == 3) {
+                        entries.put(parts[2], new Entry(parts[0], parts[1]));
+                    }
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Could not read " + manifestFile + ", all files will be regenerated", e);
+                entries.clear();
+            }
+        }
+        return new CodegenManifest(dir, entries);
+    }
+
+    /**
+     * Check whether a file can be kept as is: it was generated from the same inputs by the previous
+     * run and its content hasn't been changed since. A file found to be up to date is recorded
+     * in the new manifest.
+     *
+     * @param filename the output file
+     * @param inputHash hash of the inputs the file would be rendered from
+     * @return true if rendering the file can be skipped
+     */
+    public boolean isUpToDate(String filename, String inputHash) {
+        if (inputHash == null) {
+            return false;
+        }
+        String path = relativePath(filename);
+        Entry entry = previous.get(path);
+        if (entry == null || !entry.inputHash.equals(inputHash)) {
+            return false;
+        }
+        File file = new File(filename);
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            if (!entry.contentHash.equals(hash(file))) {
+                return false;
+            }
+        } catch (IOException e) {
+            return false;
+        }
+        current.put(path, entry);
+        return true;
+    }
+
+    /**
+     * Record a freshly rendered file.
+     *
+     * @param filename the output file
+     * @param inputHash hash of the inputs the file was rendered from
+     * @param contentHash hex encoded SHA-1 digest of the rendered contents
+     */
+    public void record(String filename, String inputHash, String contentHash) {
+        if (inputHash == null) {
+            return;
+        }
+        current.put(relativePath(filename), new Entry(inputHash, contentHash));
+    }
+
+    /**
+     * Write the manifest of the current run, replacing the previous one.
+     *
+     * @return File the manifest file
+     * @throws IOException if the manifest can't be written
+     */
+    public File write() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Entry> e : new TreeMap<String, Entry>(current).entrySet()) {
+            sb.append(e.getValue().inputHash).append(' ')
+                    .append(e.getValue().contentHash).append(' ')
+                    .append(e.getKey()).append('\n');
+        }
+        File manifestFile = new File(outputDir, MANIFEST_FILE);
+        manifestFile.getParentFile().mkdirs();
+        Files.write(manifestFile.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        return manifestFile;
+    }
+
+    private String relativePath(String filename) {
+        return outputUri.relativize(new File(filename).getAbsoluteFile().toURI()).getPath();
+    }
+
+    /**
+     * Hash the given parts into a single hex encoded SHA-1 digest.
+     *
+     * @param parts the values to hash, null values are allowed
+     * @return String hex digest
+     */
+    public static String hash(String... parts) {
+        MessageDigest digest = newDigest();
+        for (String part : parts) {
+            if (part != null) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+            }
+            // separator so that ("ab", "c") and ("a", "bc") differ
+            digest.update((byte) 0);
+        }
+        return HexUtils.toHex(digest.digest());
+    }
+
+    public static String hash(byte[] contents) {
+        return HexUtils.toHex(newDigest().digest(contents));
+    }
+
+    private static String hash(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new FileInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexUtils.toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Entry {
+        private final String inputHash;
+        private final String contentHash;
+
+        Entry(String inputHash, String contentHash) {
+            this.inputHash = inputHash;
+            this.contentHash = contentHash;
+        }
+    }
+}
@@ -7,7 +7,11 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.Objects;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import io.swagger.models.ExternalDocs;
+import io.swagger.models.Model;
+import io.swagger.util.Json;
 
 public class CodegenModel {
     public String parent, parentSchema;
@@ -19,6 +23,10 @@ public class CodegenModel {
     public List<CodegenModel> children;
 
     public String name, classname, title, description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    // model from which modelJson is rendered on first use, see getModelJson()
+    private Model modelJsonSource;
+    // example of modelJsonSource when it was set; ExampleGenerator may add one to the model afterwards
+    private Object modelJsonExample;
     public String classFilename; // store the class file name, mainly used for import
     public String unescapedDescription;
     public String discriminator;
@@ -87,7 +95,7 @@ public class CodegenModel {
             return false;
         if (classVarName != null ? !classVarName.equals(that.classVarName) : that.classVarName != null)
             return false;
-        if (modelJson != null ? !modelJson.equals(that.modelJson) : that.modelJson != null)
+        if (getModelJson() != null ? !getModelJson().equals(that.getModelJson()) : that.getModelJson() != null)
             return false;
         if (dataType != null ? !dataType.equals(that.dataType) : that.dataType != null)
             return false;
@@ -155,7 +163,7 @@ public class CodegenModel {
         result = 31 * result + (title != null ? title.hashCode() : 0);
         result = 31 * result + (description != null ? description.hashCode() : 0);
         result = 31 * result + (classVarName != null ? classVarName.hashCode() : 0);
-        result = 31 * result + (modelJson != null ? modelJson.hashCode() : 0);
+        result = 31 * result + (getModelJson() != null ? getModelJson().hashCode() : 0);
         result = 31 * result + (dataType != null ? dataType.hashCode() : 0);
         result = 31 * result + (xmlPrefix != null ? xmlPrefix.hashCode() : 0);
         result = 31 * result + (xmlNamespace != null ? xmlNamespace.hashCode() : 0);
@@ -184,4 +192,45 @@ public class CodegenModel {
         result = 31 * result + Objects.hash(parentVars);
         return result;
     }
+
+    /**
+     * @return the model as JSON
+     */
+    public synchronized String getModelJson() {
+        if (modelJson == null && modelJsonSource != null) {
+            modelJson = renderModelJson();
+        }
+        return modelJson;
+    }
+
+    private String renderModelJson() {
+        if (modelJsonSource.getExample() == modelJsonExample) {
+            return Json.pretty(modelJsonSource);
+        }
+        // render the model as it was when the source was set
+        ObjectNode node = Json.mapper().valueToTree(modelJsonSource);
+        if (modelJsonExample == null) {
+            node.remove("example");
+        } else {
+            node.set("example", Json.mapper().valueToTree(modelJsonExample));
+        }
+        return Json.pretty(node);
+    }
+
+    public synchronized void setModelJson(String modelJson) {
+        this.modelJson = modelJson;
+        this.modelJsonSource = null;
+        this.modelJsonExample = null;
+    }
+
+    /**
+     * Set the model from which {@link #getModelJson()} renders the JSON when it is first read.
+     *
+     * @param model the swagger model
+     */
+    public synchronized void setModelJsonSource(Model model) {
+        this.modelJson = null;
+        this.modelJsonSource = model;
+        this.modelJsonExample = model != null ? model.getExample() : null;
+    }
 }
@@ -1,5 +1,8 @@
 package io.swagger.codegen;
 
+import io.swagger.models.parameters.Parameter;
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +17,8 @@ public class CodegenParameter {
 
     public String example; // example value (x-example)
     public String jsonSchema;
+    // parameter from which jsonSchema is rendered on first use, see getJsonSchema()
+    private Parameter jsonSchemaSource;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid;
     public boolean isListContainer, isMapContainer;
     public boolean isFile, notFile;
@@ -114,6 +119,7 @@ public class CodegenParameter {
         output.uniqueItems = this.uniqueItems;
         output.multipleOf = this.multipleOf;
         output.jsonSchema = this.jsonSchema;
+        output.jsonSchemaSource = this.jsonSchemaSource;
         output.defaultValue = this.defaultValue;
         output.example = this.example;
         output.isEnum = this.isEnum;
@@ -208,7 +214,7 @@ public class CodegenParameter {
             return false;
         if (example != null ? !example.equals(that.example) : that.example != null)
             return false;
-        if (jsonSchema != null ? !jsonSchema.equals(that.jsonSchema) : that.jsonSchema != null)
+        if (getJsonSchema() != null ? !getJsonSchema().equals(that.getJsonSchema()) : that.getJsonSchema() != null)
             return false;
         if (isString != that.isString)
             return false;
@@ -305,7 +311,7 @@ public class CodegenParameter {
         result = 31 * result + (baseType != null ? baseType.hashCode() : 0);
         result = 31 * result + (defaultValue != null ? defaultValue.hashCode() : 0);
         result = 31 * result + (example != null ? example.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + (getJsonSchema() != null ? getJsonSchema().hashCode() : 0);
         result = 31 * result + (isString ? 13:31);
         result = 31 * result + (isNumeric ? 13:31);
         result = 31 * result + (isInteger ? 13:31);
@@ -343,5 +349,30 @@ public class CodegenParameter {
         result = 31 * result + (multipleOf != null ? multipleOf.hashCode() : 0);
         return result;
     }
+
+    /**
+     * @return the parameter as JSON
+     */
+    public synchronized String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    /**
+     * Set the parameter from which {@link #getJsonSchema()} renders the JSON when it is first read.
+     *
+     * @param parameter the swagger parameter
+     */
+    public synchronized void setJsonSchemaSource(Parameter parameter) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = parameter;
+    }
 }
 
@@ -1,5 +1,8 @@
 package io.swagger.codegen;
 
+import io.swagger.models.properties.Property;
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +35,8 @@ public class CodegenProperty implements Cloneable {
     public String example;
 
     public String jsonSchema;
+    // property from which jsonSchema is rendered on first use, see getJsonSchema()
+    private Property jsonSchemaSource;
     public String minimum;
     public String maximum;
     public boolean exclusiveMinimum;
@@ -100,7 +105,7 @@ public class CodegenProperty implements Cloneable {
         result = prime * result + ((isPrimitiveType  ? 13:31));
         result = prime * result + ((isReadOnly  ? 13:31));
         result = prime * result + ((items == null) ? 0 : items.hashCode());
-        result = prime * result + ((jsonSchema == null) ? 0 : jsonSchema.hashCode());
+        result = prime * result + ((getJsonSchema() == null) ? 0 : getJsonSchema().hashCode());
         result = prime * result + ((max == null) ? 0 : max.hashCode());
         result = prime * result + ((maxLength == null) ? 0 : maxLength.hashCode());
         result = prime * result + ((maximum == null) ? 0 : maximum.hashCode());
@@ -211,7 +216,7 @@ public class CodegenProperty implements Cloneable {
         if ((this.example == null) ? (other.example != null) : !this.example.equals(other.example)) {
             return false;
         }
-        if ((this.jsonSchema == null) ? (other.jsonSchema != null) : !this.jsonSchema.equals(other.jsonSchema)) {
+        if (!Objects.equals(this.getJsonSchema(), other.getJsonSchema())) {
             return false;
         }
         if (this.minimum != other.minimum && (this.minimum == null || !this.minimum.equals(other.minimum))) {
@@ -347,6 +352,31 @@ public class CodegenProperty implements Cloneable {
         return true;
     }
 
+    /**
+     * @return the property as JSON
+     */
+    public synchronized String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    /**
+     * Set the property from which {@link #getJsonSchema()} renders the JSON when it is first read.
+     *
+     * @param property the swagger property
+     */
+    public synchronized void setJsonSchemaSource(Property property) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = property;
+    }
+
     @Override
     public CodegenProperty clone() {
         try {
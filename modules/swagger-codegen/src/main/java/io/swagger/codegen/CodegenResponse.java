@@ -1,5 +1,8 @@
 package io.swagger.codegen;
 
+import io.swagger.models.Response;
+import io.swagger.util.Json;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +24,8 @@ public class CodegenResponse {
     public boolean isFile = false;
     public Object schema;
     public String jsonSchema;
+    // response from which jsonSchema is rendered on first use, see getJsonSchema()
+    private Response jsonSchemaSource;
     public Map<String, Object> vendorExtensions;
 
     public boolean isWildcard() {
@@ -75,7 +80,7 @@ public class CodegenResponse {
             return false;
         if (vendorExtensions != null ? !vendorExtensions.equals(that.vendorExtensions) : that.vendorExtensions != null)
             return false;
-        return jsonSchema != null ? jsonSchema.equals(that.jsonSchema) : that.jsonSchema == null;
+        return getJsonSchema() != null ? getJsonSchema().equals(that.getJsonSchema()) : that.getJsonSchema() == null;
     }
 
     @Override
@@ -97,8 +102,33 @@ public class CodegenResponse {
         result = 31 * result + (isBinary ? 13:31);
         result = 31 * result + (isFile ? 13:31);
         result = 31 * result + (schema != null ? schema.hashCode() : 0);
-        result = 31 * result + (jsonSchema != null ? jsonSchema.hashCode() : 0);
+        result = 31 * result + (getJsonSchema() != null ? getJsonSchema().hashCode() : 0);
         result = 31 * result + (vendorExtensions != null ? vendorExtensions.hashCode() : 0);
         return result;
     }
+
+    /**
+     * @return the response as JSON
+     */
+    public synchronized String getJsonSchema() {
+        if (jsonSchema == null && jsonSchemaSource != null) {
+            jsonSchema = Json.pretty(jsonSchemaSource);
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSource = null;
+    }
+
+    /**
+     * Set the response from which {@link #getJsonSchema()} renders the JSON when it is first read.
+     *
+     * @param response the swagger response
+     */
+    public synchronized void setJsonSchemaSource(Response response) {
+        this.jsonSchema = null;
+        this.jsonSchemaSource = response;
+    }
 }
@@ -17,7 +17,9 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.samskivert.mustache.Mustache.Compiler;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.utils.BoundedCache;
 import io.swagger.models.ArrayModel;
 import io.swagger.models.ComposedModel;
 import io.swagger.models.Model;
@@ -65,6 +67,20 @@ import io.swagger.util.Json;
 public class DefaultCodegen {
     protected static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegen.class);
 
+    private static final Pattern UNDERSCORE_ACRONYM_PATTERN = Pattern.compile("([A-Z]+)([A-Z][a-z])");
+    private static final Pattern UNDERSCORE_WORD_PATTERN = Pattern.compile("([a-z\\d])([A-Z])");
+    private static final Pattern CAMELIZE_SLASH_PATTERN = Pattern.compile("\\/(.?)");
+    private static final Pattern CAMELIZE_CLASS_NAME_PATTERN = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+    private static final Pattern CAMELIZE_UNDERSCORE_PATTERN = Pattern.compile("(_)(.)");
+    private static final Pattern CAMELIZE_HYPHEN_PATTERN = Pattern.compile("(-)(.)");
+    private static final Pattern TRAILING_NUMBER_PATTERN = Pattern.compile("\\d+\\z");
+    private static final Pattern UNICODE_NON_WORD_PATTERN = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS);
+    // names are camelized and underscored over and over again for every model, property and parameter
+    private static final int NAME_CACHE_SIZE = 10000;
+    private static final BoundedCache<String, String> CAMELIZE_CACHE = new BoundedCache<String, String>(NAME_CACHE_SIZE);
+    private static final BoundedCache<String, String> LOWER_CAMELIZE_CACHE = new BoundedCache<String, String>(NAME_CACHE_SIZE);
+    private static final BoundedCache<String, String> UNDERSCORE_CACHE = new BoundedCache<String, String>(NAME_CACHE_SIZE);
+
     protected String inputSpec;
     protected String outputFolder = "";
     protected Set<String> defaultIncludes = new HashSet<String>();
@@ -110,6 +126,9 @@ public class DefaultCodegen {
     protected Map<String, String> typeAliases = null;
 
     protected String ignoreFilePathOverride;
+    // Examples generated for the operations of the current definitions
+    private ExampleCache exampleCache;
+    private Map<String, Model> exampleCacheDefinitions;
 
     public List<CliOption> cliOptions() {
         return cliOptions;
@@ -1326,7 +1345,11 @@ public class DefaultCodegen {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(model);
+        if (isJsonSchemaLazy()) {
+            m.setModelJsonSource(model);
+        } else {
+            m.modelJson = Json.pretty(model);
+        }
         m.externalDocs = model.getExternalDocs();
         m.vendorExtensions = model.getVendorExtensions();
         m.isAlias = typeAliases.containsKey(name);
@@ -1562,7 +1585,11 @@ public class DefaultCodegen {
         }
         property.defaultValue = toDefaultValue(p);
         property.defaultValueWithParam = toDefaultValueWithParam(name, p);
-        property.jsonSchema = Json.pretty(p);
+        if (isJsonSchemaLazy()) {
+            property.setJsonSchemaSource(p);
+        } else {
+            property.jsonSchema = Json.pretty(p);
+        }
         if (p.getReadOnly() != null) {
             property.isReadOnly = p.getReadOnly();
         }
@@ -2001,6 +2028,23 @@ public class DefaultCodegen {
         return responses.get(code);
     }
 
+    /**
+     * Get the cache of the request and response examples generated for the given models, so that
+     * each model example is built once per run. Its limits are read from the additional properties
+     * {@link CodegenConstants#EXAMPLE_MAX_ARRAY_ITEMS}, {@link CodegenConstants#EXAMPLE_MAX_DEPTH}
+     * and {@link CodegenConstants#EXAMPLE_MAX_LENGTH}.
+     *
+     * @param definitions a map of Swagger models
+     * @return the example cache
+     */
+    protected synchronized ExampleCache getExampleCache(Map<String, Model> definitions) {
+        if (exampleCache == null || exampleCacheDefinitions != definitions) {
+            exampleCache = ExampleCache.fromProperties(additionalProperties);
+            exampleCacheDefinitions = definitions;
+        }
+        return exampleCache;
+    }
+
     /**
      * Convert Swagger Operation object to Codegen Operation object (without providing a Swagger object)
      *
@@ -2176,7 +2220,7 @@ public class DefaultCodegen {
                             op.returnBaseType = cm.baseType;
                         }
                     }
-                    op.examples = new ExampleGenerator(definitions).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
+                    op.examples = new ExampleGenerator(definitions, getExampleCache(definitions)).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
                     op.defaultResponse = toDefaultValue(responseProperty);
                     op.returnType = cm.datatype;
                     op.hasReference = definitions != null && definitions.containsKey(op.returnBaseType);
@@ -2257,7 +2301,7 @@ public class DefaultCodegen {
                     bodyParam = p;
                     bodyParams.add(p.copy());
                     if(definitions != null) {
-                        op.requestBodyExamples = new ExampleGenerator(definitions).generate(null, operation.getConsumes(), bodyParam.dataType);
+                        op.requestBodyExamples = new ExampleGenerator(definitions, getExampleCache(definitions)).generate(null, operation.getConsumes(), bodyParam.dataType);
                     }
                 } else if (param instanceof FormParameter) {
                     formParams.add(p.copy());
@@ -2337,7 +2381,11 @@ public class DefaultCodegen {
         r.message = escapeText(response.getDescription());
         r.schema = response.getSchema();
         r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        if (isJsonSchemaLazy()) {
+            r.setJsonSchemaSource(response);
+        } else {
+            r.jsonSchema = Json.pretty(response);
+        }
         r.vendorExtensions = response.getVendorExtensions();
         addHeaders(response, r.headers);
         r.hasHeaders = !r.headers.isEmpty();
@@ -2429,7 +2477,11 @@ public class DefaultCodegen {
         if (param.getRequired()) {
             p.required = param.getRequired();
         }
-        p.jsonSchema = Json.pretty(param);
+        if (isJsonSchemaLazy()) {
+            p.setJsonSchemaSource(param);
+        } else {
+            p.jsonSchema = Json.pretty(param);
+        }
 
         if (System.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter " + param.getName());
@@ -3036,21 +3088,39 @@ public class DefaultCodegen {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        String result = UNDERSCORE_CACHE.get(word);
+        if (result == null) {
+            result = UNDERSCORE_CACHE.put(word, underscoreUncached(word));
+        }
+        return result;
+    }
+
+    private static String underscoreUncached(String word) {
+        StringBuilder sb = new StringBuilder(word.length() + 8);
+        boolean hasUpperCase = false;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c == '.') {
+                // Replace package separator with slash.
+                sb.append('/');
+            } else if (c == '$') {
+                // Replace $ with two underscores for inner classes.
+                sb.append("__");
+            } else if (c == '-' || c == ' ') {
+                // replace hyphen and space with underscore
+                sb.append('_');
+            } else {
+                hasUpperCase |= c >= 'A' && c <= 'Z';
+                sb.append(c);
+            }
+        }
+        String result = sb.toString();
+        if (hasUpperCase) {
+            // Replace capital letter with _ plus lowercase letter.
+            result = UNDERSCORE_ACRONYM_PATTERN.matcher(result).replaceAll("$1_$2");
+            result = UNDERSCORE_WORD_PATTERN.matcher(result).replaceAll("$1_$2");
+        }
+        return result.toLowerCase();
     }
 
     /**
@@ -3061,7 +3131,8 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        // underscore() already turned spaces into underscores
+        return underscore(word).replace('_', '-');
     }
 
     /**
@@ -3075,8 +3146,7 @@ public class DefaultCodegen {
      * @return The next name for the base name
      */
     private static String generateNextName(String name) {
-        Pattern pattern = Pattern.compile("\\d+\\z");
-        Matcher matcher = pattern.matcher(name);
+        Matcher matcher = TRAILING_NUMBER_PATTERN.matcher(name);
         if (matcher.find()) {
             String numStr = matcher.group();
             int num = Integer.parseInt(numStr) + 1;
@@ -3266,8 +3336,106 @@ public class DefaultCodegen {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
+        BoundedCache<String, String> cache = lowercaseFirstLetter ? LOWER_CAMELIZE_CACHE : CAMELIZE_CACHE;
+        String result = cache.get(word);
+        if (result == null) {
+            if (needsRegexCamelize(word)) {
+                result = camelizeWithRegex(word, lowercaseFirstLetter);
+            } else {
+                result = camelizeSinglePass(word, lowercaseFirstLetter);
+            }
+            cache.put(word, result);
+        }
+        return result;
+    }
+
+    /**
+     * Characters for which the single pass camelize can't mirror the regex based one: regex
+     * replacement syntax ($ and \), line terminators (not matched by '.') and surrogate pairs.
+     */
+    private static boolean needsRegexCamelize(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c == '$' || c == '\\' || c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028'
+                    || c == '\u2029' || Character.isSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String camelizeSinglePass(String word, boolean lowercaseFirstLetter) {
+        // slashes and dots are package separators: drop them and upper case the first letter of every part
+        StringBuilder sb = new StringBuilder(word.length());
+        boolean partStart = true;
+        int firstWordChar = -1;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c == '/' || c == '.') {
+                partStart = true;
+                continue;
+            }
+            if (partStart) {
+                c = Character.toUpperCase(c);
+                partStart = false;
+            }
+            if (firstWordChar < 0 && isAsciiWordChar(c)) {
+                firstWordChar = sb.length();
+            }
+            sb.append(c);
+        }
+
+        // Uppercase the class name.
+        if (firstWordChar >= 0) {
+            sb.replace(firstWordChar, firstWordChar + 1, String.valueOf(sb.charAt(firstWordChar)).toUpperCase());
+        }
+
+        // Remove all underscores (underscore_case to camelCase)
+        String result = removeSeparator(sb, '_');
+
+        // Remove all hyphens (hyphen-case to camelCase)
+        result = removeSeparator(result, '-');
+
+        if (lowercaseFirstLetter && result.length() > 0) {
+            result = result.substring(0, 1).toLowerCase() + result.substring(1);
+        }
+        return result;
+    }
+
+    /**
+     * Drop every separator followed by another character and upper case that character. A
+     * separator followed by a character without upper case form, e.g. another separator or a
+     * digit, is just dropped.
+     */
+    private static String removeSeparator(CharSequence word, char separator) {
+        StringBuilder sb = new StringBuilder(word.length());
+        int i = 0;
+        while (i < word.length()) {
+            char c = word.charAt(i);
+            if (c == separator && i + 1 < word.length()) {
+                String next = String.valueOf(word.charAt(i + 1));
+                String upperCase = next.toUpperCase();
+                if (next.equals(upperCase)) {
+                    i++;
+                } else {
+                    sb.append(upperCase);
+                    i += 2;
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isAsciiWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static String camelizeWithRegex(String word, boolean lowercaseFirstLetter) {
         // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
+        Pattern p = CAMELIZE_SLASH_PATTERN;
         Matcher m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
@@ -3291,7 +3459,7 @@ public class DefaultCodegen {
         }
 
         // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        p = CAMELIZE_CLASS_NAME_PATTERN;
         m = p.matcher(word);
         if (m.find()) {
             String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
@@ -3300,7 +3468,7 @@ public class DefaultCodegen {
         }
 
         // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
+        p = CAMELIZE_UNDERSCORE_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             String original = m.group(2);
@@ -3314,7 +3482,7 @@ public class DefaultCodegen {
         }
 
         // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
+        p = CAMELIZE_HYPHEN_PATTERN;
         m = p.matcher(word);
         while (m.find()) {
             word = m.replaceFirst(m.group(2).toUpperCase());
@@ -3367,6 +3535,18 @@ public class DefaultCodegen {
         return skipOverwrite;
     }
 
+    /**
+     * Whether modelJson and jsonSchema are rendered on first call to their getters, rather than
+     * when the model, property, parameter or response is created. The generators shipped in
+     * io.swagger.codegen.languages only read them through the getters; any other subclass may read
+     * the public fields directly, so it gets them filled in eagerly.
+     *
+     * @return true if the JSON is rendered lazily
+     */
+    protected boolean isJsonSchemaLazy() {
+        return getClass().getName().startsWith("io.swagger.codegen.languages.");
+    }
+
     public void setSkipOverwrite(boolean skipOverwrite) {
         this.skipOverwrite = skipOverwrite;
     }
@@ -3514,10 +3694,8 @@ public class DefaultCodegen {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
+        // NOTE: this is a single pass over the name; the cases below are spelled out to make it
+        // easier for others to add more special cases in the future.
 
         // better error handling when map/array type is invalid
         if (name == null) {
@@ -3530,36 +3708,45 @@ public class DefaultCodegen {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        }
-        else {
-            name = name.replaceAll("\\W", "");
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            switch (c) {
+                case '[':
+                    if (i + 1 < name.length() && name.charAt(i + 1) == ']') {
+                        // input[] => input
+                        i++;
+                    } else {
+                        // input[a][b] => input_a_b
+                        sb.append('_');
+                    }
+                    break;
+                case ']':
+                case ')':
+                    break;
+                // input(a)(b) => input_a_b
+                // input.name => input_name
+                // input-name => input_name
+                // input name and age => input_name_and_age
+                case '(':
+                case '.':
+                case '-':
+                case ' ':
+                    sb.append('_');
+                    break;
+                default:
+                    // remove everything else other than word, number and _
+                    // $php_variable => php_variable
+                    if (allowUnicodeIdentifiers || isAsciiWordChar(c)) {
+                        sb.append(c);
+                    }
+            }
         }
 
-        return name;
+        if (allowUnicodeIdentifiers) {
+            return UNICODE_NON_WORD_PATTERN.matcher(sb).replaceAll("");
+        }
+        return sb.toString();
     }
 
     /**
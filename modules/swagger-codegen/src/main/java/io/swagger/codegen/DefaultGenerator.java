@@ -4,13 +4,15 @@ import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import io.swagger.codegen.ignore.CodegenIgnoreProcessor;
 import io.swagger.codegen.languages.AbstractJavaCodegen;
+import io.swagger.codegen.metrics.GenerationPhase;
+import io.swagger.codegen.metrics.Stopwatch;
 import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.codegen.output.FileSystemOutputSink;
 import io.swagger.models.*;
 import io.swagger.models.auth.OAuth2Definition;
 import io.swagger.models.auth.SecuritySchemeDefinition;
 import io.swagger.models.parameters.Parameter;
 import io.swagger.util.Json;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.DateTime;
@@ -19,9 +21,24 @@ import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class DefaultGenerator extends AbstractGenerator implements Generator {
     protected final Logger LOGGER = LoggerFactory.getLogger(DefaultGenerator.class);
+
+    /**
+     * Switches read from {@link ClientOptInput#getGeneratorProperties()}, or from the system
+     * properties of the same name when the input doesn't set them.
+     */
+    public static final Set<String> GENERATOR_PROPERTIES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(
+            CodegenConstants.APIS, CodegenConstants.MODELS, CodegenConstants.SUPPORTING_FILES,
+            CodegenConstants.MODEL_TESTS, CodegenConstants.MODEL_DOCS, CodegenConstants.API_TESTS, CodegenConstants.API_DOCS,
+            "debugSwagger", "debugModels", "debugOperations", "debugSupportingFiles")));
+
     protected CodegenConfig config;
     protected ClientOptInput opts;
     protected Swagger swagger;
@@ -38,13 +55,24 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private String basePathWithoutHost;
     private String contextPath;
     private Map<String, String> generatorPropertyDefaults = new HashMap<>();
+    private TemplateCache templateCache = new TemplateCache();
+    private Mustache.Compiler templateCompiler;
+    private ExecutorService renderExecutor;
+    private CodegenManifest manifest;
+    private SpecFingerprints fingerprints;
 
     @Override
     public Generator opts(ClientOptInput opts) {
         this.opts = opts;
         this.swagger = opts.getSwagger();
         this.config = opts.getConfig();
+        this.templateCompiler = null;
+        invalidateTemplateIndex();
         this.config.additionalProperties().putAll(opts.getOpts().getProperties());
+        if (opts.getOutputSink() != null) {
+            setOutputSink(opts.getOutputSink());
+        }
+        setGenerationListener(opts.getGenerationListener());
 
         String ignoreFileLocation = this.config.getIgnoreFilePathOverride();
         if (ignoreFileLocation != null) {
@@ -84,6 +112,33 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         this.generatorPropertyDefaults.put(key, value);
     }
 
+    /**
+     * Use the given cache for compiled templates. By default each generator compiles templates into
+     * its own cache; passing a shared instance lets several runs in the same JVM reuse them.
+     * @param templateCache the template cache to use
+     */
+    @SuppressWarnings("WeakerAccess")
+    public void setTemplateCache(TemplateCache templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    public TemplateCache getTemplateCache() {
+        return templateCache;
+    }
+
+    /**
+     * Get a switch of this generation from the generator properties of the input, falling back to
+     * the system property of the same name. A switch the input maps to null is off; the system
+     * property isn't read then.
+     */
+    private String getGeneratorProperty(final String key) {
+        Map<String, String> properties = opts != null ? opts.getGeneratorProperties() : null;
+        if (properties != null && properties.containsKey(key)) {
+            return properties.get(key);
+        }
+        return System.getProperty(key);
+    }
+
     private Boolean getGeneratorPropertyDefaultSwitch(final String key, final Boolean defaultValue) {
         String result = null;
         if (this.generatorPropertyDefaults.containsKey(key)) {
@@ -125,9 +180,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
     private void configureGeneratorProperties() {
         // allows generating only models by specifying a CSV of models to generate, or empty for all
         // NOTE: Boolean.TRUE is required below rather than `true` because of JVM boxing constraints and type inference.
-        generateApis = System.getProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
-        generateModels = System.getProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
-        generateSupportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
+        generateApis = getGeneratorProperty(CodegenConstants.APIS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.APIS, null);
+        generateModels = getGeneratorProperty(CodegenConstants.MODELS) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODELS, null);
+        generateSupportingFiles = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES) != null ? Boolean.TRUE : getGeneratorPropertyDefaultSwitch(CodegenConstants.SUPPORTING_FILES, null);
 
         if (generateApis == null && generateModels == null && generateSupportingFiles == null) {
             // no specifics are set, generate everything
@@ -145,10 +200,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
         // model/api tests and documentation options rely on parent generate options (api or model) and no other options.
         // They default to true in all scenarios and can only be marked false explicitly
-        generateModelTests = System.getProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
-        generateModelDocumentation = System.getProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
-        generateApiTests = System.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
-        generateApiDocumentation = System.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(System.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
+        generateModelTests = getGeneratorProperty(CodegenConstants.MODEL_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_TESTS, true);
+        generateModelDocumentation = getGeneratorProperty(CodegenConstants.MODEL_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.MODEL_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.MODEL_DOCS, true);
+        generateApiTests = getGeneratorProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
+        generateApiDocumentation = getGeneratorProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(getGeneratorProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
 
 
         // Additional properties added for tests to exclude references in project related files
@@ -164,7 +219,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!generateApiTests && !generateModelTests) {
             config.additionalProperties().put(CodegenConstants.EXCLUDE_TESTS, true);
         }
-        if (System.getProperty("debugSwagger") != null) {
+        if (getGeneratorProperty("debugSwagger") != null) {
             Json.prettyPrint(swagger);
         }
         config.processOpts();
@@ -244,24 +299,21 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         }
     }
 
-    private void generateModelTests(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelTests(RenderQueue files, Map<String, Object> models, String modelName, String inputHash) throws IOException {
         // to generate model test files
         for (String templateName : config.modelTestTemplateFiles().keySet()) {
             String suffix = config.modelTestTemplateFiles().get(templateName);
             String filename = config.modelTestFileFolder() + File.separator + config.toModelTestFilename(modelName) + suffix;
             // do not overwrite test file that already exists
-            if (new File(filename).exists()) {
+            if (getOutputSink().exists(filename)) {
                 LOGGER.info("File exists. Skipped overwriting " + filename);
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
-            if (written != null) {
-                files.add(written);
-            }
+            files.render(models, templateName, filename, inputHash);
         }
     }
 
-    private void generateModelDocumentation(List<File> files, Map<String, Object> models, String modelName) throws IOException {
+    private void generateModelDocumentation(RenderQueue files, Map<String, Object> models, String modelName, String inputHash) throws IOException {
         for (String templateName : config.modelDocTemplateFiles().keySet()) {
             String suffix = config.modelDocTemplateFiles().get(templateName);
             String filename = config.modelDocFileFolder() + File.separator + config.toModelDocFilename(modelName) + suffix;
@@ -269,10 +321,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 LOGGER.info("Skipped overwriting " + filename);
                 continue;
             }
-            File written = processTemplateToFile(models, templateName, filename);
-            if (written != null) {
-                files.add(written);
-            }
+            files.render(models, templateName, filename, inputHash);
         }
     }
 
@@ -287,7 +336,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
 
-        String modelNames = System.getProperty("models");
+        String modelNames = getGeneratorProperty(CodegenConstants.MODELS);
         Set<String> modelsToGenerate = null;
         if (modelNames != null && !modelNames.isEmpty()) {
             modelsToGenerate = new HashSet<String>(Arrays.asList(modelNames.split(",")));
@@ -356,6 +405,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         });
 
         // process models only
+        Stopwatch phase = Stopwatch.started();
         for (String name : modelKeys) {
             try {
                 //don't generate models that have an import mapping
@@ -375,10 +425,15 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
         }
 
+        phaseFinished(GenerationPhase.MODELS, phase);
+
         // post process all processed models
+        phase = Stopwatch.started();
         allProcessedModels = config.postProcessAllModels(allProcessedModels);
+        phaseFinished(GenerationPhase.POST_PROCESS_MODELS, phase);
 
         // generate files based on processed models
+        RenderQueue renderQueue = new RenderQueue(files);
         for (String modelName : allProcessedModels.keySet()) {
             Map<String, Object> models = (Map<String, Object>) allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -398,6 +453,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     }
                 }
                 allModels.add(modelTemplate);
+                String inputHash = fingerprints != null ? fingerprints.forModel(modelName) : null;
                 for (String templateName : config.modelTemplateFiles().keySet()) {
                     String suffix = config.modelTemplateFiles().get(templateName);
                     String filename = config.modelFileFolder() + File.separator + config.toModelFilename(modelName) + suffix;
@@ -405,23 +461,21 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         LOGGER.info("Skipped overwriting " + filename);
                         continue;
                     }
-                    File written = processTemplateToFile(models, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
+                    renderQueue.render(models, templateName, filename, inputHash);
                 }
                 if (generateModelTests) {
-                    generateModelTests(files, models, modelName);
+                    generateModelTests(renderQueue, models, modelName, inputHash);
                 }
                 if (generateModelDocumentation) {
                     // to generate model documentation files
-                    generateModelDocumentation(files, models, modelName);
+                    generateModelDocumentation(renderQueue, models, modelName, inputHash);
                 }
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
         }
-        if (System.getProperty("debugModels") != null) {
+        renderQueue.await();
+        if (getGeneratorProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
         }
@@ -432,9 +486,11 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (!generateApis) {
             return;
         }
+        Stopwatch phase = Stopwatch.started();
         Map<String, List<CodegenOperation>> paths = processPaths(swagger.getPaths());
+        phase.stop();
         Set<String> apisToGenerate = null;
-        String apiNames = System.getProperty("apis");
+        String apiNames = getGeneratorProperty(CodegenConstants.APIS);
         if (apiNames != null && !apiNames.isEmpty()) {
             apisToGenerate = new HashSet<String>(Arrays.asList(apiNames.split(",")));
         }
@@ -447,6 +503,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        RenderQueue renderQueue = new RenderQueue(files);
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -456,7 +513,10 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                         return ObjectUtils.compare(one.operationId, another.operationId);
                     }
                 });
+                String inputHash = fingerprints != null ? fingerprints.forOperations(ops) : null;
+                phase.start();
                 Map<String, Object> operation = processOperations(config, tag, ops, allModels);
+                phase.stop();
 
                 operation.put("basePath", basePath);
                 operation.put("basePathWithoutHost", basePathWithoutHost);
@@ -494,15 +554,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
                 for (String templateName : config.apiTemplateFiles().keySet()) {
                     String filename = config.apiFilename(templateName, tag);
-                    if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                    if (!config.shouldOverwrite(filename) && getOutputSink().exists(filename)) {
                         LOGGER.info("Skipped overwriting " + filename);
                         continue;
                     }
 
-                    File written = processTemplateToFile(operation, templateName, filename);
-                    if (written != null) {
-                        files.add(written);
-                    }
+                    renderQueue.render(operation, templateName, filename, inputHash);
                 }
 
                 if (generateApiTests) {
@@ -510,15 +567,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     for (String templateName : config.apiTestTemplateFiles().keySet()) {
                         String filename = config.apiTestFilename(templateName, tag);
                         // do not overwrite test file that already exists
-                        if (new File(filename).exists()) {
+                        if (getOutputSink().exists(filename)) {
                             LOGGER.info("File exists. Skipped overwriting " + filename);
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
+                        renderQueue.render(operation, templateName, filename, inputHash);
                     }
                 }
 
@@ -527,15 +581,12 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                     // to generate api documentation files
                     for (String templateName : config.apiDocTemplateFiles().keySet()) {
                         String filename = config.apiDocFilename(templateName, tag);
-                        if (!config.shouldOverwrite(filename) && new File(filename).exists()) {
+                        if (!config.shouldOverwrite(filename) && getOutputSink().exists(filename)) {
                             LOGGER.info("Skipped overwriting " + filename);
                             continue;
                         }
 
-                        File written = processTemplateToFile(operation, templateName, filename);
-                        if (written != null) {
-                            files.add(written);
-                        }
+                        renderQueue.render(operation, templateName, filename, inputHash);
                     }
                 }
 
@@ -543,7 +594,9 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
-        if (System.getProperty("debugOperations") != null) {
+        renderQueue.await();
+        phaseFinished(GenerationPhase.OPERATIONS, phase);
+        if (getGeneratorProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
         }
@@ -555,7 +608,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
             return;
         }
         Set<String> supportingFilesToGenerate = null;
-        String supportingFiles = System.getProperty(CodegenConstants.SUPPORTING_FILES);
+        String supportingFiles = getGeneratorProperty(CodegenConstants.SUPPORTING_FILES);
         if (supportingFiles != null && !supportingFiles.isEmpty()) {
             supportingFilesToGenerate = new HashSet<String>(Arrays.asList(supportingFiles.split(",")));
         }
@@ -566,10 +619,6 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 if (StringUtils.isNotEmpty(support.folder)) {
                     outputFolder += File.separator + support.folder;
                 }
-                File of = new File(outputFolder);
-                if (!of.isDirectory()) {
-                    of.mkdirs();
-                }
                 String outputFilename = outputFolder + File.separator + support.destinationFilename.replace('/', File.separatorChar);
                 if (!config.shouldOverwrite(outputFilename)) {
                     LOGGER.info("Skipped overwriting " + outputFilename);
@@ -590,21 +639,17 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                 }
 
                 if (ignoreProcessor.allowsFile(new File(outputFilename))) {
-                    if (templateFile.endsWith("mustache")) {
-                        String template = readTemplate(templateFile);
-                        Mustache.Compiler compiler = Mustache.compiler();
-                        compiler = config.processCompiler(compiler);
-                        Template tmpl = compiler
-                                .withLoader(new Mustache.TemplateLoader() {
-                                    @Override
-                                    public Reader getTemplate(String name) {
-                                        return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
-                                    }
-                                })
-                                .defaultValue("")
-                                .compile(template);
-
-                        writeToFile(outputFilename, tmpl.execute(bundle));
+                    String inputHash = fingerprints != null ? CodegenManifest.hash(fingerprints.forSupportingFiles(), templateFile) : null;
+                    if (manifest != null && manifest.isUpToDate(outputFilename, inputHash)) {
+                        LOGGER.info("Skipped rendering unchanged " + outputFilename);
+                        files.add(new File(outputFilename));
+                    } else if (templateFile.endsWith("mustache")) {
+                        Template tmpl = compileTemplate(templateFile);
+
+                        String contentHash = write(outputFilename, templateFile, tmpl, bundle);
+                        if (manifest != null) {
+                            manifest.record(outputFilename, inputHash, contentHash);
+                        }
                         files.add(new File(outputFilename));
                     } else {
                         InputStream in = null;
@@ -618,11 +663,16 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
                             in = this.getClass().getClassLoader().getResourceAsStream(getCPResourcePath(templateFile));
                         }
                         File outputFile = new File(outputFilename);
-                        OutputStream out = new FileOutputStream(outputFile, false);
                         if (in != null) {
-                            LOGGER.info("writing file " + outputFile);
-                            IOUtils.copy(in, out);
-                            out.close();
+                            String contentHash;
+                            try {
+                                contentHash = write(outputFilename, in);
+                            } finally {
+                                in.close();
+                            }
+                            if (manifest != null) {
+                                manifest.record(outputFilename, inputHash, contentHash);
+                            }
                         } else {
                             LOGGER.error("can't open " + templateFile + " for input");
                         }
@@ -641,7 +691,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         final String swaggerCodegenIgnore = ".swagger-codegen-ignore";
         String ignoreFileNameTarget = config.outputFolder() + File.separator + swaggerCodegenIgnore;
         File ignoreFile = new File(ignoreFileNameTarget);
-        if (generateSwaggerMetadata && !ignoreFile.exists()) {
+        if (generateSwaggerMetadata && !getOutputSink().exists(ignoreFileNameTarget)) {
             String ignoreFileNameSource = File.separator + config.getCommonTemplateDir() + File.separator + swaggerCodegenIgnore;
             String ignoreFileContents = readResourceContents(ignoreFileNameSource);
             try {
@@ -721,7 +771,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
 
         config.postProcessSupportingFileData(bundle);
 
-        if (System.getProperty("debugSupportingFiles") != null) {
+        if (getGeneratorProperty("debugSupportingFiles") != null) {
             LOGGER.info("############ Supporting file info ############");
             Json.prettyPrint(bundle);
         }
@@ -734,52 +784,188 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (swagger == null || config == null) {
             throw new RuntimeException("missing swagger input or config!");
         }
+        Stopwatch total = Stopwatch.started();
+        Stopwatch phase = Stopwatch.started();
         configureGeneratorProperties();
         configureSwaggerInfo();
+        if (getGenerationListener() != null) {
+            getGenerationListener().generationStarted(config);
+        }
+        phaseFinished(GenerationPhase.CONFIGURE, phase);
 
         // resolve inline models
+        phase = Stopwatch.started();
         InlineModelResolver inlineModelResolver = new InlineModelResolver();
         inlineModelResolver.flatten(swagger);
+        phaseFinished(GenerationPhase.FLATTEN, phase);
+
+        if (opts.isIncremental()) {
+            if (getOutputSink() instanceof FileSystemOutputSink) {
+                manifest = CodegenManifest.load(config.outputFolder());
+                fingerprints = new SpecFingerprints(swagger, config);
+            } else {
+                LOGGER.warn("Incremental generation requires file system output, generating all files");
+            }
+        }
 
         List<File> files = new ArrayList<File>();
-        // models
+        if (opts.getThreads() > 1) {
+            renderExecutor = Executors.newFixedThreadPool(opts.getThreads());
+        }
         List<Object> allModels = new ArrayList<Object>();
-        generateModels(files, allModels);
-        // apis
         List<Object> allOperations = new ArrayList<Object>();
-        generateApis(files, allOperations, allModels);
+        try {
+            // models
+            generateModels(files, allModels);
+            // apis
+            generateApis(files, allOperations, allModels);
+        } finally {
+            if (renderExecutor != null) {
+                renderExecutor.shutdownNow();
+                renderExecutor = null;
+            }
+        }
 
         // supporting files
+        phase = Stopwatch.started();
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels);
+        phaseFinished(GenerationPhase.SUPPORTING_FILES, phase);
         generateSupportingFiles(files, bundle);
+        if (manifest != null && generateSwaggerMetadata) {
+            try {
+                files.add(manifest.write());
+            } catch (IOException e) {
+                throw new RuntimeException("Could not generate supporting file '" + CodegenManifest.MANIFEST_FILE + "'", e);
+            }
+        }
         config.processSwagger(swagger);
+        if (getGenerationListener() != null) {
+            total.stop();
+            getGenerationListener().generationFinished(total.getElapsedNanos(), total.getAllocatedBytes());
+        }
         return files;
     }
 
+    private void phaseFinished(GenerationPhase phase, Stopwatch stopwatch) {
+        stopwatch.stop();
+        if (getGenerationListener() != null) {
+            getGenerationListener().phaseFinished(phase, stopwatch.getElapsedNanos(), stopwatch.getAllocatedBytes());
+        }
+    }
+
+
+    /**
+     * Collects the template renderings of one generation phase. Without a render executor each
+     * template is rendered immediately, as before. With one, renderings are deferred until
+     * {@link #await()} so that all model and operation processing (which mutates generator state)
+     * stays on the calling thread; only template execution and file writes run in parallel.
+     * Files are always added in scheduling order, so the output list stays deterministic.
+     */
+    private class RenderQueue {
+        private final List<File> files;
+        private final List<Callable<File>> pending = new ArrayList<Callable<File>>();
+
+        RenderQueue(List<File> files) {
+            this.files = files;
+        }
 
-    private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename) throws IOException {
+        void render(final Map<String, Object> templateData, final String templateName, final String outputFilename, String inputHash) throws IOException {
+            final String fileHash = inputHash != null ? CodegenManifest.hash(inputHash, templateName) : null;
+            if (renderExecutor == null) {
+                File written = processTemplateToFile(templateData, templateName, outputFilename, fileHash);
+                if (written != null) {
+                    files.add(written);
+                }
+                return;
+            }
+            pending.add(new Callable<File>() {
+                @Override
+                public File call() throws Exception {
+                    return processTemplateToFile(templateData, templateName, outputFilename, fileHash);
+                }
+            });
+        }
+
+        void await() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                List<Future<File>> results = renderExecutor.invokeAll(pending);
+                for (Future<File> result : results) {
+                    File written = result.get();
+                    if (written != null) {
+                        files.add(written);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while generating files", e);
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Could not generate file", e.getCause());
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+
+    private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, String inputHash) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         if (ignoreProcessor.allowsFile(new File(adjustedOutputFilename))) {
+            if (manifest != null && manifest.isUpToDate(adjustedOutputFilename, inputHash)) {
+                LOGGER.info("Skipped rendering unchanged " + adjustedOutputFilename);
+                return new File(adjustedOutputFilename);
+            }
             String templateFile = getFullTemplateFile(config, templateName);
-            String template = readTemplate(templateFile);
+            Template tmpl = compileTemplate(templateFile);
+
+            String contentHash = write(adjustedOutputFilename, templateFile, tmpl, templateData);
+            if (manifest != null) {
+                manifest.record(adjustedOutputFilename, inputHash, contentHash);
+            }
+            return new File(adjustedOutputFilename);
+        }
+
+        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
+        return null;
+    }
+
+    /**
+     * Compile the given template, or return the cached result of an earlier compilation.
+     * Partials are resolved through the same cache, so every template file is read only once.
+     */
+    private Template compileTemplate(String templateFile) {
+        Mustache.Compiler compiler = getTemplateCompiler();
+        String key = TemplateCache.cacheKey(config, compiler, templateFile);
+        Template tmpl = templateCache.getTemplate(key);
+        if (tmpl == null) {
+            tmpl = templateCache.putTemplate(key, compiler.compile(readCachedTemplate(templateFile)));
+        }
+        return tmpl;
+    }
+
+    private synchronized Mustache.Compiler getTemplateCompiler() {
+        if (templateCompiler == null) {
             Mustache.Compiler compiler = Mustache.compiler();
             compiler = config.processCompiler(compiler);
-            Template tmpl = compiler
+            templateCompiler = compiler
                     .withLoader(new Mustache.TemplateLoader() {
                         @Override
                         public Reader getTemplate(String name) {
-                            return getTemplateReader(getFullTemplateFile(config, name + ".mustache"));
+                            return new StringReader(readCachedTemplate(getFullTemplateFile(config, name + ".mustache")));
                         }
                     })
-                    .defaultValue("")
-                    .compile(template);
-
-            writeToFile(adjustedOutputFilename, tmpl.execute(templateData));
-            return new File(adjustedOutputFilename);
+                    .defaultValue("");
         }
+        return templateCompiler;
+    }
 
-        LOGGER.info("Skipped generation of " + adjustedOutputFilename + " due to rule in .swagger-codegen-ignore");
-        return null;
+    private String readCachedTemplate(String templateFile) {
+        String source = templateCache.getSource(templateFile);
+        if (source == null) {
+            source = templateCache.putSource(templateFile, readTemplate(templateFile));
+        }
+        return source;
     }
 
     private static void processMimeTypes(List<String> mimeTypeList, Map<String, Object> operation, String source) {
@@ -824,7 +1010,7 @@ public class DefaultGenerator extends AbstractGenerator implements Generator {
         if (operation == null) {
             return;
         }
-        if (System.getProperty("debugOperations") != null) {
+        if (getGeneratorProperty("debugOperations") != null) {
             LOGGER.info("processOperation: resourcePath= " + resourcePath + "\t;" + httpMethod + " " + operation + "\n");
         }
         List<Tag> tags = new ArrayList<Tag>();
@@ -1,5 +1,6 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.utils.HexUtils;
 import io.swagger.models.*;
 import io.swagger.models.parameters.BodyParameter;
 import io.swagger.models.parameters.Parameter;
@@ -8,6 +9,9 @@ import io.swagger.util.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -238,15 +242,42 @@ public class InlineModelResolver {
         if (this.skipMatches) {
             return null;
         }
-        String json = Json.pretty(model);
-        if (generatedSignature.containsKey(json)) {
-            return generatedSignature.get(json);
+        String signature = signature(model);
+        if (generatedSignature.containsKey(signature)) {
+            return generatedSignature.get(signature);
         }
         return null;
     }
 
     public void addGenerated(String name, Model model) {
-        generatedSignature.put(Json.pretty(model), name);
+        generatedSignature.put(signature(model), name);
+    }
+
+    /**
+     * Digest of the JSON serialization of a model, used to find identical inline models. Two
+     * models get the same signature exactly when their pretty printed JSON is equal, which is
+     * how they used to be compared, but the JSON is streamed into the digest instead of being
+     * kept as a map key.
+     *
+     * @param model the model
+     * @return String hex encoded SHA-256 digest, or null if the model can't be serialized
+     */
+    static String signature(Model model) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (DigestWriter writer = new DigestWriter(digest)) {
+            // compact output, the pretty printer only adds whitespace between the same tokens
+            Json.mapper().writer().writeValue(writer, model);
+        } catch (Exception e) {
+            // same as Json.pretty(), which returns null for models it can't serialize
+            LOGGER.debug("Could not serialize inline model", e);
+            return null;
+        }
+        return HexUtils.toHex(digest.digest());
     }
 
     public String uniqueName(String key) {
@@ -463,4 +494,54 @@ public class InlineModelResolver {
         this.skipMatches = skipMatches;
     }
 
+    /**
+     * Feeds the UTF-16 code units written to it into a digest, so that any string, including
+     * one with unpaired surrogates, is hashed the way it would be compared as a Java string.
+     */
+    private static class DigestWriter extends Writer {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[4096];
+
+        DigestWriter(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) {
+            while (len > 0) {
+                int count = Math.min(len, buffer.length / 2);
+                for (int i = 0; i < count; i++) {
+                    char c = chars[off + i];
+                    buffer[2 * i] = (byte) (c >> 8);
+                    buffer[2 * i + 1] = (byte) c;
+                }
+                digest.update(buffer, 0, 2 * count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            while (len > 0) {
+                int count = Math.min(len, buffer.length / 2);
+                for (int i = 0; i < count; i++) {
+                    char c = str.charAt(off + i);
+                    buffer[2 * i] = (byte) (c >> 8);
+                    buffer[2 * i + 1] = (byte) c;
+                }
+                digest.update(buffer, 0, 2 * count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
@@ -18,7 +18,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
 
 /**
  * @deprecated use instead {@link io.swagger.codegen.DefaultGenerator}
@@ -37,12 +36,7 @@ public class MetaGenerator extends AbstractGenerator {
     }
 
     public static List<CodegenConfig> getExtensions() {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class);
-        List<CodegenConfig> output = new ArrayList<CodegenConfig>();
-        for (CodegenConfig config : loader) {
-            output.add(config);
-        }
-        return output;
+        return CodegenConfigLoader.getAll();
     }
 
     static void usage(Options options) {
@@ -162,7 +156,7 @@ public class MetaGenerator extends AbstractGenerator {
                             .defaultValue("")
                             .compile(template);
 
-                    writeToFile(outputFilename, tmpl.execute(data));
+                    writeToFile(outputFilename, tmpl, data);
                     files.add(new File(outputFilename));
                 } else {
                     String template = readTemplate(templateDir + File.separator + support.templateFile);
@@ -0,0 +1,227 @@
+package io.swagger.codegen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.codegen.utils.ImplementationVersion;
+import io.swagger.models.ComposedModel;
+import io.swagger.models.HttpMethod;
+import io.swagger.models.Model;
+import io.swagger.models.Operation;
+import io.swagger.models.Path;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the input hashes used by incremental generation (see {@link CodegenManifest}).
+ *
+ * Every hash covers the generator options (generator, version, library, mappings and simple
+ * additional properties, custom template folder content) and the spec-wide settings (info, host,
+ * security, global parameters...). A model hash additionally covers the definition itself, all
+ * definitions it references and its direct sub types. An api hash covers the operations of the
+ * api and the definitions they reference. Supporting files depend on the whole spec.
+ */
+public class SpecFingerprints {
+    private static final Pattern DEFINITION_REF = Pattern.compile("\"\\$ref\"\\s*:\\s*\"#/definitions/([^\"]+)\"");
+
+    private final Swagger swagger;
+    private final String runHash;
+    private final Map<String, String> definitionJson = new HashMap<String, String>();
+    private final Map<String, Set<String>> references = new HashMap<String, Set<String>>();
+    private final Map<String, Set<String>> subTypes = new HashMap<String, Set<String>>();
+    private String specHash;
+
+    public SpecFingerprints(Swagger swagger, CodegenConfig config) {
+        this.swagger = swagger;
+        this.runHash = CodegenManifest.hash(optionsFingerprint(config), toJson(specHeader(swagger)));
+
+        if (swagger.getDefinitions() != null) {
+            for (Map.Entry<String, Model> entry : swagger.getDefinitions().entrySet()) {
+                String json = toJson(entry.getValue());
+                definitionJson.put(entry.getKey(), json);
+                Set<String> refs = findReferences(json);
+                references.put(entry.getKey(), refs);
+                if (entry.getValue() instanceof ComposedModel) {
+                    for (String ref : refs) {
+                        if (!subTypes.containsKey(ref)) {
+                            subTypes.put(ref, new TreeSet<String>());
+                        }
+                        subTypes.get(ref).add(entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param name definition name
+     * @return String input hash of the files generated for the given model
+     */
+    public String forModel(String name) {
+        Set<String> names = closure(new TreeSet<String>(Collections.singleton(name)));
+        if (subTypes.containsKey(name)) {
+            names.addAll(subTypes.get(name));
+        }
+        return hashDefinitions(names, name);
+    }
+
+    /**
+     * @param ops the operations of an api, as grouped by the generator
+     * @return String input hash of the files generated for the api
+     */
+    public String forOperations(List<CodegenOperation> ops) {
+        StringBuilder sb = new StringBuilder();
+        Set<String> names = new TreeSet<String>();
+        for (CodegenOperation op : ops) {
+            Operation operation = findOperation(op);
+            if (operation == null) {
+                // the generator regrouped or rewrote the operation path, fall back to the whole spec
+                return forSupportingFiles();
+            }
+            String json = toJson(operation);
+            sb.append(op.httpMethod).append(' ').append(op.path).append('\n').append(json).append('\n');
+            names.addAll(findReferences(json));
+        }
+        return hashDefinitions(closure(names), sb.toString());
+    }
+
+    /**
+     * @return String input hash of the supporting files, which depend on the whole spec
+     */
+    public synchronized String forSupportingFiles() {
+        if (specHash == null) {
+            specHash = CodegenManifest.hash(runHash, toJson(swagger));
+        }
+        return specHash;
+    }
+
+    private String hashDefinitions(Set<String> names, String extra) {
+        StringBuilder sb = new StringBuilder(extra).append('\n');
+        for (String name : names) {
+            sb.append(name).append('=').append(definitionJson.get(name)).append('\n');
+        }
+        return CodegenManifest.hash(runHash, sb.toString());
+    }
+
+    private Operation findOperation(CodegenOperation op) {
+        if (swagger.getPaths() == null || op.path == null || op.httpMethod == null) {
+            return null;
+        }
+        Path path = swagger.getPaths().get(op.path);
+        if (path == null) {
+            return null;
+        }
+        try {
+            return path.getOperationMap().get(HttpMethod.valueOf(op.httpMethod.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Set<String> closure(Set<String> names) {
+        Set<String> result = new TreeSet<String>();
+        Deque<String> queue = new ArrayDeque<String>(names);
+        while (!queue.isEmpty()) {
+            String name = queue.pop();
+            if (result.add(name) && references.containsKey(name)) {
+                queue.addAll(references.get(name));
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> findReferences(String json) {
+        Set<String> refs = new HashSet<String>();
+        Matcher matcher = DEFINITION_REF.matcher(json);
+        while (matcher.find()) {
+            refs.add(matcher.group(1));
+        }
+        return refs;
+    }
+
+    private static Map<String, Object> specHeader(Swagger swagger) {
+        Map<String, Object> header = new LinkedHashMap<String, Object>();
+        header.put("info", swagger.getInfo());
+        header.put("host", swagger.getHost());
+        header.put("basePath", swagger.getBasePath());
+        header.put("schemes", swagger.getSchemes());
+        header.put("consumes", swagger.getConsumes());
+        header.put("produces", swagger.getProduces());
+        header.put("tags", swagger.getTags());
+        header.put("securityDefinitions", swagger.getSecurityDefinitions());
+        header.put("security", swagger.getSecurity());
+        header.put("parameters", swagger.getParameters());
+        header.put("responses", swagger.getResponses());
+        header.put("externalDocs", swagger.getExternalDocs());
+        header.put("vendorExtensions", swagger.getVendorExtensions());
+        return header;
+    }
+
+    private static String optionsFingerprint(CodegenConfig config) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(ImplementationVersion.read()).append('\n');
+        sb.append(config.getClass().getName()).append('\n');
+        sb.append(config.getLibrary()).append('\n');
+        Map<String, Object> properties = new TreeMap<String, Object>();
+        for (Map.Entry<String, Object> entry : config.additionalProperties().entrySet()) {
+            Object value = entry.getValue();
+            // the generation timestamp changes on every run; lambdas and other objects have no stable representation
+            if ("generatedDate".equals(entry.getKey()) || "generatedYear".equals(entry.getKey())) {
+                continue;
+            }
+            if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean) {
+                properties.put(entry.getKey(), value.toString());
+            }
+        }
+        sb.append(properties).append('\n');
+        sb.append(new TreeMap<String, String>(config.typeMapping())).append('\n');
+        sb.append(new TreeMap<String, String>(config.importMapping())).append('\n');
+        sb.append(new TreeMap<String, String>(config.instantiationTypes())).append('\n');
+        sb.append(new TreeMap<String, String>(config.reservedWordsMappings())).append('\n');
+        sb.append(templateFolderFingerprint(config.templateDir()));
+        return sb.toString();
+    }
+
+    private static String templateFolderFingerprint(String templateDir) {
+        File dir = templateDir == null ? null : new File(templateDir);
+        if (dir == null || !dir.isDirectory()) {
+            // embedded templates are covered by the generator version
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        Collection<File> files = new TreeSet<File>(FileUtils.listFiles(dir, null, true));
+        for (File file : files) {
+            try {
+                sb.append(file.getPath()).append('=')
+                        .append(CodegenManifest.hash(FileUtils.readFileToByteArray(file))).append('\n');
+            } catch (IOException e) {
+                sb.append(file.getPath()).append("=?").append(file.lastModified()).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String toJson(Object value) {
+        try {
+            return Json.mapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize spec for incremental generation", e);
+        }
+    }
+}
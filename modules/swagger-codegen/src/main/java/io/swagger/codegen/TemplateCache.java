@@ -0,0 +1,99 @@
+package io.swagger.codegen;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds compiled mustache templates and raw partial sources so that each template is read and
+ * compiled only once per generation run instead of once per output file.
+ *
+ * A {@link DefaultGenerator} creates its own cache by default. Long-lived JVMs running several
+ * generations may share one instance via {@link DefaultGenerator#setTemplateCache(TemplateCache)};
+ * entries are keyed by the resolved template path together with the generator, library, template
+ * folders and compiler settings, so runs with different settings never see each other's templates.
+ */
+public class TemplateCache {
+    private final ConcurrentMap<String, Template> templates = new ConcurrentHashMap<String, Template>();
+    private final ConcurrentMap<String, String> sources = new ConcurrentHashMap<String, String>();
+
+    /**
+     * Get a previously compiled template.
+     *
+     * @param key cache key, see {@link #cacheKey(CodegenConfig, Mustache.Compiler, String)}
+     * @return the compiled template, or null if it has not been compiled yet
+     */
+    public Template getTemplate(String key) {
+        return templates.get(key);
+    }
+
+    /**
+     * Store a compiled template. If another thread stored a template for the same key first,
+     * that template is kept and returned.
+     *
+     * @param key cache key
+     * @param template compiled template
+     * @return the template held by the cache for the given key
+     */
+    public Template putTemplate(String key, Template template) {
+        Template existing = templates.putIfAbsent(key, template);
+        return existing != null ? existing : template;
+    }
+
+    /**
+     * Get the raw source of a previously read template or partial.
+     *
+     * @param templateFile resolved template file path
+     * @return the template source, or null if it has not been read yet
+     */
+    public String getSource(String templateFile) {
+        return sources.get(templateFile);
+    }
+
+    /**
+     * Store the raw source of a template or partial.
+     *
+     * @param templateFile resolved template file path
+     * @param source template source
+     * @return the source held by the cache for the given path
+     */
+    public String putSource(String templateFile, String source) {
+        String existing = sources.putIfAbsent(templateFile, source);
+        return existing != null ? existing : source;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public void clear() {
+        templates.clear();
+        sources.clear();
+    }
+
+    /**
+     * Build the cache key of a template for the given generator and compiler.
+     *
+     * @param config Codegen config
+     * @param compiler the compiler used to compile the template
+     * @param templateFile resolved template file path
+     * @return String cache key
+     */
+    public static String cacheKey(CodegenConfig config, Mustache.Compiler compiler, String templateFile) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(config.getClass().getName()).append('|');
+        sb.append(config.getLibrary()).append('|');
+        sb.append(config.templateDir()).append('|');
+        sb.append(config.embeddedTemplateDir()).append('|');
+        sb.append(compiler.standardsMode).append(compiler.strictSections);
+        sb.append(compiler.emptyStringIsFalse).append(compiler.zeroIsFalse);
+        sb.append(compiler.missingIsNull).append('|');
+        sb.append(compiler.nullValue).append('|');
+        sb.append(compiler.escaper.getClass().getName()).append('|');
+        sb.append(compiler.formatter.getClass().getName()).append('|');
+        sb.append(templateFile);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,167 @@
+package io.swagger.codegen;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves template names to template files the same way as
+ * {@link AbstractGenerator#getFullTemplateFile(CodegenConfig, String)}, but without touching the
+ * file system or class path for every lookup: the custom template folder (including its library
+ * sub folder) is listed once, embedded templates are probed once per name, and every resolved
+ * name is remembered.
+ *
+ * An index reflects the template folder at the time it was built. Call {@link #invalidate()} when
+ * templates may have been added or removed since, e.g. when watching the template folder.
+ */
+public class TemplateIndex {
+    private final String templateDir;
+    private final String embeddedTemplateDir;
+    private final String library;
+    private final ClassLoader classLoader;
+    private final ConcurrentMap<String, String> resolved = new ConcurrentHashMap<String, String>();
+    private final ConcurrentMap<String, Boolean> embedded = new ConcurrentHashMap<String, Boolean>();
+    private volatile Set<String> customTemplates;
+
+    public TemplateIndex(CodegenConfig config, ClassLoader classLoader) {
+        this.templateDir = config.templateDir();
+        this.embeddedTemplateDir = config.embeddedTemplateDir();
+        this.library = config.getLibrary();
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @param config Codegen config
+     * @return true if this index was built for the template folders and library of the given config
+     */
+    public boolean matches(CodegenConfig config) {
+        return StringUtils.equals(templateDir, config.templateDir())
+                && StringUtils.equals(embeddedTemplateDir, config.embeddedTemplateDir())
+                && StringUtils.equals(library, config.getLibrary());
+    }
+
+    /**
+     * Get the template file path with template dir prepended, using the library template if it exists.
+     *
+     * @param templateFile Template file
+     * @return String Full template file path
+     */
+    public String resolve(String templateFile) {
+        String path = resolved.get(templateFile);
+        if (path == null) {
+            path = lookup(templateFile);
+            resolved.put(templateFile, path);
+        }
+        return path;
+    }
+
+    /**
+     * Forget everything known about the template folders; they are scanned again on the next lookup.
+     */
+    public void invalidate() {
+        customTemplates = null;
+        resolved.clear();
+        embedded.clear();
+    }
+
+    private String lookup(String templateFile) {
+        if (StringUtils.isNotEmpty(library)) {
+            final String libTemplateFile = libraryFilePath(templateDir, templateFile);
+            if (isCustomTemplate(libTemplateFile)) {
+                return libTemplateFile;
+            }
+        }
+
+        final String template = templateDir + File.separator + templateFile;
+        if (isCustomTemplate(template)) {
+            return template;
+        }
+
+        if (StringUtils.isNotEmpty(library)) {
+            final String embeddedLibTemplateFile = libraryFilePath(embeddedTemplateDir, templateFile);
+            if (isEmbeddedTemplate(embeddedLibTemplateFile)) {
+                return embeddedLibTemplateFile;
+            }
+        }
+
+        return embeddedTemplateDir + File.separator + templateFile;
+    }
+
+    private String libraryFilePath(String dir, String templateFile) {
+        return dir + File.separator + "libraries" + File.separator + library + File.separator + templateFile;
+    }
+
+    private boolean isCustomTemplate(String path) {
+        Set<String> templates = customTemplates;
+        if (templates == null) {
+            templates = scan(templateDir);
+            customTemplates = templates;
+        }
+        return templates.contains(normalize(path).toString());
+    }
+
+    private boolean isEmbeddedTemplate(String path) {
+        Boolean exists = embedded.get(path);
+        if (exists == null) {
+            String name = path;
+            if (!"/".equals(File.separator)) {
+                name = name.replaceAll(Pattern.quote(File.separator), "/");
+            }
+            exists = classLoader.getResource(name) != null;
+            embedded.put(path, exists);
+        }
+        return exists;
+    }
+
+    private static Set<String> scan(String dir) {
+        File root = dir == null ? null : new File(dir);
+        if (root == null || !root.isDirectory()) {
+            return Collections.emptySet();
+        }
+        final Set<String> paths = new HashSet<String>();
+        try {
+            Files.walkFileTree(normalize(root.getPath()), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
+                    new SimpleFileVisitor<Path>() {
+                        @Override
+                        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                            // like File.exists(), folders match as well
+                            paths.add(dir.toString());
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                            paths.add(file.toString());
+                            return FileVisitResult.CONTINUE;
+                        }
+
+                        @Override
+                        public FileVisitResult visitFileFailed(Path file, IOException e) {
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+        } catch (IOException e) {
+            throw new RuntimeException("Could not list template folder " + dir, e);
+        }
+        return paths;
+    }
+
+    private static Path normalize(String path) {
+        return Paths.get(path).toAbsolutePath().normalize();
+    }
+}
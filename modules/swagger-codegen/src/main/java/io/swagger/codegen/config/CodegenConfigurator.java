@@ -2,13 +2,18 @@ package io.swagger.codegen.config;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.codegen.CliOption;
 import io.swagger.codegen.ClientOptInput;
 import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenConfigLoader;
 import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.DefaultGenerator;
 import io.swagger.codegen.auth.AuthParser;
+import io.swagger.codegen.metrics.GenerationListener;
+import io.swagger.codegen.metrics.GenerationPhase;
+import io.swagger.codegen.metrics.Stopwatch;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
@@ -57,6 +62,9 @@ public class CodegenConfigurator implements Serializable {
     private String artifactVersion;
     private String library;
     private String ignoreFileOverride;
+    private int threads = 1;
+    private boolean incremental;
+    private transient GenerationListener generationListener;
     private Map<String, String> systemProperties = new HashMap<String, String>();
     private Map<String, String> instantiationTypes = new HashMap<String, String>();
     private Map<String, String> typeMappings = new HashMap<String, String>();
@@ -379,12 +387,47 @@ public class CodegenConfigurator implements Serializable {
         return this;
     }
 
+    public int getThreads() {
+        return threads;
+    }
+
+    public CodegenConfigurator setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    public CodegenConfigurator setIncremental(boolean incremental) {
+        this.incremental = incremental;
+        return this;
+    }
+
+    @JsonIgnore
+    public GenerationListener getGenerationListener() {
+        return generationListener;
+    }
+
+    /**
+     * Report the time spent parsing the spec, and the timings of the generation run with the
+     * resulting {@link ClientOptInput}, to the given listener.
+     *
+     * @param generationListener the listener, or null to disable measuring
+     * @return this configurator
+     */
+    @JsonIgnore
+    public CodegenConfigurator setGenerationListener(GenerationListener generationListener) {
+        this.generationListener = generationListener;
+        return this;
+    }
+
     public ClientOptInput toClientOptInput() {
 
         Validate.notEmpty(lang, "language must be specified");
         Validate.notEmpty(inputSpec, "input spec must be specified");
 
-        setVerboseFlags();
         setSystemProperties();
 
         CodegenConfig config = CodegenConfigLoader.forName(lang);
@@ -424,11 +467,21 @@ public class CodegenConfigurator implements Serializable {
         config.additionalProperties().putAll(additionalProperties);
 
         ClientOptInput input = new ClientOptInput()
-                .config(config);
+                .config(config)
+                .threads(threads)
+                .incremental(incremental)
+                .generationListener(generationListener);
+        setGeneratorProperties(input);
+        setVerboseFlags(input);
 
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(auth);
 
+        Stopwatch parse = Stopwatch.started();
         Swagger swagger = new SwaggerParser().read(inputSpec, authorizationValues, true);
+        if (generationListener != null) {
+            parse.stop();
+            generationListener.phaseFinished(GenerationPhase.PARSE, parse.getElapsedNanos(), parse.getAllocatedBytes());
+        }
 
         input.opts(new ClientOpts())
                 .swagger(swagger);
@@ -459,7 +512,7 @@ public class CodegenConfigurator implements Serializable {
         }
     }
 
-    private void setVerboseFlags() {
+    private void setVerboseFlags(ClientOptInput input) {
         if (!verbose) {
             return;
         }
@@ -469,15 +522,31 @@ public class CodegenConfigurator implements Serializable {
                 "\n - [debugOperations] prints operations passed to the template engine" +
                 "\n - [debugSupportingFiles] prints additional data passed to the template engine");
 
-        System.setProperty("debugSwagger", "");
-        System.setProperty("debugModels", "");
-        System.setProperty("debugOperations", "");
-        System.setProperty("debugSupportingFiles", "");
+        input.generatorProperty("debugSwagger", "");
+        input.generatorProperty("debugModels", "");
+        input.generatorProperty("debugOperations", "");
+        input.generatorProperty("debugSupportingFiles", "");
     }
 
+    /**
+     * The switches of the generator (models, apis, debugOperations, ...) are passed to this
+     * generation only. Other system properties may be read by the language configs and are still
+     * set for the whole JVM.
+     */
     private void setSystemProperties() {
         for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
-            System.setProperty(entry.getKey(), entry.getValue());
+            if (!DefaultGenerator.GENERATOR_PROPERTIES.contains(entry.getKey())) {
+                System.setProperty(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void setGeneratorProperties(ClientOptInput input) {
+        for (Map.Entry<String, String> entry : systemProperties.entrySet()) {
+            if (DefaultGenerator.GENERATOR_PROPERTIES.contains(entry.getKey())) {
+                // a system property without value turns the switch on
+                input.generatorProperty(entry.getKey(), entry.getValue() != null ? entry.getValue() : "");
+            }
         }
     }
 
@@ -0,0 +1,123 @@
+package io.swagger.codegen.examples;
+
+import io.swagger.codegen.CodegenConstants;
+import io.swagger.codegen.utils.BoundedCache;
+
+import java.util.Map;
+
+/**
+ * Examples generated during a generation run, by media type and model, together with the limits
+ * applied when generating them. Shared by {@link ExampleGenerator} and {@link XmlExampleGenerator}
+ * so that the example of a model used by several operations is only generated once.
+ *
+ * The limits can be set with the additional properties {@link CodegenConstants#EXAMPLE_MAX_ARRAY_ITEMS},
+ * {@link CodegenConstants#EXAMPLE_MAX_DEPTH} and {@link CodegenConstants#EXAMPLE_MAX_LENGTH}.
+ */
+public class ExampleCache {
+    public static final int DEFAULT_MAX_ARRAY_ITEMS = 10;
+    public static final int DEFAULT_MAX_DEPTH = 16;
+    public static final int DEFAULT_MAX_LENGTH = 100000;
+
+    private static final int MAX_ENTRIES = 10000;
+    // marks examples which could not be generated within the limits
+    private static final String NO_EXAMPLE = new String();
+
+    private final BoundedCache<String, String> examples = new BoundedCache<String, String>(MAX_ENTRIES);
+    private int maxArrayItems = DEFAULT_MAX_ARRAY_ITEMS;
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+    private int maxLength = DEFAULT_MAX_LENGTH;
+
+    /**
+     * @param properties additional properties of the config, possibly holding the limits
+     * @return a cache with the limits of the given properties, or the default ones
+     */
+    public static ExampleCache fromProperties(Map<String, Object> properties) {
+        ExampleCache cache = new ExampleCache();
+        cache.setMaxArrayItems(intProperty(properties, CodegenConstants.EXAMPLE_MAX_ARRAY_ITEMS, DEFAULT_MAX_ARRAY_ITEMS));
+        cache.setMaxDepth(intProperty(properties, CodegenConstants.EXAMPLE_MAX_DEPTH, DEFAULT_MAX_DEPTH));
+        cache.setMaxLength(intProperty(properties, CodegenConstants.EXAMPLE_MAX_LENGTH, DEFAULT_MAX_LENGTH));
+        return cache;
+    }
+
+    /**
+     * Number of items of example arrays, arrays with a lower maxItems are shorter.
+     *
+     * @return the maximum number of array items
+     */
+    public int getMaxArrayItems() {
+        return maxArrayItems;
+    }
+
+    public void setMaxArrayItems(int maxArrayItems) {
+        this.maxArrayItems = maxArrayItems;
+    }
+
+    /**
+     * Number of nested models in an example, deeper models are left out.
+     *
+     * @return the maximum nesting depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Number of characters of an example, longer examples are not generated.
+     *
+     * @return the maximum example length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    public void setMaxLength(int maxLength) {
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @param mediaType the media type of the example
+     * @param key the key of the model, see {@link ExampleGenerator}
+     * @return true if an example, or the lack of one, is cached
+     */
+    public boolean contains(String mediaType, String key) {
+        return examples.get(mediaType + " " + key) != null;
+    }
+
+    /**
+     * @param mediaType the media type of the example
+     * @param key the key of the model
+     * @return the cached example, or null if there is none
+     */
+    public String get(String mediaType, String key) {
+        String example = examples.get(mediaType + " " + key);
+        return example == NO_EXAMPLE ? null : example;
+    }
+
+    /**
+     * @param mediaType the media type of the example
+     * @param key the key of the model
+     * @param example the example, or null if none could be generated
+     */
+    public void put(String mediaType, String key, String example) {
+        examples.put(mediaType + " " + key, example != null ? example : NO_EXAMPLE);
+    }
+
+    public int size() {
+        return examples.size();
+    }
+
+    private static int intProperty(Map<String, Object> properties, String name, int defaultValue) {
+        Object value = properties != null ? properties.get(name) : null;
+        if (value == null) {
+            return defaultValue;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return Integer.parseInt(value.toString().trim());
+    }
+}
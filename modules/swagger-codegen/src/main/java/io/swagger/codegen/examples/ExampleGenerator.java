@@ -1,18 +1,29 @@
 package io.swagger.codegen.examples;
 
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
+import io.swagger.models.Xml;
 import io.swagger.models.properties.*;
 import io.swagger.util.Json;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.util.*;
 
 import static io.swagger.models.properties.StringProperty.Format.URI;
 import static io.swagger.models.properties.StringProperty.Format.URL;
 
+/**
+ * Generates the JSON and XML examples of operation requests and responses.
+ *
+ * Examples of models are kept in an {@link ExampleCache}, so a generator per operation sharing the
+ * cache of the generation run builds each model example once. The cache also sets the limits on
+ * array length, nesting depth and example length.
+ */
 public class ExampleGenerator {
     private static final Logger logger = LoggerFactory.getLogger(ExampleGenerator.class);
 
@@ -26,10 +37,18 @@ public class ExampleGenerator {
     private static final String NONE = "none";
 
     protected Map<String, Model> examples;
+    protected ExampleCache cache;
     private Random random;
+    private int depth;
+    private int truncations;
 
     public ExampleGenerator(Map<String, Model> examples) {
+        this(examples, new ExampleCache());
+    }
+
+    public ExampleGenerator(Map<String, Model> examples, ExampleCache cache) {
         this.examples = examples;
+        this.cache = cache;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
     }
@@ -42,18 +61,35 @@ public class ExampleGenerator {
                 // assume application/json for this
                 mediaTypes = Collections.singletonList(MIME_TYPE_JSON); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
             }
+            String key = exampleKey(property);
             for (String mediaType : mediaTypes) {
                 Map<String, String> kv = new HashMap<>();
                 kv.put(CONTENT_TYPE, mediaType);
                 if (property != null && mediaType.startsWith(MIME_TYPE_JSON)) {
-                    String example = Json.pretty(resolvePropertyToExample("", mediaType, property, processedModels));
+                    String example;
+                    if (key != null && cache.contains(mediaType, key)) {
+                        example = cache.get(mediaType, key);
+                    } else {
+                        example = toJson(resolvePropertyToExample("", mediaType, property, processedModels));
+                        if (key != null) {
+                            cache.put(mediaType, key, example);
+                        }
+                    }
 
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example;
+                    if (key != null && cache.contains(mediaType, key)) {
+                        example = cache.get(mediaType, key);
+                    } else {
+                        example = new XmlExampleGenerator(this.examples, cache).toXml(property);
+                        if (key != null) {
+                            cache.put(mediaType, key, example);
+                        }
+                    }
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -91,7 +127,13 @@ public class ExampleGenerator {
                     final Model model = this.examples.get(modelName);
                     if (model != null) {
 
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, model, processedModels));
+                        String example;
+                        if (cache.contains(mediaType, modelKey(modelName))) {
+                            example = cache.get(mediaType, modelKey(modelName));
+                        } else {
+                            example = toJson(resolveModelToExample(modelName, mediaType, model, processedModels));
+                            cache.put(mediaType, modelKey(modelName), example);
+                        }
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -100,7 +142,13 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Model model = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(model, 0, Collections.<String>emptySet());
+                    String example;
+                    if (cache.contains(mediaType, modelKey(modelName))) {
+                        example = cache.get(mediaType, modelKey(modelName));
+                    } else {
+                        example = new XmlExampleGenerator(this.examples, cache).toXml(model);
+                        cache.put(mediaType, modelKey(modelName), example);
+                    }
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         output.add(kv);
@@ -157,6 +205,7 @@ public class ExampleGenerator {
             Property innerType = ((ArrayProperty) property).getItems();
             if (innerType != null) {
                 int arrayLength = null == ((ArrayProperty) property).getMaxItems() ? 2 : ((ArrayProperty) property).getMaxItems();
+                arrayLength = Math.min(arrayLength, cache.getMaxArrayItems());
                 Object[] objectProperties = new Object[arrayLength];
                 Object objProperty = resolvePropertyToExample(propertyName, mediaType, innerType, processedModels);
                 for(int i=0; i < arrayLength; i++) {
@@ -234,6 +283,13 @@ public class ExampleGenerator {
         if (processedModels.contains(name)) {
             return model.getExample();
         }
+        if (depth >= cache.getMaxDepth()) {
+            logger.debug("Example of model '{}' is nested too deep, leaving it out", name);
+            if (model.getExample() == null) {
+                truncations++;
+            }
+            return model.getExample();
+        }
         if (model instanceof ModelImpl) {
             processedModels.add(name);
             ModelImpl impl = (ModelImpl) model;
@@ -246,14 +302,115 @@ public class ExampleGenerator {
                 return impl.getExample();
             } else if (impl.getProperties() != null) {
                 logger.debug("Creating example from model values");
-                for (String propertyName : impl.getProperties().keySet()) {
-                    Property property = impl.getProperties().get(propertyName);
-                    values.put(propertyName, resolvePropertyToExample(propertyName, mediaType, property, processedModels));
+                int truncationsBefore = truncations;
+                depth++;
+                try {
+                    for (String propertyName : impl.getProperties().keySet()) {
+                        Property property = impl.getProperties().get(propertyName);
+                        values.put(propertyName, resolvePropertyToExample(propertyName, mediaType, property, processedModels));
+                    }
+                } finally {
+                    depth--;
+                }
+                // an example cut by the depth limit is only valid at this position
+                if (truncations == truncationsBefore) {
+                    impl.setExample(values);
                 }
-                impl.setExample(values);
             }
             return values;
         }
         return "";
     }
+
+    /**
+     * Pretty print an example, as {@link Json#pretty(Object)} does, unless it is longer than the
+     * maximum length of the cache.
+     *
+     * @return the JSON example, or null if it is too long or can't be serialized
+     */
+    private String toJson(Object example) {
+        LimitedWriter writer = new LimitedWriter(cache.getMaxLength());
+        try {
+            Json.mapper().writer(new DefaultPrettyPrinter()).writeValue(writer, example);
+        } catch (IOException e) {
+            if (writer.isExceeded()) {
+                logger.warn("Example longer than {} characters left out", cache.getMaxLength());
+            } else {
+                logger.error("Could not serialize example", e);
+            }
+            return null;
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Key of the example of a property in the {@link ExampleCache}, or null if the example should
+     * not be cached because it depends on the property itself rather than on the models only.
+     */
+    static String exampleKey(Property property) {
+        if (property == null || property.getExample() != null) {
+            return null;
+        }
+        if (property instanceof RefProperty) {
+            return modelKey(((RefProperty) property).getSimpleRef());
+        } else if (property instanceof ArrayProperty) {
+            String itemsKey = exampleKey(((ArrayProperty) property).getItems());
+            if (itemsKey == null) {
+                return null;
+            }
+            Xml xml = property.getXml();
+            boolean wrapped = xml != null && Boolean.TRUE.equals(xml.getWrapped());
+            return "[" + ((ArrayProperty) property).getMaxItems() + (wrapped ? ",wrapped" : "") + "]" + itemsKey;
+        } else if (property instanceof MapProperty) {
+            String valuesKey = exampleKey(((MapProperty) property).getAdditionalProperties());
+            if (valuesKey == null) {
+                return null;
+            }
+            return "{" + property.getName() + "}" + valuesKey;
+        }
+        return null;
+    }
+
+    private static String modelKey(String modelName) {
+        return "#" + modelName;
+    }
+
+    /**
+     * Collects the written characters up to a limit, beyond which writing fails.
+     */
+    private static class LimitedWriter extends Writer {
+        private final StringBuilder buffer = new StringBuilder();
+        private final int limit;
+        private boolean exceeded;
+
+        LimitedWriter(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (buffer.length() + len > limit) {
+                exceeded = true;
+                throw new IOException("example longer than " + limit + " characters");
+            }
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
 }
@@ -41,16 +41,48 @@ public class XmlExampleGenerator {
     public static String TAG_END = "</";
     private static String EMPTY = "";
     protected Map<String, Model> examples;
+    protected ExampleCache cache;
 
     public XmlExampleGenerator(Map<String, Model> examples) {
+        this(examples, new ExampleCache());
+    }
+
+    /**
+     * @param examples the models
+     * @param cache the examples of the run, providing the nesting depth and length limits
+     */
+    public XmlExampleGenerator(Map<String, Model> examples, ExampleCache cache) {
         this.examples = examples;
         if (examples == null) {
             this.examples = new HashMap<String, Model>(); 
         }
+        this.cache = cache;
     }
 
+    /**
+     * @param property the property
+     * @return the XML example, or null if it would be longer than the maximum length
+     */
     public String toXml(Property property) {
-        return toXml(null, property, 0, Collections.<String>emptySet());
+        try {
+            return toXml(null, property, 0, Collections.<String>emptySet());
+        } catch (ExampleTooLongException e) {
+            LOGGER.warn("Example longer than {} characters left out", cache.getMaxLength());
+            return null;
+        }
+    }
+
+    /**
+     * @param model the model
+     * @return the XML example, or null if it would be longer than the maximum length
+     */
+    public String toXml(Model model) {
+        try {
+            return toXml(model, 0, Collections.<String>emptySet());
+        } catch (ExampleTooLongException e) {
+            LOGGER.warn("Example longer than {} characters left out", cache.getMaxLength());
+            return null;
+        }
     }
 
     protected String toXml(Model model, int indent, Collection<String> path) {
@@ -68,7 +100,7 @@ public class XmlExampleGenerator {
 
     protected String modelImplToXml(ModelImpl model, int indent, Collection<String> path) {
         final String modelName = model.getName();
-        if (path.contains(modelName)) {
+        if (path.contains(modelName) || path.size() >= cache.getMaxDepth()) {
             return EMPTY;
         }
         final Set<String> selfPath = new HashSet<String>(path);
@@ -113,6 +145,9 @@ public class XmlExampleGenerator {
             }
             sb.append(asXml);
             sb.append(NEWLINE);
+            if (sb.length() > cache.getMaxLength()) {
+                throw new ExampleTooLongException();
+            }
         }
         sb.append(indent(indent)).append(TAG_END).append(name).append(CLOSE_TAG);
 
@@ -231,4 +266,13 @@ public class XmlExampleGenerator {
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Stops generating an example once it is longer than the maximum length.
+     */
+    private static class ExampleTooLongException extends RuntimeException {
+        ExampleTooLongException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -24,4 +24,9 @@ public class DirectoryRule extends FileRule {
     public Boolean matches(String relativePath) {
         return contentsMatcher.matches(FileSystems.getDefault().getPath(relativePath)) || directoryMatcher.matches(FileSystems.getDefault().getPath(relativePath));
     }
+
+    @Override
+    public Boolean matches(Path relativePath) {
+        return contentsMatcher.matches(relativePath) || directoryMatcher.matches(relativePath);
+    }
 }
@@ -1,6 +1,7 @@
 package io.swagger.codegen.ignore.rules;
 
 import java.nio.file.FileSystems;
+import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.util.List;
 
@@ -17,4 +18,9 @@ public class FileRule extends Rule {
     public Boolean matches(String relativePath) {
         return matcher.matches(FileSystems.getDefault().getPath(relativePath));
     }
+
+    @Override
+    public Boolean matches(Path relativePath) {
+        return matcher.matches(relativePath);
+    }
 }
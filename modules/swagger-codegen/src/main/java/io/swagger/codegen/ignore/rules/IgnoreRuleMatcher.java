@@ -0,0 +1,154 @@
+package io.swagger.codegen.ignore.rules;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The exclusion and inclusion rules of an ignore file, compiled for evaluating many paths.
+ *
+ * Rules whose pattern starts with literal directories (e.g. {@code docs/api/*.md}) are kept in a tree keyed on
+ * those directories, so a path is only evaluated against the rules of the directories it is in and the rules
+ * starting with a wildcard. The path is converted once for all rules. Precedence is the same as evaluating
+ * every rule in order: a matching inclusion rule overrides the exclusion rules, unless the path is excluded by
+ * a directory rule, which only an inclusion directory rule can override.
+ */
+public class IgnoreRuleMatcher {
+    // characters with a special meaning in a glob
+    private static final String GLOB_CHARACTERS = "*?[]{}\\";
+    // literal directories are only indexed where they can be compared as they are
+    private static final boolean INDEXED = File.separatorChar == '/';
+
+    private final List<Rule> exclusionRules;
+    private final List<Rule> inclusionRules;
+    private final Node exclusionTree;
+    private final Node inclusionTree;
+
+    /**
+     * @param exclusionRules The rules excluding files, in the order of the ignore file.
+     * @param inclusionRules The negated rules, in the order of the ignore file.
+     */
+    public IgnoreRuleMatcher(List<Rule> exclusionRules, List<Rule> inclusionRules) {
+        this.exclusionRules = new ArrayList<>(exclusionRules);
+        this.inclusionRules = new ArrayList<>(inclusionRules);
+        this.exclusionTree = index(this.exclusionRules);
+        this.inclusionTree = index(this.inclusionRules);
+    }
+
+    /**
+     * @param relativePath The path of a file relative to the ignore file.
+     * @return {@code false} if the rules exclude the file, otherwise {@code true}.
+     */
+    public boolean allows(String relativePath) {
+        if (exclusionRules.isEmpty()) {
+            return true;
+        }
+        Path path = FileSystems.getDefault().getPath(relativePath);
+        String[] segments = INDEXED ? path.toString().split("/") : new String[0];
+
+        boolean exclude = false;
+        boolean directoryExcluded = false;
+        BitSet candidates = exclusionTree.candidates(segments);
+        for (int i = candidates.nextSetBit(0); i >= 0 && !directoryExcluded; i = candidates.nextSetBit(i + 1)) {
+            Rule current = exclusionRules.get(i);
+            Rule.Operation op = current.evaluate(path);
+            if (op == Rule.Operation.EXCLUDE) {
+                exclude = true;
+                // Include rule can't override rules that exclude a file by some parent directory.
+                directoryExcluded = current instanceof DirectoryRule;
+            } else if (op == Rule.Operation.EXCLUDE_AND_TERMINATE) {
+                break;
+            }
+        }
+        if (!exclude) {
+            return true;
+        }
+
+        candidates = inclusionTree.candidates(segments);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Rule current = inclusionRules.get(i);
+            if (directoryExcluded && !(current instanceof DirectoryRule)) {
+                continue;
+            }
+            if (current.evaluate(path) == Rule.Operation.INCLUDE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node index(List<Rule> rules) {
+        Node root = new Node();
+        for (int i = 0; i < rules.size(); i++) {
+            Node node = root;
+            for (String directory : literalDirectories(rules.get(i))) {
+                node = node.child(directory);
+            }
+            node.rules.set(i);
+        }
+        return root;
+    }
+
+    /**
+     * The directories a path must start with to match the rule, that is the segments of its glob up to the
+     * first wildcard, each followed by a separator.
+     */
+    private static List<String> literalDirectories(Rule rule) {
+        List<String> directories = new ArrayList<>();
+        if (!INDEXED || !(rule instanceof FileRule)) {
+            return directories;
+        }
+        String[] segments = rule.getPattern().split("/", -1);
+        for (int i = 0; i < segments.length - 1 && isLiteral(segments[i]); i++) {
+            directories.add(segments[i]);
+        }
+        return directories;
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (GLOB_CHARACTERS.indexOf(segment.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Node {
+        private final BitSet rules = new BitSet();
+        private Map<String, Node> children;
+
+        Node child(String directory) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            Node child = children.get(directory);
+            if (child == null) {
+                child = new Node();
+                children.put(directory, child);
+            }
+            return child;
+        }
+
+        /**
+         * @return the rules of this node and of the nodes along the given path
+         */
+        BitSet candidates(String[] segments) {
+            BitSet candidates = (BitSet) rules.clone();
+            Node node = this;
+            for (int i = 0; i < segments.length && node.children != null; i++) {
+                node = node.children.get(segments[i]);
+                if (node == null) {
+                    break;
+                }
+                candidates.or(node.rules);
+            }
+            return candidates;
+        }
+    }
+}
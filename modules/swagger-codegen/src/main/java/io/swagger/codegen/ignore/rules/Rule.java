@@ -1,5 +1,6 @@
 package io.swagger.codegen.ignore.rules;
 
+import java.nio.file.Path;
 import java.util.List;
 
 public abstract class Rule {
@@ -18,6 +19,16 @@ public abstract class Rule {
 
     public abstract Boolean matches(String relativePath);
 
+    /**
+     * Same as {@link #matches(String)}, for a path which is evaluated against several rules.
+     *
+     * @param relativePath The path relative to the ignore file.
+     * @return {@code true} if the rule matches the path.
+     */
+    public Boolean matches(Path relativePath) {
+        return matches(relativePath.toString());
+    }
+
     public String getDefinition() {
         return this.definition;
     }
@@ -59,7 +70,15 @@ public abstract class Rule {
     }
 
     public Operation evaluate(String relativePath) {
-        if (Boolean.TRUE.equals(matches(relativePath))) {
+        return evaluate(matches(relativePath));
+    }
+
+    public Operation evaluate(Path relativePath) {
+        return evaluate(matches(relativePath));
+    }
+
+    private Operation evaluate(Boolean matches) {
+        if (Boolean.TRUE.equals(matches)) {
             if(Boolean.TRUE.equals(this.getNegated())) {
                 return this.getIncludeOperation();
             }
@@ -33,6 +33,22 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String PLAY_VERSION = "playVersion";
     public static final String PARCELABLE_MODEL = "parcelableModel";
     public static final String USE_RUNTIME_EXCEPTION = "useRuntimeException";
+    public static final String BUFFER_RESPONSE_BODY = "bufferResponseBody";
+    public static final String GENERATE_TYPE_ADAPTERS = "generateTypeAdapters";
+    public static final String MAX_IDLE_CONNECTIONS = "maxIdleConnections";
+    public static final String MAX_CONNECTIONS_PER_HOST = "maxConnectionsPerHost";
+    public static final String KEEP_ALIVE_DURATION = "keepAliveDuration";
+    public static final String CONNECT_TIMEOUT = "connectTimeout";
+    public static final String READ_TIMEOUT = "readTimeout";
+
+    // marks the models which get a generated Gson adapter
+    static final String GSON_TYPE_ADAPTER_EXTENSION = "x-gson-type-adapter";
+    // marks the models whose adapter writes subclasses with the adapter of their class
+    static final String GSON_SUBTYPES_EXTENSION = "x-gson-subtypes";
+    // marks the models whose adapter reads the class to create from the discriminator
+    static final String GSON_DISCRIMINATOR_EXTENSION = "x-gson-discriminator";
+    // marks the enums whose values are string literals, which fromValue can switch on
+    static final String STRING_ENUM_EXTENSION = "x-string-enum";
 
     public static final String PLAY_24 = "play24";
     public static final String PLAY_25 = "play25";
@@ -40,6 +56,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String RETROFIT_1 = "retrofit";
     public static final String RETROFIT_2 = "retrofit2";
     public static final String REST_ASSURED = "rest-assured";
+    public static final String NATIVE = "native";
 
     protected String gradleWrapperPackage = "gradle.wrapper";
     protected boolean useRxJava = false;
@@ -52,6 +69,15 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     protected boolean performBeanValidation = false;
     protected boolean useGzipFeature = false;
     protected boolean useRuntimeException = false;
+    protected boolean bufferResponseBody = false;
+    protected boolean generateTypeAdapters = false;
+    // the defaults of OkHttp's connection pool and dispatcher
+    protected int maxIdleConnections = 5;
+    protected int maxConnectionsPerHost = 5;
+    protected long keepAliveDuration = 300000;
+    // 0 keeps the default timeouts of the HTTP library
+    protected int connectTimeout = 0;
+    protected int readTimeout = 0;
 
 
     public JavaClientCodegen() {
@@ -73,6 +99,13 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(PERFORM_BEANVALIDATION, "Perform BeanValidation"));
         cliOptions.add(CliOption.newBoolean(USE_GZIP_FEATURE, "Send gzip-encoded requests"));
         cliOptions.add(CliOption.newBoolean(USE_RUNTIME_EXCEPTION, "Use RuntimeException instead of Exception"));
+        cliOptions.add(CliOption.newBoolean(BUFFER_RESPONSE_BODY, "Read the whole response body into a String before deserializing it with the okhttp-gson library, instead of parsing it as it is received."));
+        cliOptions.add(CliOption.newBoolean(GENERATE_TYPE_ADAPTERS, "Generate a Gson TypeAdapter for each model with the okhttp-gson and retrofit2 libraries, instead of relying on reflection."));
+        cliOptions.add(CliOption.newString(MAX_IDLE_CONNECTIONS, "Default number of idle connections the ApiClient keeps open (okhttp-gson, jersey2, resteasy and resttemplate libraries)").defaultValue("5"));
+        cliOptions.add(CliOption.newString(MAX_CONNECTIONS_PER_HOST, "Default number of concurrent requests the ApiClient sends to one host (okhttp-gson, jersey2, resteasy, resttemplate and native libraries)").defaultValue("5"));
+        cliOptions.add(CliOption.newString(KEEP_ALIVE_DURATION, "Default time in milliseconds an idle connection is kept open for reuse (okhttp-gson, jersey2, resteasy and resttemplate libraries)").defaultValue("300000"));
+        cliOptions.add(CliOption.newString(CONNECT_TIMEOUT, "Default connect timeout of the ApiClient in milliseconds, 0 keeps the default of the HTTP library").defaultValue("0"));
+        cliOptions.add(CliOption.newString(READ_TIMEOUT, "Default read timeout of the ApiClient in milliseconds, 0 keeps the default of the HTTP library").defaultValue("0"));
 
         supportedLibraries.put("jersey1", "HTTP client: Jersey client 1.19.4. JSON processing: Jackson 2.8.9. Enable Java6 support using '-DsupportJava6=true'. Enable gzip request encoding using '-DuseGzipFeature=true'.");
         supportedLibraries.put("feign", "HTTP client: OpenFeign 9.4.0. JSON processing: Jackson 2.8.9");
@@ -85,6 +118,7 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         supportedLibraries.put("vertx", "HTTP client: VertX client 3.2.4. JSON processing: Jackson 2.8.9");
         supportedLibraries.put("google-api-client", "HTTP client: Google API client 1.23.0. JSON processing: Jackson 2.8.9");
         supportedLibraries.put("rest-assured", "HTTP client: rest-assured : 3.1.0. JSON processing: Gson 2.6.1. Only for Java8");
+        supportedLibraries.put(NATIVE, "HTTP client: Java 11 java.net.http (HTTP/2, asynchronous APIs returning CompletableFuture). JSON processing: Jackson 2.9.3. Only for Java 11");
 
         CliOption libraryOption = new CliOption(CodegenConstants.LIBRARY, "library template (sub-template) to use");
         libraryOption.setEnum(supportedLibraries);
@@ -112,6 +146,11 @@ public class JavaClientCodegen extends AbstractJavaCodegen
 
     @Override
     public void processOpts() {
+        // the native library requires Java 11, so use the java.time classes unless told otherwise
+        if (NATIVE.equals(getLibrary()) && !additionalProperties.containsKey(DATE_LIBRARY)) {
+            setDateLibrary("java8");
+        }
+
         super.processOpts();
 
         if (additionalProperties.containsKey(USE_RX_JAVA) && additionalProperties.containsKey(USE_RX_JAVA2)) {
@@ -157,6 +196,27 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             this.setUseRuntimeException(convertPropertyToBooleanAndWriteBack(USE_RUNTIME_EXCEPTION));
         }
 
+        if (additionalProperties.containsKey(BUFFER_RESPONSE_BODY)) {
+            this.setBufferResponseBody(convertPropertyToBooleanAndWriteBack(BUFFER_RESPONSE_BODY));
+        }
+
+        if (additionalProperties.containsKey(GENERATE_TYPE_ADAPTERS)) {
+            this.setGenerateTypeAdapters(convertPropertyToBooleanAndWriteBack(GENERATE_TYPE_ADAPTERS));
+        }
+
+        setMaxIdleConnections(convertPropertyToIntAndWriteBack(MAX_IDLE_CONNECTIONS, maxIdleConnections, 0));
+        setMaxConnectionsPerHost(convertPropertyToIntAndWriteBack(MAX_CONNECTIONS_PER_HOST, maxConnectionsPerHost, 1));
+        setKeepAliveDuration(convertPropertyToIntAndWriteBack(KEEP_ALIVE_DURATION, (int) keepAliveDuration, 1));
+        setConnectTimeout(convertPropertyToIntAndWriteBack(CONNECT_TIMEOUT, connectTimeout, 0));
+        setReadTimeout(convertPropertyToIntAndWriteBack(READ_TIMEOUT, readTimeout, 0));
+        // the templates only set the timeouts which were given
+        if (connectTimeout == 0) {
+            additionalProperties.remove(CONNECT_TIMEOUT);
+        }
+        if (readTimeout == 0) {
+            additionalProperties.remove(READ_TIMEOUT);
+        }
+
         final String invokerFolder = (sourceFolder + '/' + invokerPackage).replace(".", "/");
         final String authFolder = (sourceFolder + '/' + invokerPackage + ".auth").replace(".", "/");
         final String apiFolder = (sourceFolder + '/' + apiPackage).replace(".", "/");
@@ -259,6 +319,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             supportingFiles.add(new SupportingFile("ResponseSpecBuilders.mustache", invokerFolder, "ResponseSpecBuilders.java"));
             supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
             supportingFiles.add(new SupportingFile("GsonObjectMapper.mustache", invokerFolder, "GsonObjectMapper.java"));
+        } else if (NATIVE.equals(getLibrary())) {
+            setJava8Mode(true);
+            additionalProperties.put("java8", "true");
+            additionalProperties.put("jackson", "true");
+            supportingFiles.add(new SupportingFile("JSON.mustache", invokerFolder, "JSON.java"));
+            supportingFiles.add(new SupportingFile("ApiResponse.mustache", invokerFolder, "ApiResponse.java"));
+            // java.net.http isn't available on Android
+            supportingFiles.remove(new SupportingFile("manifest.mustache", projectFolder, "AndroidManifest.xml"));
         } else {
             LOGGER.error("Unknown library option (-l/--library): " + getLibrary());
         }
@@ -302,6 +370,14 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             additionalProperties.remove("gson");
         }
 
+        // the adapters are registered by the JSON class of these libraries
+        if (generateTypeAdapters && (usePlayWS || !("okhttp-gson".equals(getLibrary())
+                || StringUtils.isEmpty(getLibrary()) || RETROFIT_2.equals(getLibrary())))) {
+            LOGGER.warn(GENERATE_TYPE_ADAPTERS + " is only supported by the okhttp-gson and retrofit2 libraries, ignoring it");
+            setGenerateTypeAdapters(false);
+            additionalProperties.put(GENERATE_TYPE_ADAPTERS, false);
+        }
+
         if (additionalProperties.containsKey("jackson")) {
             supportingFiles.add(new SupportingFile("RFC3339DateFormat.mustache", invokerFolder, "RFC3339DateFormat.java"));
             if ("threetenbp".equals(dateLibrary) && !usePlayWS) {
@@ -310,6 +386,28 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         }
     }
 
+    /**
+     * Reads an integer option of at least the given minimum, falling back to the default when it's missing or invalid,
+     * and puts the value back to additionalProperties.
+     */
+    private int convertPropertyToIntAndWriteBack(String propertyKey, int defaultValue, int minimum) {
+        int value = defaultValue;
+        if (additionalProperties.containsKey(propertyKey)) {
+            try {
+                value = Integer.parseInt(additionalProperties.get(propertyKey).toString().trim());
+            } catch (NumberFormatException e) {
+                value = minimum - 1;
+            }
+            if (value < minimum) {
+                LOGGER.warn("Invalid value for " + propertyKey + ": " + additionalProperties.get(propertyKey)
+                        + ", using " + defaultValue + " instead");
+                value = defaultValue;
+            }
+        }
+        additionalProperties.put(propertyKey, value);
+        return value;
+    }
+
     private boolean usesAnyRetrofitLibrary() {
         return getLibrary() != null && getLibrary().contains(RETROFIT_1);
     }
@@ -492,9 +590,62 @@ public class JavaClientCodegen extends AbstractJavaCodegen
             }
             additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
         }
+        if (generateTypeAdapters) {
+            for (Object models : allProcessedModels.values()) {
+                addGsonTypeAdapter((Map<String, Object>) models);
+            }
+        }
         return allProcessedModels;
     }
 
+    @SuppressWarnings("unchecked")
+    private void addGsonTypeAdapter(Map<String, Object> models) {
+        List<Map<String, String>> imports = (List<Map<String, String>>) models.get("imports");
+        for (Object mo : (List<Object>) models.get("models")) {
+            CodegenModel cm = (CodegenModel) ((Map<String, Object>) mo).get("model");
+            if (!hasGsonTypeAdapter(cm)) {
+                continue;
+            }
+            putVendorExtension(cm, GSON_TYPE_ADAPTER_EXTENSION);
+            List<String> adapterImports = new ArrayList<String>(Arrays.asList("com.google.gson.Gson",
+                    "com.google.gson.JsonObject", "com.google.gson.TypeAdapter", "com.google.gson.TypeAdapterFactory",
+                    "com.google.gson.reflect.TypeToken", "com.google.gson.stream.JsonReader",
+                    "com.google.gson.stream.JsonToken", "com.google.gson.stream.JsonWriter", "java.io.IOException",
+                    "java.io.StringReader"));
+            if (cm.children != null && !cm.children.isEmpty()) {
+                putVendorExtension(cm, GSON_SUBTYPES_EXTENSION);
+            }
+            if (cm.discriminator != null && cm.children != null && !cm.children.isEmpty()) {
+                putVendorExtension(cm, GSON_DISCRIMINATOR_EXTENSION);
+                adapterImports.addAll(Arrays.asList("com.google.gson.JsonElement", "com.google.gson.JsonParseException"));
+            }
+            if (imports == null) {
+                continue;
+            }
+            for (Map<String, String> item : imports) {
+                adapterImports.remove(item.get("import"));
+            }
+            for (String adapterImport : adapterImports) {
+                Map<String, String> item = new HashMap<String, String>();
+                item.put("import", adapterImport);
+                imports.add(item);
+            }
+        }
+    }
+
+    /**
+     * Models extending a container, such as array models, keep the adapters Gson has for containers.
+     */
+    private static boolean hasGsonTypeAdapter(CodegenModel cm) {
+        for (CodegenModel model = cm; model != null; model = model.parentModel) {
+            if (BooleanUtils.toBoolean(model.isEnum) || model.isArrayModel
+                    || (model.parent != null && model.parentModel == null)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public Map<String, Object> postProcessModelsEnum(Map<String, Object> objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -512,11 +663,51 @@ public class JavaClientCodegen extends AbstractJavaCodegen
                     item.put("import", importMapping.get("SerializedName"));
                     imports.add(item);
                 }
+                if (generateTypeAdapters) {
+                    markStringEnums(cm);
+                }
             }
         }
         return objs;
     }
 
+    private static void markStringEnums(CodegenModel cm) {
+        if (Boolean.TRUE.equals(cm.isEnum) && "String".equals(cm.dataType) && hasDistinctValues(cm.allowableValues)) {
+            putVendorExtension(cm, STRING_ENUM_EXTENSION);
+        }
+        for (CodegenProperty var : cm.vars) {
+            markStringEnum(var);
+            markStringEnum(var.items);
+        }
+    }
+
+    /**
+     * The values of an enum are switch labels, so they have to be distinct and not null.
+     */
+    private static boolean hasDistinctValues(Map<String, Object> allowableValues) {
+        if (allowableValues == null || !(allowableValues.get("values") instanceof List)) {
+            return false;
+        }
+        List<?> values = (List<?>) allowableValues.get("values");
+        return !values.contains(null) && new HashSet<Object>(values).size() == values.size();
+    }
+
+    private static void putVendorExtension(CodegenModel cm, String name) {
+        if (cm.vendorExtensions == null) {
+            cm.vendorExtensions = new HashMap<String, Object>();
+        }
+        cm.vendorExtensions.put(name, true);
+    }
+
+    private static void markStringEnum(CodegenProperty property) {
+        if (property != null && property.isEnum && property.isString && hasDistinctValues(property.allowableValues)) {
+            if (property.vendorExtensions == null) {
+                property.vendorExtensions = new HashMap<String, Object>();
+            }
+            property.vendorExtensions.put(STRING_ENUM_EXTENSION, true);
+        }
+    }
+
     private List<Map<String, Object>> modelInheritanceSupportInGson(List<?> allModels) {
         LinkedListMultimap<CodegenModel, CodegenModel> byParent = LinkedListMultimap.create();
         for (Object m : allModels) {
@@ -587,6 +778,34 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         this.useRuntimeException = useRuntimeException;
     }
 
+    public void setBufferResponseBody(boolean bufferResponseBody) {
+        this.bufferResponseBody = bufferResponseBody;
+    }
+
+    public void setGenerateTypeAdapters(boolean generateTypeAdapters) {
+        this.generateTypeAdapters = generateTypeAdapters;
+    }
+
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    public void setMaxConnectionsPerHost(int maxConnectionsPerHost) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+    }
+
+    public void setKeepAliveDuration(long keepAliveDuration) {
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
     final private static Pattern JSON_MIME_PATTERN = Pattern.compile("(?i)application\\/json(;.*)?");
     final private static Pattern JSON_VENDOR_MIME_PATTERN = Pattern.compile("(?i)application\\/vnd.(.*)+json(;.*)?");
 
@@ -26,11 +26,13 @@ import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 public class PythonClientCodegen extends DefaultCodegen implements CodegenConfig {
     public static final String PACKAGE_URL = "packageUrl";
     public static final String DEFAULT_LIBRARY = "urllib3";
+    public static final String USE_SLOTS = "useSlots";
 
     protected String packageName; // e.g. petstore_api
     protected String packageVersion;
     protected String projectName; // for setup.py, e.g. petstore-api
     protected String packageUrl;
+    protected boolean useSlots = true;
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
@@ -132,6 +134,9 @@ public class PythonClientCodegen extends DefaultCodegen implements CodegenConfig
                 CodegenConstants.SORT_PARAMS_BY_REQUIRED_FLAG_DESC).defaultValue(Boolean.TRUE.toString()));
         cliOptions.add(new CliOption(CodegenConstants.HIDE_GENERATION_TIMESTAMP, CodegenConstants.HIDE_GENERATION_TIMESTAMP_DESC)
                 .defaultValue(Boolean.TRUE.toString()));
+        cliOptions.add(CliOption.newBoolean(USE_SLOTS, "Declare the attributes of the models with __slots__, "
+                + "which makes them smaller and faster to create, but doesn't allow setting other attributes.")
+                .defaultValue(Boolean.TRUE.toString()));
 
         supportedLibraries.put("urllib3", "urllib3-based client");
         supportedLibraries.put("asyncio", "Asyncio-based client (python 3.5+)");
@@ -186,6 +191,11 @@ public class PythonClientCodegen extends DefaultCodegen implements CodegenConfig
             setPackageUrl((String) additionalProperties.get(PACKAGE_URL));
         }
 
+        if (additionalProperties.containsKey(USE_SLOTS)) {
+            setUseSlots(convertPropertyToBooleanAndWriteBack(USE_SLOTS));
+        }
+        additionalProperties.put(USE_SLOTS, useSlots);
+
         supportingFiles.add(new SupportingFile("README.mustache", "", "README.md"));
 
         supportingFiles.add(new SupportingFile("tox.mustache", "", "tox.ini"));
@@ -525,6 +535,10 @@ public class PythonClientCodegen extends DefaultCodegen implements CodegenConfig
         this.packageUrl = packageUrl;
     }
 
+    public void setUseSlots(boolean useSlots) {
+        this.useSlots = useSlots;
+    }
+
     /**
      * Generate Python package name from String `packageName`
      *
@@ -52,7 +52,7 @@ public class RubyClientCodegen extends DefaultCodegen implements CodegenConfig {
     protected String apiDocPath = "docs/";
     protected String modelDocPath = "docs/";
 
-    protected static int emptyMethodNameCounter = 0;
+    protected int emptyMethodNameCounter = 0;
 
     public RubyClientCodegen() {
         super();
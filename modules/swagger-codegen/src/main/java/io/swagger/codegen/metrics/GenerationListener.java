@@ -0,0 +1,57 @@
+package io.swagger.codegen.metrics;
+
+import io.swagger.codegen.CodegenConfig;
+
+/**
+ * Receives timings of a generation run. Set it with
+ * {@link io.swagger.codegen.ClientOptInput#generationListener(GenerationListener)}, see
+ * {@link GenerationMetrics} for an implementation collecting a report.
+ *
+ * Phase timings are measured on the thread running the generation. Templates are rendered and
+ * written on the rendering threads when more than one thread is configured, so implementations
+ * must be thread safe. Allocated byte counts are -1 if the JVM can't measure them.
+ */
+public interface GenerationListener {
+
+    /**
+     * Called when the generator starts, after the options have been applied.
+     *
+     * @param config the generator
+     */
+    void generationStarted(CodegenConfig config);
+
+    /**
+     * @param phase the completed phase
+     * @param elapsedNanos wall time of the phase
+     * @param allocatedBytes bytes allocated by the generating thread during the phase
+     */
+    void phaseFinished(GenerationPhase phase, long elapsedNanos, long allocatedBytes);
+
+    /**
+     * Called for every template rendered into a file. The time covers template execution,
+     * including partials and the encoding of the output, but not opening and storing the file.
+     *
+     * @param templateFile resolved path of the template, null if the caller didn't provide it
+     * @param outputFile the generated file
+     * @param elapsedNanos time spent executing the template
+     * @param allocatedBytes bytes allocated while executing the template
+     */
+    void templateRendered(String templateFile, String outputFile, long elapsedNanos, long allocatedBytes);
+
+    /**
+     * Called for every file written through the output sink, for rendered files as well as for
+     * copied ones.
+     *
+     * @param outputFile the generated file
+     * @param elapsedNanos time spent opening and storing the file, and copying its content for
+     *                     files not rendered from a template
+     * @param bytes size of the file
+     */
+    void fileWritten(String outputFile, long elapsedNanos, long bytes);
+
+    /**
+     * @param elapsedNanos wall time of the whole generation, excluding spec parsing
+     * @param allocatedBytes bytes allocated by the generating thread
+     */
+    void generationFinished(long elapsedNanos, long allocatedBytes);
+}
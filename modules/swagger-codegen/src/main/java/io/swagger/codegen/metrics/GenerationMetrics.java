@@ -0,0 +1,201 @@
+package io.swagger.codegen.metrics;
+
+import io.swagger.codegen.CodegenConfig;
+import io.swagger.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the timings of a generation run and turns them into a JSON report:
+ *
+ * <pre>
+ * {
+ *   "generator" : "java",
+ *   "library" : "okhttp-gson",
+ *   "totalMillis" : 1520.4,
+ *   "allocatedBytes" : 412056128,
+ *   "phases" : { "parse" : { "millis" : 210.3, "allocatedBytes" : 50331648 }, ... },
+ *   "rendering" : { "files" : 212, "millis" : 640.2, "allocatedBytes" : 201326592 },
+ *   "io" : { "files" : 230, "millis" : 95.1, "bytes" : 1843200 },
+ *   "templates" : [ { "template" : "Java/model.mustache", "renders" : 100, "millis" : 320.7, "allocatedBytes" : 98566144 }, ... ]
+ * }
+ * </pre>
+ *
+ * Rendering and io times are summed over all files, so with several rendering threads they can
+ * exceed the wall time. Templates are listed slowest first.
+ */
+public class GenerationMetrics implements GenerationListener {
+    private String generator;
+    private String library;
+    private long totalNanos;
+    private long totalBytes = -1;
+    private final Map<GenerationPhase, Counter> phases = new EnumMap<GenerationPhase, Counter>(GenerationPhase.class);
+    private final Map<String, Counter> templates = new HashMap<String, Counter>();
+    private final Counter rendering = new Counter();
+    private final Counter io = new Counter();
+
+    @Override
+    public synchronized void generationStarted(CodegenConfig config) {
+        generator = config.getName();
+        library = config.getLibrary();
+    }
+
+    @Override
+    public synchronized void phaseFinished(GenerationPhase phase, long elapsedNanos, long allocatedBytes) {
+        Counter counter = phases.get(phase);
+        if (counter == null) {
+            counter = new Counter();
+            phases.put(phase, counter);
+        }
+        counter.add(elapsedNanos, allocatedBytes);
+    }
+
+    @Override
+    public synchronized void templateRendered(String templateFile, String outputFile, long elapsedNanos, long allocatedBytes) {
+        if (templateFile != null) {
+            Counter counter = templates.get(templateFile);
+            if (counter == null) {
+                counter = new Counter();
+                templates.put(templateFile, counter);
+            }
+            counter.add(elapsedNanos, allocatedBytes);
+        }
+        rendering.add(elapsedNanos, allocatedBytes);
+    }
+
+    @Override
+    public synchronized void fileWritten(String outputFile, long elapsedNanos, long bytes) {
+        io.add(elapsedNanos, bytes);
+    }
+
+    @Override
+    public synchronized void generationFinished(long elapsedNanos, long allocatedBytes) {
+        totalNanos = elapsedNanos;
+        totalBytes = allocatedBytes;
+    }
+
+    /**
+     * @param phase a generation phase
+     * @return the time spent in the phase, 0 if it wasn't reported
+     */
+    public synchronized long getPhaseNanos(GenerationPhase phase) {
+        Counter counter = phases.get(phase);
+        return counter != null ? counter.nanos : 0L;
+    }
+
+    /**
+     * @param templateFile resolved path of a template
+     * @return how often the template was rendered
+     */
+    public synchronized int getRenderCount(String templateFile) {
+        Counter counter = templates.get(templateFile);
+        return counter != null ? counter.count : 0;
+    }
+
+    /**
+     * @return the number of files written
+     */
+    public synchronized int getFilesWritten() {
+        return io.count;
+    }
+
+    /**
+     * @return the report as nested maps and lists, see the class documentation for its structure
+     */
+    public synchronized Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<String, Object>();
+        report.put("generator", generator);
+        report.put("library", library);
+        report.put("totalMillis", millis(totalNanos));
+        report.put("allocatedBytes", totalBytes);
+
+        Map<String, Object> phaseReport = new LinkedHashMap<String, Object>();
+        for (Map.Entry<GenerationPhase, Counter> entry : phases.entrySet()) {
+            Map<String, Object> phase = new LinkedHashMap<String, Object>();
+            phase.put("millis", millis(entry.getValue().nanos));
+            phase.put("allocatedBytes", entry.getValue().amount);
+            phaseReport.put(entry.getKey().getName(), phase);
+        }
+        report.put("phases", phaseReport);
+
+        Map<String, Object> renderingReport = new LinkedHashMap<String, Object>();
+        renderingReport.put("files", rendering.count);
+        renderingReport.put("millis", millis(rendering.nanos));
+        renderingReport.put("allocatedBytes", rendering.amount);
+        report.put("rendering", renderingReport);
+
+        Map<String, Object> ioReport = new LinkedHashMap<String, Object>();
+        ioReport.put("files", io.count);
+        ioReport.put("millis", millis(io.nanos));
+        ioReport.put("bytes", io.amount);
+        report.put("io", ioReport);
+
+        List<Map.Entry<String, Counter>> sorted = new ArrayList<Map.Entry<String, Counter>>(templates.entrySet());
+        Collections.sort(sorted, new Comparator<Map.Entry<String, Counter>>() {
+            @Override
+            public int compare(Map.Entry<String, Counter> one, Map.Entry<String, Counter> another) {
+                int result = Long.compare(another.getValue().nanos, one.getValue().nanos);
+                return result != 0 ? result : one.getKey().compareTo(another.getKey());
+            }
+        });
+        List<Map<String, Object>> templateReport = new ArrayList<Map<String, Object>>();
+        for (Map.Entry<String, Counter> entry : sorted) {
+            Map<String, Object> template = new LinkedHashMap<String, Object>();
+            template.put("template", entry.getKey());
+            template.put("renders", entry.getValue().count);
+            template.put("millis", millis(entry.getValue().nanos));
+            template.put("allocatedBytes", entry.getValue().amount);
+            templateReport.add(template);
+        }
+        report.put("templates", templateReport);
+        return report;
+    }
+
+    public String toJson() {
+        try {
+            return Json.pretty().writeValueAsString(toReport());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not serialize generation metrics", e);
+        }
+    }
+
+    /**
+     * Write the JSON report, creating parent folders as needed.
+     *
+     * @param file the report file
+     * @throws IOException if the file can't be written
+     */
+    public void writeReport(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Json.pretty().writeValue(file, toReport());
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1000.0) / 1000.0;
+    }
+
+    private static class Counter {
+        private int count;
+        private long nanos;
+        // allocated bytes, or the file size for io; -1 once an unknown amount was added
+        private long amount;
+
+        void add(long elapsedNanos, long added) {
+            count++;
+            nanos += elapsedNanos;
+            amount = amount < 0 || added < 0 ? -1 : amount + added;
+        }
+    }
+}
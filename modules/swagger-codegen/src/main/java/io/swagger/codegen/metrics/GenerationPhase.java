@@ -0,0 +1,36 @@
+package io.swagger.codegen.metrics;
+
+/**
+ * The steps of a generation run, in the order they are executed.
+ */
+public enum GenerationPhase {
+    /** Reading and parsing the spec, done by {@link io.swagger.codegen.config.CodegenConfigurator}. */
+    PARSE("parse"),
+    /** Applying the generator options, {@code processOpts()} and {@code preprocessSwagger()} included. */
+    CONFIGURE("configure"),
+    /** Moving inline schemas into definitions, see {@link io.swagger.codegen.InlineModelResolver}. */
+    FLATTEN("flatten"),
+    /** Converting definitions into codegen models. */
+    MODELS("models"),
+    /** {@code postProcessAllModels()} of the generator. */
+    POST_PROCESS_MODELS("postProcessAllModels"),
+    /** Converting paths into codegen operations, {@code postProcessOperations()} included. */
+    OPERATIONS("operations"),
+    /** Building the data of the supporting files. */
+    SUPPORTING_FILES("supportingFiles");
+
+    private final String name;
+
+    GenerationPhase(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
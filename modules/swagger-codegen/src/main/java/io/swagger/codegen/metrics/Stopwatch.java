@@ -0,0 +1,83 @@
+package io.swagger.codegen.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures wall time and the bytes allocated by the current thread. A stopwatch can be started and
+ * stopped several times to sum up interleaved sections; it must be used by a single thread.
+ *
+ * Allocations are read from the HotSpot specific {@code com.sun.management.ThreadMXBean}; on other
+ * JVMs, or if allocation measurement is disabled, {@link #getAllocatedBytes()} returns -1.
+ */
+public class Stopwatch {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+    private long elapsedNanos;
+    private long allocatedBytes;
+    private long startNanos;
+    private long startBytes;
+    private boolean running;
+
+    /**
+     * @return a new, running stopwatch
+     */
+    public static Stopwatch started() {
+        return new Stopwatch().start();
+    }
+
+    public Stopwatch start() {
+        if (!running) {
+            running = true;
+            startBytes = currentThreadAllocatedBytes();
+            startNanos = System.nanoTime();
+        }
+        return this;
+    }
+
+    public Stopwatch stop() {
+        if (running) {
+            elapsedNanos += System.nanoTime() - startNanos;
+            allocatedBytes += currentThreadAllocatedBytes() - startBytes;
+            running = false;
+        }
+        return this;
+    }
+
+    /**
+     * @return the measured time, up to now if the stopwatch is running
+     */
+    public long getElapsedNanos() {
+        return running ? elapsedNanos + System.nanoTime() - startNanos : elapsedNanos;
+    }
+
+    /**
+     * @return the bytes allocated by the thread while the stopwatch was running, or -1 if the JVM
+     * can't measure allocations
+     */
+    public long getAllocatedBytes() {
+        if (THREADS == null) {
+            return -1;
+        }
+        return running ? allocatedBytes + currentThreadAllocatedBytes() - startBytes : allocatedBytes;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+                if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                    return threads;
+                }
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // com.sun.management is not available on this JVM
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package io.swagger.codegen.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Base class of sinks which collect each output file in memory until its stream is closed and then
+ * store it under its path relative to the output folder, using '/' as separator.
+ */
+public abstract class BufferingOutputSink implements OutputSink {
+    private final Path outputDir;
+
+    /**
+     * @param outputDir the output folder of the generator, file names are stored relative to it
+     */
+    protected BufferingOutputSink(String outputDir) {
+        this.outputDir = Paths.get(outputDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public boolean exists(String filename) {
+        return contains(relativePath(filename));
+    }
+
+    @Override
+    public OutputStream open(String filename) throws IOException {
+        final String path = relativePath(filename);
+        return new ByteArrayOutputStream() {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (!closed) {
+                    closed = true;
+                    store(path, toByteArray());
+                }
+            }
+        };
+    }
+
+    @Override
+    public void abort(OutputStream out) {
+        // nothing stored yet
+    }
+
+    /**
+     * @param filename output file name
+     * @return String the path of the file relative to the output folder
+     */
+    public String relativePath(String filename) {
+        Path path = Paths.get(filename).toAbsolutePath().normalize();
+        if (path.startsWith(outputDir)) {
+            path = outputDir.relativize(path);
+        }
+        return path.toString().replace(File.separatorChar, '/');
+    }
+
+    protected abstract boolean contains(String path);
+
+    protected abstract void store(String path, byte[] contents) throws IOException;
+}
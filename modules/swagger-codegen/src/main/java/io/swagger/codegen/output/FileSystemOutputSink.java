@@ -0,0 +1,53 @@
+package io.swagger.codegen.output;
+
+import io.swagger.codegen.utils.UpdatingFileOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes output files to disk. Files whose content doesn't change are left untouched, see
+ * {@link UpdatingFileOutputStream}.
+ */
+public class FileSystemOutputSink implements OutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemOutputSink.class);
+
+    @Override
+    public boolean exists(String filename) {
+        return new File(filename).exists();
+    }
+
+    @Override
+    public OutputStream open(String filename) throws IOException {
+        return new LoggingFileOutputStream(new File(filename));
+    }
+
+    @Override
+    public void abort(OutputStream out) {
+        ((UpdatingFileOutputStream) out).abort();
+    }
+
+    private static class LoggingFileOutputStream extends UpdatingFileOutputStream {
+        private boolean logged;
+
+        LoggingFileOutputStream(File file) throws IOException {
+            super(file);
+        }
+
+        @Override
+        public void close() throws IOException {
+            super.close();
+            if (!logged) {
+                logged = true;
+                if (isChanged()) {
+                    LOGGER.info("writing file " + getFile().getPath());
+                } else {
+                    LOGGER.info("skipped unchanged file " + getFile().getPath());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.swagger.codegen.output;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the output files in memory, keyed by their path relative to the output folder, in the
+ * order they were generated.
+ */
+public class InMemoryOutputSink extends BufferingOutputSink {
+    private final Map<String, byte[]> files = new LinkedHashMap<String, byte[]>();
+
+    public InMemoryOutputSink(String outputDir) {
+        super(outputDir);
+    }
+
+    /**
+     * @return a copy of the generated files, keyed by relative path
+     */
+    public synchronized Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableMap(new LinkedHashMap<String, byte[]>(files));
+    }
+
+    /**
+     * @param path path relative to the output folder, using '/' as separator
+     * @return the content of the file, or null if it wasn't generated
+     */
+    public synchronized byte[] getFile(String path) {
+        return files.get(path);
+    }
+
+    @Override
+    protected synchronized boolean contains(String path) {
+        return files.containsKey(path);
+    }
+
+    @Override
+    protected synchronized void store(String path, byte[] contents) {
+        files.put(path, contents);
+    }
+}
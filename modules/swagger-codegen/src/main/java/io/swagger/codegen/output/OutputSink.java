@@ -0,0 +1,38 @@
+package io.swagger.codegen.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Destination of the files produced by a generator. Output file names are the paths the generator
+ * computes from the configured output folder; a sink decides where their content ends up: on the
+ * file system ({@link FileSystemOutputSink}, the default), in memory ({@link InMemoryOutputSink}) or
+ * in a zip stream ({@link ZipOutputSink}).
+ *
+ * Implementations must be thread safe, files may be written concurrently when rendering in parallel.
+ */
+public interface OutputSink {
+
+    /**
+     * @param filename output file name
+     * @return true if the sink already holds the given file
+     */
+    boolean exists(String filename);
+
+    /**
+     * Open a stream receiving the content of an output file. The content is committed once the
+     * stream is closed.
+     *
+     * @param filename output file name
+     * @return OutputStream the file content stream
+     * @throws IOException if the file can't be opened
+     */
+    OutputStream open(String filename) throws IOException;
+
+    /**
+     * Discard a stream returned by {@link #open(String)} whose content could not be completed.
+     *
+     * @param out the stream to discard
+     */
+    void abort(OutputStream out);
+}
@@ -0,0 +1,52 @@
+package io.swagger.codegen.output;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes every output file as an entry of a zip stream as soon as it is complete, so that a
+ * generated project can be packaged without writing it to disk first. The caller owns the zip
+ * stream and closes it once generation has finished.
+ *
+ * A zip entry can't be replaced; if a file is written a second time, the first content is kept.
+ */
+public class ZipOutputSink extends BufferingOutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ZipOutputSink.class);
+
+    private final ZipOutputStream zip;
+    private final String prefix;
+    private final Set<String> entries = new HashSet<String>();
+
+    /**
+     * @param zip the zip stream receiving the files
+     * @param outputDir the output folder of the generator
+     * @param prefix folder prepended to every entry name, may be null
+     */
+    public ZipOutputSink(ZipOutputStream zip, String outputDir, String prefix) {
+        super(outputDir);
+        this.zip = zip;
+        this.prefix = prefix == null || prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @Override
+    protected synchronized boolean contains(String path) {
+        return entries.contains(path);
+    }
+
+    @Override
+    protected synchronized void store(String path, byte[] contents) throws IOException {
+        if (!entries.add(path)) {
+            LOGGER.warn("zip already contains " + path + ", keeping the first version");
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(prefix == null ? path : prefix + path));
+        zip.write(contents);
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,49 @@
+package io.swagger.codegen.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread safe memoization map holding at most a fixed number of entries. When the limit is
+ * reached, the cache is emptied and starts over, which keeps lookups free of any bookkeeping.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+    private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<K, V>();
+    private final int maxSize;
+
+    public BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @param key the key
+     * @return the cached value, or null
+     */
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @param key the key
+     * @param value the value to cache
+     * @return the given value
+     */
+    public V put(K key, V value) {
+        if (entries.size() >= maxSize) {
+            entries.clear();
+        }
+        entries.put(key, value);
+        return value;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,186 @@
+package io.swagger.codegen.utils;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * An output stream to a file which only touches the file if the written content differs from
+ * what the file already contains.
+ *
+ * While the written bytes match the existing file, they are only compared, not written. On the
+ * first difference the matching prefix is copied into a temporary file next to the target, the
+ * rest of the content is written there, and the temporary file replaces the target on
+ * {@link #close()}. New files are written directly. Memory use does not depend on the file size.
+ *
+ * If the content could not be produced completely, {@link #abort()} leaves the target as it was.
+ */
+public class UpdatingFileOutputStream extends OutputStream {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final File file;
+    private final byte[] buffer = new byte[CHUNK_SIZE];
+    private InputStream existing;
+    private OutputStream out;
+    private File tempFile;
+    private long position;
+    private boolean created;
+    private boolean changed = true;
+    private boolean closed;
+
+    public UpdatingFileOutputStream(File file) throws IOException {
+        this.file = file;
+        if (file.isFile()) {
+            existing = new BufferedInputStream(new FileInputStream(file));
+        } else {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            out = new BufferedOutputStream(new FileOutputStream(file));
+            created = true;
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (existing != null) {
+            if (existing.read() == (b & 0xff)) {
+                position++;
+                return;
+            }
+            diverge();
+        }
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (existing != null && len > 0) {
+            int chunk = Math.min(len, CHUNK_SIZE);
+            int matched = matchExisting(b, off, chunk);
+            position += matched;
+            off += matched;
+            len -= matched;
+            if (matched < chunk) {
+                diverge();
+            }
+        }
+        if (len > 0) {
+            out.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (existing != null) {
+                if (existing.read() == -1) {
+                    // same content, leave the file alone
+                    existing.close();
+                    existing = null;
+                    changed = false;
+                } else {
+                    // the existing file is longer than the new content
+                    diverge();
+                }
+            }
+            if (out != null) {
+                out.close();
+            }
+            if (tempFile != null) {
+                replaceTarget();
+            }
+        } finally {
+            IOUtils.closeQuietly(existing);
+            if (tempFile != null && tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    /**
+     * Discard everything written so far: a file that existed before is left unchanged, a file
+     * created by this stream is removed.
+     */
+    public void abort() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        changed = false;
+        IOUtils.closeQuietly(existing);
+        IOUtils.closeQuietly(out);
+        if (tempFile != null) {
+            tempFile.delete();
+        } else if (created) {
+            file.delete();
+        }
+    }
+
+    /**
+     * @return true if the file was created or its content changed, false if it was left untouched
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    private int matchExisting(byte[] b, int off, int len) throws IOException {
+        int read = IOUtils.read(existing, buffer, 0, len);
+        for (int i = 0; i < read; i++) {
+            if (buffer[i] != b[off + i]) {
+                return i;
+            }
+        }
+        return read;
+    }
+
+    private void diverge() throws IOException {
+        existing.close();
+        existing = null;
+        File parent = file.getAbsoluteFile().getParentFile();
+        tempFile = File.createTempFile("." + file.getName(), ".tmp", parent);
+        out = new BufferedOutputStream(new FileOutputStream(tempFile));
+        if (position > 0) {
+            InputStream prefix = new FileInputStream(file);
+            try {
+                IOUtils.copyLarge(prefix, out, 0, position);
+            } finally {
+                prefix.close();
+            }
+        }
+    }
+
+    private void replaceTarget() throws IOException {
+        try {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
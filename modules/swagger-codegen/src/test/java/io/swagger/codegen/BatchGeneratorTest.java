@@ -0,0 +1,101 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.config.CodegenConfigurator;
+import org.apache.commons.io.FileUtils;
+import org.junit.rules.TemporaryFolder;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class BatchGeneratorTest {
+
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        folder.create();
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        folder.delete();
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        final File javaOutput = new File(folder.getRoot(), "java");
+        final File pythonOutput = new File(folder.getRoot(), "python");
+        final File failedOutput = new File(folder.getRoot(), "failed");
+
+        List<BatchGenerator.Result> results = new BatchGenerator(3).generate(Arrays.asList(
+                job("java", javaOutput), job("python", pythonOutput), job("no-such-language", failedOutput)));
+
+        assertEquals(results.size(), 3);
+        assertTrue(results.get(0).isSuccessful());
+        assertNull(results.get(0).getError());
+        assertFalse(results.get(0).getFiles().isEmpty());
+        assertTrue(new File(javaOutput, "src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertTrue(results.get(1).isSuccessful());
+        assertTrue(new File(pythonOutput, "swagger_client/models/pet.py").exists());
+        assertFalse(results.get(2).isSuccessful());
+        assertNotNull(results.get(2).getError());
+        assertTrue(results.get(2).getFiles().isEmpty());
+        assertFalse(failedOutput.exists());
+    }
+
+    @Test
+    public void testSameLanguageConcurrently() throws Exception {
+        final File first = new File(folder.getRoot(), "first");
+        final File second = new File(folder.getRoot(), "second");
+        CodegenConfigurator secondJob = job("java", second);
+        secondJob.setModelPackage("com.example.model");
+
+        List<BatchGenerator.Result> results = new BatchGenerator(2).generate(Arrays.asList(job("java", first), secondJob));
+
+        assertTrue(results.get(0).isSuccessful());
+        assertTrue(results.get(1).isSuccessful());
+        assertEquals(results.get(0).getFiles().size(), results.get(1).getFiles().size());
+        assertTrue(new File(first, "src/main/java/io/swagger/client/model/Pet.java").exists());
+        assertFalse(new File(first, "src/main/java/com/example/model/Pet.java").exists());
+        assertTrue(new File(second, "src/main/java/com/example/model/Pet.java").exists());
+    }
+
+    @Test
+    public void testReadJobs() throws Exception {
+        final File json = folder.newFile("batch.json");
+        FileUtils.writeStringToFile(json, "[{\"lang\": \"java\", \"inputSpec\": \"petstore.yaml\", \"outputDir\": \"out/java\","
+                + " \"library\": \"okhttp-gson\", \"dateLibrary\": \"java8\"},"
+                + " {\"lang\": \"python\", \"inputSpec\": \"petstore.yaml\", \"outputDir\": \"out/python\"}]", StandardCharsets.UTF_8);
+        final File yaml = folder.newFile("batch.yaml");
+        FileUtils.writeStringToFile(yaml, "- lang: ruby\n  inputSpec: petstore.yaml\n  outputDir: out/ruby\n", StandardCharsets.UTF_8);
+
+        List<CodegenConfigurator> jobs = BatchGenerator.readJobs(json);
+        assertEquals(jobs.size(), 2);
+        assertEquals(jobs.get(0).getLang(), "java");
+        assertEquals(jobs.get(0).getLibrary(), "okhttp-gson");
+        assertEquals(jobs.get(0).getDynamicProperties().get("dateLibrary"), "java8");
+        assertEquals(jobs.get(1).getLang(), "python");
+
+        jobs = BatchGenerator.readJobs(yaml);
+        assertEquals(jobs.size(), 1);
+        assertEquals(jobs.get(0).getLang(), "ruby");
+    }
+
+    private static CodegenConfigurator job(String lang, File output) {
+        return new CodegenConfigurator()
+                .setLang(lang)
+                .setInputSpec("src/test/resources/2_0/petstore.yaml")
+                .setOutputDir(output.getAbsolutePath());
+    }
+}
@@ -4,12 +4,19 @@ import org.reflections.Reflections;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.InputStream;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeMap;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
 public class CodegenConfigLoaderTest {
@@ -55,4 +62,76 @@ public class CodegenConfigLoaderTest {
 
 
     }
+
+    @Test
+    public void testNewInstancePerLookup() throws Exception {
+        final CodegenConfig first = CodegenConfigLoader.forName("java");
+        final CodegenConfig second = CodegenConfigLoader.forName("java");
+
+        assertNotSame(first, second);
+        first.additionalProperties().put("testNewInstancePerLookup", true);
+        assertTrue(!second.additionalProperties().containsKey("testNewInstancePerLookup"));
+    }
+
+    @Test
+    public void testGetAll() throws Exception {
+        final List<String> names = CodegenConfigLoader.getNames();
+        final List<CodegenConfig> configs = CodegenConfigLoader.getAll();
+
+        assertTrue(names.contains("java"));
+        assertEquals(configs.size(), names.size());
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals(configs.get(i).getName(), names.get(i));
+        }
+        assertNotSame(CodegenConfigLoader.getAll().get(0), configs.get(0));
+    }
+
+    @Test
+    public void testIndexMatchesConfigNames() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final Properties index = new Properties();
+        try (InputStream in = classLoader.getResourceAsStream(CodegenConfigLoader.INDEX)) {
+            index.load(in);
+        }
+
+        final Map<String, String> indexed = CodegenConfigLoader.scan(classLoader, index);
+        final Map<String, String> instantiated = CodegenConfigLoader.scan(classLoader, new Properties());
+
+        assertEquals(new ArrayList<String>(indexed.keySet()), new ArrayList<String>(instantiated.keySet()));
+        assertEquals(indexed, instantiated);
+        for (Map.Entry<String, String> config : instantiated.entrySet()) {
+            assertEquals(index.getProperty(config.getValue()), config.getKey(),
+                    "name of " + config.getValue() + " in " + CodegenConfigLoader.INDEX);
+        }
+    }
+
+    @Test
+    public void testIndexListsEveryService() throws Exception {
+        final Properties index = new Properties();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(CodegenConfigLoader.INDEX)) {
+            index.load(in);
+        }
+
+        final Map<String, String> services = new TreeMap<String, String>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class)) {
+            services.put(config.getClass().getName(), config.getName());
+        }
+        final Map<String, String> indexed = new TreeMap<String, String>();
+        for (String className : index.stringPropertyNames()) {
+            indexed.put(className, index.getProperty(className));
+        }
+
+        // a config registered in META-INF/services must be added to the index as well, and removed from both
+        assertEquals(indexed, services, CodegenConfigLoader.INDEX + " doesn't match " + CodegenConfigLoader.SERVICES);
+    }
+
+    @Test
+    public void testOutdatedIndex() throws Exception {
+        final Properties index = new Properties();
+        index.setProperty("io.swagger.codegen.languages.JavaClientCodegen", "php");
+
+        final Map<String, String> registry = CodegenConfigLoader.scan(getClass().getClassLoader(), index);
+        assertEquals(registry.get("php"), "io.swagger.codegen.languages.JavaClientCodegen");
+        assertTrue(!registry.containsKey("java"));
+    }
 }
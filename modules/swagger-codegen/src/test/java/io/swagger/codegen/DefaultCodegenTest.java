@@ -1,8 +1,28 @@
 package io.swagger.codegen;
 
+import com.samskivert.mustache.Mustache;
+import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.models.Model;
+import io.swagger.models.ModelImpl;
+import io.swagger.models.parameters.QueryParameter;
+import io.swagger.models.properties.StringProperty;
+import io.swagger.util.Json;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringEscapeUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class DefaultCodegenTest {
 
     @Test
@@ -33,4 +53,148 @@ public class DefaultCodegenTest {
         Assert.assertEquals(codegen.additionalProperties().get(CodegenConstants.HIDE_GENERATION_TIMESTAMP), Boolean.FALSE);
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
+
+    /**
+     * naming/golden-names.tsv holds, for names collected from the test specs and a set of edge
+     * cases, the output of the original regex based camelize, underscore, dashize and sanitizeName
+     * (without and with unicode identifiers). Failures are recorded as '!' and the exception name.
+     */
+    @Test
+    public void testNamingMatchesGoldenCorpus() throws Exception {
+        final DefaultCodegen ascii = new DefaultCodegen();
+        final DefaultCodegen unicode = new DefaultCodegen();
+        unicode.setAllowUnicodeIdentifiers(true);
+
+        List<String> lines;
+        try (InputStream in = getClass().getResourceAsStream("/naming/golden-names.tsv")) {
+            lines = IOUtils.readLines(in, StandardCharsets.UTF_8);
+        }
+        Assert.assertTrue(lines.size() > 1000);
+        // twice, the second round is answered from the name caches
+        for (int round = 0; round < 2; round++) {
+            for (String line : lines) {
+                String[] columns = line.split("\t", -1);
+                String name = StringEscapeUtils.unescapeJava(columns[0]);
+                Assert.assertEquals(naming(name, 0, ascii, unicode), columns[1], "camelize " + columns[0]);
+                Assert.assertEquals(naming(name, 1, ascii, unicode), columns[2], "camelize lower " + columns[0]);
+                Assert.assertEquals(naming(name, 2, ascii, unicode), columns[3], "underscore " + columns[0]);
+                Assert.assertEquals(naming(name, 3, ascii, unicode), columns[4], "dashize " + columns[0]);
+                Assert.assertEquals(naming(name, 4, ascii, unicode), columns[5], "sanitizeName " + columns[0]);
+                Assert.assertEquals(naming(name, 5, ascii, unicode), columns[6], "sanitizeName unicode " + columns[0]);
+            }
+        }
+    }
+
+    private static String naming(String name, int function, DefaultCodegen ascii, DefaultCodegen unicode) {
+        try {
+            switch (function) {
+                case 0:
+                    return StringEscapeUtils.escapeJava(DefaultCodegen.camelize(name));
+                case 1:
+                    return StringEscapeUtils.escapeJava(DefaultCodegen.camelize(name, true));
+                case 2:
+                    return StringEscapeUtils.escapeJava(DefaultCodegen.underscore(name));
+                case 3:
+                    return StringEscapeUtils.escapeJava(ascii.dashize(name));
+                case 4:
+                    return StringEscapeUtils.escapeJava(ascii.sanitizeName(name));
+                default:
+                    return StringEscapeUtils.escapeJava(unicode.sanitizeName(name));
+            }
+        } catch (RuntimeException e) {
+            return "!" + e.getClass().getSimpleName();
+        }
+    }
+
+    @Test
+    public void testLazyJsonSchema() throws Exception {
+        final DefaultCodegen codegen = new JavaClientCodegen();
+        final StringProperty property = new StringProperty();
+        property.setDescription("The name");
+        final ModelImpl model = new ModelImpl().name("Pet").property("name", property);
+        final QueryParameter parameter = new QueryParameter().name("status").type("string");
+
+        CodegenModel cm = codegen.fromModel("Pet", model);
+        CodegenProperty cp = cm.vars.get(0);
+        CodegenParameter cpa = codegen.fromParameter(parameter, new HashSet<String>());
+
+        // nothing is rendered until asked for
+        Assert.assertNull(cm.modelJson);
+        Assert.assertNull(cp.jsonSchema);
+        Assert.assertNull(cpa.jsonSchema);
+
+        Assert.assertEquals(cp.clone().getJsonSchema(), Json.pretty(property));
+        Assert.assertEquals(cpa.copy().getJsonSchema(), Json.pretty(parameter));
+        Assert.assertEquals(Mustache.compiler().escapeHTML(false).compile("{{modelJson}}|{{#vars}}{{jsonSchema}}{{/vars}}").execute(cm),
+                Json.pretty(model) + "|" + Json.pretty(property));
+        Assert.assertEquals(cm.modelJson, Json.pretty(model));
+        Assert.assertEquals(cp.jsonSchema, Json.pretty(property));
+
+        cp.setJsonSchema("{}");
+        Assert.assertEquals(cp.getJsonSchema(), "{}");
+    }
+
+    @Test
+    public void testLazyModelJsonIgnoresLaterExample() throws Exception {
+        final ModelImpl model = new ModelImpl().name("Pet").property("name", new StringProperty());
+        final String expected = Json.pretty(model);
+        CodegenModel cm = new JavaClientCodegen().fromModel("Pet", model);
+
+        // ExampleGenerator stores the examples it generates on the spec's models
+        model.setExample(Collections.singletonMap("name", "doggie"));
+        Assert.assertEquals(cm.getModelJson(), expected);
+
+        final ModelImpl withExample = new ModelImpl().name("Tag").property("name", new StringProperty());
+        withExample.setExample("{\"name\": \"tag\"}");
+        Assert.assertEquals(new JavaClientCodegen().fromModel("Tag", withExample).getModelJson(), Json.pretty(withExample));
+    }
+
+    @Test
+    public void testSubclassReadsJsonSchemaFields() throws Exception {
+        final List<String> seen = new ArrayList<String>();
+        final DefaultCodegen codegen = new DefaultCodegen() {
+            @Override
+            public CodegenModel fromModel(String name, Model model) {
+                CodegenModel m = super.fromModel(name, model);
+                seen.add(m.modelJson);
+                for (CodegenProperty var : m.vars) {
+                    seen.add(var.jsonSchema);
+                }
+                return m;
+            }
+        };
+        final StringProperty property = new StringProperty();
+        final ModelImpl model = new ModelImpl().name("Pet").property("name", property);
+
+        codegen.fromModel("Pet", model);
+
+        Assert.assertEquals(seen.get(0), Json.pretty(model));
+        Assert.assertEquals(seen.get(1), Json.pretty(property));
+    }
+
+    @Test
+    public void testLazyJsonSchemaConcurrentReads() throws Exception {
+        final ModelImpl model = new ModelImpl().name("Pet").property("name", new StringProperty());
+        final String expected = Json.pretty(model);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 50; i++) {
+                final CodegenModel cm = new JavaClientCodegen().fromModel("Pet", model);
+                List<Callable<String>> reads = new ArrayList<Callable<String>>();
+                for (int j = 0; j < 8; j++) {
+                    reads.add(new Callable<String>() {
+                        @Override
+                        public String call() {
+                            return cm.getModelJson();
+                        }
+                    });
+                }
+                for (Future<String> read : executor.invokeAll(reads)) {
+                    Assert.assertEquals(read.get(), expected);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
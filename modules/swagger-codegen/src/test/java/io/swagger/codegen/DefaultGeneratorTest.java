@@ -1,11 +1,22 @@
 package io.swagger.codegen;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.config.CodegenConfigurator;
 import io.swagger.codegen.languages.JavaClientCodegen;
+import io.swagger.codegen.languages.NodeJSServerCodegen;
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.codegen.metrics.GenerationPhase;
+import io.swagger.codegen.output.InMemoryOutputSink;
+import io.swagger.codegen.output.OutputSink;
+import io.swagger.codegen.output.ZipOutputSink;
 import io.swagger.models.ExternalDocs;
 import io.swagger.models.Swagger;
 import io.swagger.models.Tag;
 import io.swagger.parser.SwaggerParser;
+import io.swagger.util.Json;
+import io.swagger.util.Yaml;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.rules.TemporaryFolder;
 import org.testng.annotations.AfterMethod;
@@ -17,6 +28,9 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import static io.swagger.codegen.CodegenConstants.TEMPLATE_DIR;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -481,6 +495,286 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testServerSpecContainsGeneratedExamples() throws Exception {
+        final File output = folder.getRoot();
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/2_0/petstore.yaml");
+        assertNull(swagger.getDefinitions().get("Pet").getExample());
+
+        CodegenConfig codegenConfig = new NodeJSServerCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)).generate();
+
+        JsonNode spec = Yaml.mapper().readTree(new File(output, "api/swagger.yaml"));
+        assertEquals(spec.get("definitions").get("Pet").get("example").get("name").asText(), "doggie");
+    }
+
+    @Test
+    public void testSharedTemplateCache() throws Exception {
+        final File output = folder.getRoot();
+
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig);
+        TemplateCache templateCache = new TemplateCache();
+
+        DefaultGenerator generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        generator.opts(clientOptInput).generate();
+        final File order = new File(output, MODEL_ORDER_FILE);
+        final String firstRun = FileUtils.readFileToString(order, StandardCharsets.UTF_8);
+
+        // every model is rendered from the same compiled template
+        int compiled = templateCache.size();
+        assertTrue(compiled > 0);
+        assertTrue(compiled < swagger.getDefinitions().size() + codegenConfig.supportingFiles().size() + 10);
+
+        generator = new DefaultGenerator();
+        generator.setTemplateCache(templateCache);
+        generator.opts(clientOptInput).generate();
+        assertEquals(templateCache.size(), compiled);
+        assertEquals(FileUtils.readFileToString(order, StandardCharsets.UTF_8), firstRun);
+    }
+
+    @Test
+    public void testParallelRendering() throws Exception {
+        final File serialOutput = folder.newFolder("serial");
+        final File parallelOutput = folder.newFolder("parallel");
+
+        List<File> serialFiles = generateJavaClient(serialOutput, 1);
+        List<File> parallelFiles = generateJavaClient(parallelOutput, 4);
+
+        // same files, in the same order, with the same content
+        assertEquals(parallelFiles.size(), serialFiles.size());
+        for (int i = 0; i < serialFiles.size(); i++) {
+            String serialPath = serialOutput.toURI().relativize(serialFiles.get(i).toURI()).getPath();
+            String parallelPath = parallelOutput.toURI().relativize(parallelFiles.get(i).toURI()).getPath();
+            assertEquals(parallelPath, serialPath);
+            assertEquals(FileUtils.readFileToString(parallelFiles.get(i), StandardCharsets.UTF_8),
+                    FileUtils.readFileToString(serialFiles.get(i), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testParallelRenderingJsonSchema() throws Exception {
+        // templates reading the lazily rendered JSON, and an ignore file checked by every render task
+        final File templates = folder.newFolder("templates");
+        FileUtils.writeStringToFile(new File(templates, "model.mustache"),
+                "{{#models}}{{#model}}{{{modelJson}}}{{#vars}}{{{jsonSchema}}}{{/vars}}{{/model}}{{/models}}", UTF_8);
+        FileUtils.writeStringToFile(new File(templates, "api.mustache"),
+                "{{#operations}}{{#operation}}{{#allParams}}{{{jsonSchema}}}{{/allParams}}"
+                        + "{{#responses}}{{{jsonSchema}}}{{/responses}}{{/operation}}{{/operations}}", UTF_8);
+        final File serialOutput = folder.newFolder("serial");
+        final File parallelOutput = folder.newFolder("parallel");
+        for (File output : Arrays.asList(serialOutput, parallelOutput)) {
+            FileUtils.writeStringToFile(new File(output, ".swagger-codegen-ignore"), "**/Tag.java\n", UTF_8);
+        }
+
+        List<File> serialFiles = generateWithTemplates(serialOutput, templates, 1);
+        List<File> parallelFiles = generateWithTemplates(parallelOutput, templates, 8);
+
+        assertEquals(parallelFiles.size(), serialFiles.size());
+        assertFalse(new File(parallelOutput, "src/main/java/io/swagger/client/model/Tag.java").exists());
+        String pet = FileUtils.readFileToString(new File(parallelOutput, "src/main/java/io/swagger/client/model/Pet.java"), UTF_8);
+        assertTrue(pet.startsWith("{"), pet);
+        assertFalse(pet.contains("null"), pet);
+        for (int i = 0; i < serialFiles.size(); i++) {
+            String serialPath = serialOutput.toURI().relativize(serialFiles.get(i).toURI()).getPath();
+            String parallelPath = parallelOutput.toURI().relativize(parallelFiles.get(i).toURI()).getPath();
+            assertEquals(parallelPath, serialPath);
+            assertTrue(Arrays.equals(FileUtils.readFileToByteArray(parallelFiles.get(i)),
+                    FileUtils.readFileToByteArray(serialFiles.get(i))), serialPath);
+        }
+    }
+
+    private static List<File> generateWithTemplates(File output, File templates, int threads) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+        codegenConfig.additionalProperties().put(TEMPLATE_DIR, templates.getAbsolutePath());
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).threads(threads);
+        clientOptInput.generatorProperty(CodegenConstants.MODEL_DOCS, "false");
+        clientOptInput.generatorProperty(CodegenConstants.API_DOCS, "false");
+        clientOptInput.generatorProperty(CodegenConstants.MODEL_TESTS, "false");
+        clientOptInput.generatorProperty(CodegenConstants.API_TESTS, "false");
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        final File output = folder.getRoot();
+        final File order = new File(output, MODEL_ORDER_FILE);
+        final File pet = new File(output, "/src/main/java/io/swagger/client/model/Pet.java");
+
+        generateIncremental(output, null);
+        assertTrue(new File(output, CodegenManifest.MANIFEST_FILE).exists());
+        assertTrue(order.setLastModified(1000L));
+        assertTrue(pet.setLastModified(1000L));
+
+        // unchanged inputs: nothing gets rewritten
+        generateIncremental(output, null);
+        assertEquals(order.lastModified(), 1000L);
+        assertEquals(pet.lastModified(), 1000L);
+
+        // Pet changed, Order doesn't reference it
+        generateIncremental(output, "changed description");
+        assertEquals(order.lastModified(), 1000L);
+        assertNotEquals(pet.lastModified(), 1000L);
+        assertTrue(FileUtils.readFileToString(pet, StandardCharsets.UTF_8).contains("changed description"));
+
+        // locally modified files are rendered again
+        changeContent(order);
+        generateIncremental(output, "changed description");
+        assertNotEquals(FileUtils.readFileToString(order, StandardCharsets.UTF_8), TEST_SKIP_OVERWRITE);
+    }
+
+    @Test
+    public void testOutputSinks() throws Exception {
+        final File diskOutput = folder.newFolder("disk");
+        final File virtualOutput = new File(folder.getRoot(), "virtual");
+        generateJavaClient(diskOutput, 1);
+
+        InMemoryOutputSink memory = new InMemoryOutputSink(virtualOutput.getAbsolutePath());
+        List<File> files = generateJavaClient(virtualOutput, memory, 1);
+
+        ByteArrayOutputStream zipped = new ByteArrayOutputStream();
+        ZipOutputStream zip = new ZipOutputStream(zipped);
+        generateJavaClient(virtualOutput, new ZipOutputSink(zip, virtualOutput.getAbsolutePath(), "client"), 4);
+        zip.close();
+
+        // nothing is written to disk, sinks receive the same content
+        assertFalse(virtualOutput.exists());
+        assertEquals(memory.getFiles().size(), files.size());
+        assertEquals(memory.getFiles().size(), FileUtils.listFiles(diskOutput, null, true).size());
+        for (Map.Entry<String, byte[]> entry : memory.getFiles().entrySet()) {
+            assertEquals(entry.getValue(), FileUtils.readFileToByteArray(new File(diskOutput, entry.getKey())), entry.getKey());
+        }
+
+        ZipInputStream unzip = new ZipInputStream(new ByteArrayInputStream(zipped.toByteArray()));
+        int entries = 0;
+        for (ZipEntry entry = unzip.getNextEntry(); entry != null; entry = unzip.getNextEntry()) {
+            assertTrue(entry.getName().startsWith("client/"));
+            assertEquals(IOUtils.toByteArray(unzip), memory.getFile(entry.getName().substring("client/".length())), entry.getName());
+            entries++;
+        }
+        assertEquals(entries, files.size());
+    }
+
+    @Test
+    public void testGeneratorProperties() throws Exception {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        final String modelFolder = "src/main/java/io/swagger/client/model/";
+        final String apiFolder = "src/main/java/io/swagger/client/api/";
+
+        InMemoryOutputSink modelsOnly = new InMemoryOutputSink(folder.getRoot().getAbsolutePath());
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+        new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                .generatorProperty(CodegenConstants.MODELS, "Pet,Tag")
+                .generatorProperty(CodegenConstants.MODEL_DOCS, "false")
+                .outputSink(modelsOnly)).generate();
+
+        assertEquals(modelsOnly.getFiles().keySet(), new HashSet<String>(Arrays.asList(modelFolder + "Pet.java", modelFolder + "Tag.java")));
+
+        // switches missing from the input fall back to the system properties
+        final String apisBackup = System.setProperty(CodegenConstants.APIS, "");
+        try {
+            InMemoryOutputSink apisOnly = new InMemoryOutputSink(folder.getRoot().getAbsolutePath());
+            codegenConfig = new JavaClientCodegen();
+            codegenConfig.setOutputDir(folder.getRoot().getAbsolutePath());
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig)
+                    .generatorProperty(CodegenConstants.API_TESTS, "false")
+                    .generatorProperty(CodegenConstants.API_DOCS, "false")
+                    .outputSink(apisOnly)).generate();
+
+            assertFalse(apisOnly.getFiles().isEmpty());
+            for (String path : apisOnly.getFiles().keySet()) {
+                assertTrue(path.startsWith(apiFolder), path);
+            }
+        } finally {
+            if (apisBackup != null) {
+                System.setProperty(CodegenConstants.APIS, apisBackup);
+            } else {
+                System.clearProperty(CodegenConstants.APIS);
+            }
+        }
+    }
+
+    @Test
+    public void testGenerationMetrics() throws Exception {
+        final File output = folder.getRoot();
+        GenerationMetrics metrics = new GenerationMetrics();
+        ClientOptInput clientOptInput = new CodegenConfigurator()
+                .setLang("java")
+                .setInputSpec("src/test/resources/petstore.json")
+                .setOutputDir(output.getAbsolutePath())
+                .setThreads(2)
+                .setGenerationListener(metrics)
+                .toClientOptInput();
+        InMemoryOutputSink memory = new InMemoryOutputSink(output.getAbsolutePath());
+        List<File> files = new DefaultGenerator().opts(clientOptInput.outputSink(memory)).generate();
+
+        for (GenerationPhase phase : GenerationPhase.values()) {
+            assertTrue(metrics.getPhaseNanos(phase) > 0, phase.getName());
+        }
+        assertEquals(metrics.getFilesWritten(), files.size());
+        int models = 0;
+        for (String path : memory.getFiles().keySet()) {
+            if (path.startsWith("src/main/java/io/swagger/client/model/")) {
+                models++;
+            }
+        }
+        assertTrue(models > 0);
+        assertEquals(metrics.getRenderCount("Java" + File.separator + "model.mustache"), models);
+
+        File reportFile = new File(output, "reports/metrics.json");
+        metrics.writeReport(reportFile);
+        JsonNode report = Json.mapper().readTree(reportFile);
+        assertEquals(report.get("generator").asText(), "java");
+        assertEquals(report.get("library").asText(), "okhttp-gson");
+        assertTrue(report.get("totalMillis").asDouble() > 0);
+        assertEquals(report.get("io").get("files").asInt(), files.size());
+        assertTrue(report.get("phases").has("postProcessAllModels"));
+        JsonNode templates = report.get("templates");
+        assertTrue(templates.size() > 1);
+        for (int i = 1; i < templates.size(); i++) {
+            // slowest templates first
+            assertTrue(templates.get(i - 1).get("millis").asDouble() >= templates.get(i).get("millis").asDouble());
+        }
+    }
+
+    private static List<File> generateIncremental(File output, String petDescription) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        if (petDescription != null) {
+            swagger.getDefinitions().get("Pet").setDescription(petDescription);
+        }
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).incremental(true);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
+    private static List<File> generateJavaClient(File output, int threads) {
+        return generateJavaClient(output, null, threads);
+    }
+
+    private static List<File> generateJavaClient(File output, OutputSink outputSink, int threads) {
+        final Swagger swagger = new SwaggerParser().read("src/test/resources/petstore.json");
+        CodegenConfig codegenConfig = new JavaClientCodegen();
+        codegenConfig.setOutputDir(output.getAbsolutePath());
+        codegenConfig.additionalProperties().put(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true);
+
+        ClientOptInput clientOptInput = new ClientOptInput().opts(new ClientOpts()).swagger(swagger).config(codegenConfig).threads(threads).outputSink(outputSink);
+        return new DefaultGenerator().opts(clientOptInput).generate();
+    }
+
     private void assertOperationHasTags(CodegenOperation op, List<Tag> expectedTags) {
         assertNotNull(op.tags);
         assertEquals(op.tags.size(), expectedTags.size());
@@ -1,6 +1,9 @@
 package io.swagger.codegen;
 
+import io.swagger.codegen.examples.ExampleCache;
 import io.swagger.codegen.examples.ExampleGenerator;
+import io.swagger.codegen.examples.XmlExampleGenerator;
+import io.swagger.util.Json;
 import io.swagger.models.Model;
 import io.swagger.models.ModelImpl;
 import io.swagger.models.Xml;
@@ -13,7 +16,11 @@ import com.google.common.collect.Sets;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -70,4 +77,130 @@ public class ExampleGeneratorTest {
         Assert.assertEqualsNoOrder(types.toArray(new String[types.size()]),
                 expectedTypes.toArray(new String[expectedTypes.size()]));
     }
+
+    @Test(description = "array examples are limited to the configured number of items")
+    public void arrayItemsLimitTest() throws Exception {
+        final ArrayProperty huge = new ArrayProperty(new RefProperty("Item"));
+        huge.setMaxItems(100000);
+        final Map<String, Model> models = ImmutableMap.<String, Model>of(
+                "Item", new ModelImpl().name("Item").property("name", new StringProperty()),
+                "Page", new ModelImpl().name("Page").property("items", huge));
+
+        JsonNode page = Json.mapper().readTree(jsonExample(new ExampleGenerator(models), "Page"));
+        Assert.assertEquals(page.get("items").size(), ExampleCache.DEFAULT_MAX_ARRAY_ITEMS);
+
+        ExampleCache cache = new ExampleCache();
+        cache.setMaxArrayItems(3);
+        JsonNode items = Json.mapper().readTree(jsonExample(new ExampleGenerator(models, cache), huge));
+        Assert.assertEquals(items.size(), 3);
+    }
+
+    @Test(description = "nested models beyond the maximum depth are left out")
+    public void depthLimitTest() throws Exception {
+        final Map<String, Model> models = new HashMap<String, Model>();
+        for (int i = 0; i < 5; i++) {
+            ModelImpl model = new ModelImpl().name("Level" + i).property("name", new StringProperty());
+            if (i < 4) {
+                model.property("child", new RefProperty("Level" + (i + 1)));
+            }
+            models.put("Level" + i, model);
+        }
+        ExampleCache cache = new ExampleCache();
+        cache.setMaxDepth(2);
+
+        JsonNode level0 = Json.mapper().readTree(jsonExample(new ExampleGenerator(models, cache), "Level0"));
+        Assert.assertEquals(level0.get("child").get("name").asText(), "name");
+        Assert.assertFalse(level0.get("child").has("child"));
+        // the cut example is not kept as the example of the model
+        Assert.assertNull(models.get("Level0").getExample());
+
+        String xml = new XmlExampleGenerator(models, cache).toXml(models.get("Level0"));
+        Assert.assertTrue(xml.contains("<Level1>"));
+        Assert.assertFalse(xml.contains("<Level2>"));
+    }
+
+    @Test(description = "examples longer than the maximum length are left out")
+    public void lengthLimitTest() {
+        // every level references the next one twice, so the example doubles with each level
+        final Map<String, Model> models = new HashMap<String, Model>();
+        for (int i = 0; i < 30; i++) {
+            ModelImpl model = new ModelImpl().name("Node" + i).property("name", new StringProperty());
+            if (i < 29) {
+                model.property("left", new RefProperty("Node" + (i + 1)));
+                model.property("right", new RefProperty("Node" + (i + 1)));
+            }
+            models.put("Node" + i, model);
+        }
+        ExampleCache cache = new ExampleCache();
+        cache.setMaxDepth(30);
+        cache.setMaxLength(10000);
+
+        List<Map<String, String>> examples = new ExampleGenerator(models, cache)
+                .generate(null, Arrays.asList("application/json", "application/xml"), new RefProperty("Node0"));
+
+        Assert.assertEquals(examples.size(), 1);
+        Assert.assertEquals(examples.get(0).get("output"), "none");
+        Assert.assertNull(new XmlExampleGenerator(models, cache).toXml(new RefProperty("Node0")));
+
+        JsonNode node25 = null;
+        try {
+            node25 = Json.mapper().readTree(jsonExample(new ExampleGenerator(models, cache), "Node25"));
+        } catch (Exception e) {
+            Assert.fail("small example expected", e);
+        }
+        Assert.assertEquals(node25.get("left").get("left").get("name").asText(), "name");
+    }
+
+    @Test(description = "model examples are generated once per media type for all operations")
+    public void sharedCacheTest() {
+        final ModelImpl pet = new ModelImpl().name("Pet").property("name", new StringProperty());
+        final Map<String, Model> models = ImmutableMap.<String, Model>of("Pet", pet);
+        final List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        ExampleCache cache = new ExampleCache();
+
+        List<Map<String, String>> first = new ExampleGenerator(models, cache).generate(null, mediaTypes, new RefProperty("Pet"));
+        Assert.assertEquals(cache.size(), 2);
+        Assert.assertTrue(cache.contains("application/json", "#Pet"));
+        Assert.assertTrue(cache.contains("application/xml", "#Pet"));
+
+        // the generated example is stored on the model, so that it shows up in the spec written by server generators
+        Assert.assertNotNull(pet.getExample());
+
+        // the cached examples are returned even though the model changed since
+        pet.property("tag", new StringProperty());
+        pet.setExample(null);
+        List<Map<String, String>> second = new ExampleGenerator(models, cache).generate(null, mediaTypes, "Pet");
+        Assert.assertEquals(second, first);
+        Assert.assertFalse(second.get(1).get("example").contains("tag"));
+
+        List<Map<String, String>> uncached = new ExampleGenerator(models).generate(null, mediaTypes, "Pet");
+        Assert.assertTrue(uncached.get(1).get("example").contains("<tag>"));
+
+        // arrays of models are cached, properties with examples of their own are not
+        new ExampleGenerator(models, cache).generate(null, Collections.singletonList("application/json"), new ArrayProperty(new RefProperty("Pet")));
+        Assert.assertEquals(cache.size(), 3);
+        StringProperty withExample = new StringProperty();
+        withExample.setExample("custom");
+        new ExampleGenerator(models, cache).generate(null, Collections.singletonList("application/json"), withExample);
+        Assert.assertEquals(cache.size(), 3);
+    }
+
+    @Test(description = "example limits are read from the additional properties")
+    public void cacheFromPropertiesTest() {
+        ExampleCache cache = ExampleCache.fromProperties(ImmutableMap.<String, Object>of(
+                CodegenConstants.EXAMPLE_MAX_ARRAY_ITEMS, "4", CodegenConstants.EXAMPLE_MAX_DEPTH, 7));
+        Assert.assertEquals(cache.getMaxArrayItems(), 4);
+        Assert.assertEquals(cache.getMaxDepth(), 7);
+        Assert.assertEquals(cache.getMaxLength(), ExampleCache.DEFAULT_MAX_LENGTH);
+    }
+
+    private static String jsonExample(ExampleGenerator generator, String modelName) {
+        List<Map<String, String>> examples = generator.generate(null, Collections.singletonList("application/json"), modelName);
+        return examples.get(0).get("example");
+    }
+
+    private static String jsonExample(ExampleGenerator generator, ArrayProperty property) {
+        List<Map<String, String>> examples = generator.generate(null, Collections.singletonList("application/json"), property);
+        return examples.get(0).get("example");
+    }
 }
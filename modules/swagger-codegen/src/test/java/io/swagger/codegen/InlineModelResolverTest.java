@@ -7,7 +7,10 @@ import io.swagger.models.properties.*;
 import io.swagger.util.Json;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.testng.AssertJUnit.*;
 
@@ -988,5 +991,90 @@ public class InlineModelResolverTest {
         assertTrue(inlineProp instanceof ObjectProperty);
         ObjectProperty op = (ObjectProperty) inlineProp;
         assertNull(op.getProperties());
-    }    
+    }
+
+    @Test(description = "model signatures are equal exactly when the pretty printed JSON is equal")
+    public void testSignatureMatchesJsonEquality() {
+        Random random = new Random(42);
+        List<String> json = new ArrayList<String>();
+        List<String> signatures = new ArrayList<String>();
+        for (int i = 0; i < 300; i++) {
+            // few distinct values, so that many models are structurally identical
+            Model model = randomModel(new Random(random.nextInt(60)), 0);
+            json.add(Json.pretty(model));
+            signatures.add(InlineModelResolver.signature(model));
+            assertNotNull(signatures.get(i));
+        }
+        int matches = 0;
+        for (int i = 0; i < json.size(); i++) {
+            for (int j = i + 1; j < json.size(); j++) {
+                boolean sameJson = json.get(i).equals(json.get(j));
+                assertEquals(sameJson, signatures.get(i).equals(signatures.get(j)));
+                if (sameJson) {
+                    matches++;
+                }
+            }
+        }
+        assertTrue(matches > 0);
+    }
+
+    @Test(description = "identical inline models are generated once")
+    public void testMatchGenerated() {
+        InlineModelResolver resolver = new InlineModelResolver();
+        resolver.addGenerated("Address", new ModelImpl()
+                .property("street", new StringProperty())
+                .property("city", new StringProperty().description("\ud800 unpaired")));
+
+        assertEquals("Address", resolver.matchGenerated(new ModelImpl()
+                .property("street", new StringProperty())
+                .property("city", new StringProperty().description("\ud800 unpaired"))));
+        assertNull(resolver.matchGenerated(new ModelImpl()
+                .property("city", new StringProperty().description("\ud800 unpaired"))
+                .property("street", new StringProperty())));
+        assertNull(resolver.matchGenerated(new ModelImpl()
+                .property("street", new StringProperty())
+                .property("city", new StringProperty().description("\udc00 unpaired"))));
+
+        resolver.setSkipMatches(true);
+        assertNull(resolver.matchGenerated(new ModelImpl()
+                .property("street", new StringProperty())
+                .property("city", new StringProperty().description("\ud800 unpaired"))));
+    }
+
+    private static Model randomModel(Random random, int depth) {
+        if (depth == 0 && random.nextInt(5) == 0) {
+            return new ArrayModel().items(randomProperty(random, depth + 1));
+        }
+        ModelImpl model = new ModelImpl().type(ModelImpl.OBJECT);
+        if (random.nextBoolean()) {
+            model.description(random.nextBoolean() ? "description" : "descripti\u00f6n");
+        }
+        int properties = random.nextInt(4);
+        for (int i = 0; i < properties; i++) {
+            String name = random.nextBoolean() ? "name" + i : "other" + random.nextInt(2);
+            model.property(name, randomProperty(random, depth + 1));
+        }
+        return model;
+    }
+
+    private static Property randomProperty(Random random, int depth) {
+        switch (random.nextInt(depth < 3 ? 6 : 3)) {
+            case 0:
+                return new StringProperty().example(random.nextBoolean() ? "x" : null);
+            case 1:
+                IntegerProperty integer = new IntegerProperty();
+                integer.setReadOnly(random.nextBoolean() ? Boolean.TRUE : null);
+                return integer;
+            case 2:
+                return new RefProperty("#/definitions/Model" + random.nextInt(2));
+            case 3:
+                return new ArrayProperty(randomProperty(random, depth + 1));
+            case 4:
+                return new MapProperty(randomProperty(random, depth + 1));
+            default:
+                ObjectProperty property = new ObjectProperty();
+                property.property("inner" + random.nextInt(2), randomProperty(random, depth + 1));
+                return property;
+        }
+    }
 }
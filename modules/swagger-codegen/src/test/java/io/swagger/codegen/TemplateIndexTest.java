@@ -0,0 +1,105 @@
+package io.swagger.codegen;
+
+import io.swagger.codegen.languages.JavaClientCodegen;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.testng.Assert.*;
+
+public class TemplateIndexTest {
+    private File templateDir;
+    private CodegenConfig config;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        templateDir = Files.createTempDirectory("templates").toFile();
+        config = new JavaClientCodegen();
+        config.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, templateDir.getAbsolutePath());
+        config.processOpts();
+        config.setLibrary("okhttp-gson");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(templateDir);
+    }
+
+    @Test
+    public void resolvesInPriorityOrder() throws IOException {
+        touch("libraries/okhttp-gson/api.mustache");
+        touch("api.mustache");
+        touch("model.mustache");
+
+        TemplateIndex index = new TemplateIndex(config, getClass().getClassLoader());
+
+        String custom = config.templateDir() + File.separator;
+        String embedded = config.embeddedTemplateDir() + File.separator;
+        String library = "libraries" + File.separator + "okhttp-gson" + File.separator;
+        assertEquals(index.resolve("api.mustache"), custom + library + "api.mustache");
+        assertEquals(index.resolve("model.mustache"), custom + "model.mustache");
+        assertEquals(index.resolve("ApiClient.mustache"), embedded + library + "ApiClient.mustache");
+        assertEquals(index.resolve("Pair.mustache"), embedded + "Pair.mustache");
+        assertEquals(index.resolve("unknown.mustache"), embedded + "unknown.mustache");
+    }
+
+    @Test
+    public void matchesLegacyResolution() throws IOException {
+        touch("libraries/okhttp-gson/pom.mustache");
+        touch("auth/OAuth.mustache");
+
+        DefaultGenerator generator = new DefaultGenerator();
+        TemplateIndex index = new TemplateIndex(config, getClass().getClassLoader());
+        String[] names = {"pom.mustache", "auth/OAuth.mustache", "auth/HttpBasicAuth.mustache", "ApiClient.mustache",
+                "libraries", "auth", "missing.mustache", "model.mustache"};
+        for (String name : names) {
+            assertEquals(index.resolve(name), legacyResolve(generator, name), name);
+        }
+    }
+
+    @Test
+    public void invalidate() throws IOException {
+        TemplateIndex index = new TemplateIndex(config, getClass().getClassLoader());
+        String embedded = config.embeddedTemplateDir() + File.separator + "model.mustache";
+        assertEquals(index.resolve("model.mustache"), embedded);
+
+        touch("model.mustache");
+        assertEquals(index.resolve("model.mustache"), embedded);
+
+        index.invalidate();
+        assertEquals(index.resolve("model.mustache"), config.templateDir() + File.separator + "model.mustache");
+        assertTrue(index.matches(config));
+
+        config.setLibrary("feign");
+        assertFalse(index.matches(config));
+    }
+
+    private void touch(String path) throws IOException {
+        FileUtils.writeStringToFile(new File(templateDir, path), "{{name}}");
+    }
+
+    /**
+     * The file system based resolution used before the index was introduced.
+     */
+    private String legacyResolve(AbstractGenerator generator, String templateFile) {
+        String library = config.getLibrary();
+        String libTemplateFile = config.templateDir() + File.separator + "libraries" + File.separator + library + File.separator + templateFile;
+        if (new File(libTemplateFile).exists()) {
+            return libTemplateFile;
+        }
+        String template = config.templateDir() + File.separator + templateFile;
+        if (new File(template).exists()) {
+            return template;
+        }
+        String embeddedLibTemplateFile = config.embeddedTemplateDir() + File.separator + "libraries" + File.separator + library + File.separator + templateFile;
+        if (generator.embeddedTemplateExists(embeddedLibTemplateFile)) {
+            return embeddedLibTemplateFile;
+        }
+        return config.embeddedTemplateDir() + File.separator + templateFile;
+    }
+}
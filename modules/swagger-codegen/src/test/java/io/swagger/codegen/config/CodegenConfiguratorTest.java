@@ -24,6 +24,7 @@ import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 @SuppressWarnings("static-method")
@@ -47,24 +48,18 @@ public class CodegenConfiguratorTest {
     @Tested
     CodegenConfigurator configurator;
 
-    @SuppressWarnings("unused")
     @Test
     public void testVerbose() throws Exception {
 
         configurator.setVerbose(true);
 
-        new StrictExpectations(System.class) {{
-            System.setProperty("debugSwagger", "");
-            times = 1;
-            System.setProperty("debugModels", "");
-            times = 1;
-            System.setProperty("debugOperations", "");
-            times = 1;
-            System.setProperty("debugSupportingFiles", "");
-            times = 1;
-        }};
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
 
-        setupAndRunGenericTest(configurator);
+        assertValueInMap(clientOptInput.getGeneratorProperties(), "debugSwagger", "");
+        assertValueInMap(clientOptInput.getGeneratorProperties(), "debugModels", "");
+        assertValueInMap(clientOptInput.getGeneratorProperties(), "debugOperations", "");
+        assertValueInMap(clientOptInput.getGeneratorProperties(), "debugSupportingFiles", "");
+        assertNull(System.getProperty("debugModels"));
     }
 
     @Test
@@ -95,6 +90,26 @@ public class CodegenConfiguratorTest {
         setupAndRunGenericTest(configurator);
     }
 
+    @SuppressWarnings("unused")
+    @Test
+    public void testGeneratorSystemProperties() throws Exception {
+
+        configurator.addSystemProperty(CodegenConstants.MODELS, "Pet")
+                .addSystemProperty("hello", "world");
+
+        new Expectations(System.class) {{
+            System.setProperty("hello", "world");
+            times = 1;
+            System.setProperty(CodegenConstants.MODELS, anyString);
+            times = 0;
+        }};
+
+        final ClientOptInput clientOptInput = setupAndRunGenericTest(configurator);
+
+        assertValueInMap(clientOptInput.getGeneratorProperties(), CodegenConstants.MODELS, "Pet");
+        assertFalse(clientOptInput.getGeneratorProperties().containsKey("hello"));
+    }
+
     @Test
     public void testSkipOverwrite() throws Exception {
         CodegenConfigurator configurator1 = new CodegenConfigurator();
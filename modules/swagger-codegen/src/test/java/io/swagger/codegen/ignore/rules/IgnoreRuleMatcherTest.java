@@ -0,0 +1,145 @@
+package io.swagger.codegen.ignore.rules;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.*;
+
+public class IgnoreRuleMatcherTest {
+    private static final String[] RULE_SEGMENTS = {"a", "b", "docs", "src", "*", "**", "*.md", "*.java", "b?", "[ab]", "Api*"};
+    private static final String[] PATH_SEGMENTS = {"a", "b", "bb", "docs", "src", "README.md", "Api.java", "Model.java", "x"};
+
+    @Test
+    public void testDirectoryExclusionOverride() throws Exception {
+        List<Rule> exclusions = Arrays.asList(Rule.create("docs/"), Rule.create("**/*.md"));
+        List<Rule> inclusions = Arrays.asList(Rule.create("!docs/README.md"), Rule.create("!README.md"));
+        IgnoreRuleMatcher matcher = new IgnoreRuleMatcher(exclusions, inclusions);
+
+        // a file can't be included again when its directory is excluded
+        assertFalse(matcher.allows("docs/README.md"));
+        assertTrue(matcher.allows("README.md"));
+        assertFalse(matcher.allows("src/CHANGES.md"));
+        assertTrue(matcher.allows("src/Api.java"));
+
+        matcher = new IgnoreRuleMatcher(exclusions, Collections.singletonList(Rule.create("!docs/")));
+        assertTrue(matcher.allows("docs/README.md"));
+    }
+
+    @Test
+    public void testSameAsRulesInOrder() throws Exception {
+        Random random = new Random(20181018L);
+        int excluded = 0;
+        for (int run = 0; run < 500; run++) {
+            List<Rule> exclusions = new ArrayList<>();
+            List<Rule> inclusions = new ArrayList<>();
+            int rules = 1 + random.nextInt(12);
+            for (int i = 0; i < rules; i++) {
+                Rule rule = Rule.create(randomRule(random));
+                if (rule == null) {
+                    continue;
+                }
+                if (Boolean.TRUE.equals(rule.getNegated())) {
+                    inclusions.add(rule);
+                } else {
+                    exclusions.add(rule);
+                }
+            }
+            IgnoreRuleMatcher matcher = new IgnoreRuleMatcher(exclusions, inclusions);
+
+            for (int i = 0; i < 50; i++) {
+                String path = randomPath(random);
+                boolean allowed = allowsInOrder(exclusions, inclusions, path);
+                assertEquals(matcher.allows(path), allowed,
+                        path + " with exclusions " + definitions(exclusions) + " and inclusions " + definitions(inclusions));
+                if (!allowed) {
+                    excluded++;
+                }
+            }
+        }
+        // both outcomes are covered
+        assertTrue(excluded > 1000 && excluded < 24000, "excluded " + excluded);
+    }
+
+    private static String randomRule(Random random) {
+        StringBuilder sb = new StringBuilder();
+        if (random.nextInt(3) == 0) {
+            sb.append('!');
+        }
+        if (random.nextInt(4) == 0) {
+            sb.append('/');
+        }
+        int segments = 1 + random.nextInt(3);
+        for (int i = 0; i < segments; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            sb.append(RULE_SEGMENTS[random.nextInt(RULE_SEGMENTS.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+
+    private static String randomPath(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int segments = 1 + random.nextInt(4);
+        for (int i = 0; i < segments; i++) {
+            if (i > 0) {
+                sb.append('/');
+            }
+            sb.append(PATH_SEGMENTS[random.nextInt(PATH_SEGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static List<String> definitions(List<Rule> rules) {
+        List<String> definitions = new ArrayList<>();
+        for (Rule rule : rules) {
+            definitions.add(rule.getDefinition());
+        }
+        return definitions;
+    }
+
+    /**
+     * Evaluates every rule in order, as CodegenIgnoreProcessor did before the rules were compiled.
+     */
+    private static boolean allowsInOrder(List<Rule> exclusionRules, List<Rule> inclusionRules, String path) {
+        boolean directoryExcluded = false;
+        boolean exclude = false;
+        for (int i = 0; i < exclusionRules.size(); i++) {
+            Rule current = exclusionRules.get(i);
+            switch (current.evaluate(path)) {
+                case EXCLUDE:
+                    exclude = true;
+                    if (current instanceof DirectoryRule) {
+                        directoryExcluded = true;
+                    }
+                    break;
+                case EXCLUDE_AND_TERMINATE:
+                    i = exclusionRules.size();
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (exclude) {
+            for (int i = 0; exclude && i < inclusionRules.size(); i++) {
+                Rule current = inclusionRules.get(i);
+                if (current.evaluate(path) == Rule.Operation.INCLUDE) {
+                    if (current instanceof DirectoryRule && directoryExcluded) {
+                        exclude = false;
+                    } else if (!directoryExcluded) {
+                        exclude = false;
+                    }
+                }
+            }
+        }
+        return !exclude;
+    }
+}
@@ -2,6 +2,9 @@ package io.swagger.codegen.languages;
 
 import static io.swagger.codegen.languages.JavaClientCodegen.RETROFIT_2;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -9,14 +12,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.google.common.collect.ImmutableMap;
 
+import io.swagger.codegen.ClientOptInput;
+import io.swagger.codegen.ClientOpts;
 import io.swagger.codegen.CodegenConstants;
 import io.swagger.codegen.CodegenOperation;
 import io.swagger.codegen.CodegenParameter;
+import io.swagger.codegen.DefaultGenerator;
+import io.swagger.parser.SwaggerParser;
 
 public class JavaClientCodegenTest {
 
@@ -206,6 +214,183 @@ public class JavaClientCodegenTest {
         return codegenParameter;
     }
 
+    @Test
+    public void testGenerateTypeAdapters() throws Exception {
+        File output = Files.createTempDirectory("type-adapters").toFile();
+        try {
+            JavaClientCodegen codegen = new JavaClientCodegen();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "true");
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(codegen)
+                    .swagger(new SwaggerParser().read("src/test/resources/2_0/petstore-with-fake-endpoints-models-for-testing.yaml")))
+                    .generate();
+
+            File models = new File(output, "src/main/java/io/swagger/client/model");
+            String animal = FileUtils.readFileToString(new File(models, "Animal.java"), StandardCharsets.UTF_8);
+            Assert.assertTrue(animal.contains("public static class GsonAdapter extends TypeAdapter<Animal>"));
+            Assert.assertTrue(animal.contains("return catSubtype.readRemaining(in, preceding, new Cat());"));
+            Assert.assertTrue(animal.contains("import com.google.gson.JsonParseException;"));
+            String cat = FileUtils.readFileToString(new File(models, "Cat.java"), StandardCharsets.UTF_8);
+            Assert.assertTrue(cat.contains("return parent.readProperty(in, name, value);"));
+            Assert.assertFalse(cat.contains("JsonParseException"));
+            // array models keep the collection adapter of Gson
+            Assert.assertFalse(FileUtils.readFileToString(new File(models, "AnimalFarm.java"), StandardCharsets.UTF_8)
+                    .contains("GsonAdapter"));
+            Assert.assertTrue(FileUtils.readFileToString(new File(models, "OuterEnum.java"), StandardCharsets.UTF_8)
+                    .contains("case \"placed\":"));
+
+            String json = FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/JSON.java"),
+                    StandardCharsets.UTF_8);
+            Assert.assertTrue(json.contains(".registerTypeAdapterFactory(Animal.GsonAdapter.FACTORY)"));
+            Assert.assertFalse(json.contains("AnimalFarm.GsonAdapter"));
+            Assert.assertFalse(json.contains("registerTypeSelector"));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testGenerateTypeAdaptersIgnoredByOtherLibraries() throws Exception {
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary("feign");
+        codegen.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "true");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.GENERATE_TYPE_ADAPTERS), Boolean.FALSE);
+
+        codegen = new JavaClientCodegen();
+        codegen.setLibrary(RETROFIT_2);
+        codegen.additionalProperties().put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "true");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.GENERATE_TYPE_ADAPTERS), Boolean.TRUE);
+    }
+
+    @Test
+    public void testConnectionPoolOptions() throws Exception {
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_IDLE_CONNECTIONS), 5);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_CONNECTIONS_PER_HOST), 5);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.KEEP_ALIVE_DURATION), 300000);
+        // the timeouts of the HTTP library are kept unless given
+        Assert.assertFalse(codegen.additionalProperties().containsKey(JavaClientCodegen.CONNECT_TIMEOUT));
+        Assert.assertFalse(codegen.additionalProperties().containsKey(JavaClientCodegen.READ_TIMEOUT));
+
+        codegen = new JavaClientCodegen();
+        codegen.additionalProperties().put(JavaClientCodegen.MAX_CONNECTIONS_PER_HOST, "0");
+        codegen.additionalProperties().put(JavaClientCodegen.MAX_IDLE_CONNECTIONS, "many");
+        codegen.additionalProperties().put(JavaClientCodegen.CONNECT_TIMEOUT, "2000");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_CONNECTIONS_PER_HOST), 5);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.MAX_IDLE_CONNECTIONS), 5);
+        Assert.assertEquals(codegen.additionalProperties().get(JavaClientCodegen.CONNECT_TIMEOUT), 2000);
+    }
+
+    @Test
+    public void testStreamingResponseBody() throws Exception {
+        String apiClient = generateOkHttpApiClient(false);
+        Assert.assertTrue(apiClient.contains("return json.deserialize(reader, returnType);"));
+        // ResponseBody.charStream() throws IOException in OkHttp 2, and deserialize only throws ApiException
+        assertCalledInsideTry(apiClient, "response.body().charStream()");
+        assertCalledInsideTry(apiClient, "response.body().string()");
+        assertCalledInsideTry(apiClient, "response.body().bytes()");
+
+        String buffered = generateOkHttpApiClient(true);
+        Assert.assertFalse(buffered.contains("charStream()"));
+        assertCalledInsideTry(buffered, "response.body().string()");
+    }
+
+    private static String generateOkHttpApiClient(boolean bufferResponseBody) throws Exception {
+        File output = Files.createTempDirectory("okhttp-gson").toFile();
+        try {
+            JavaClientCodegen codegen = new JavaClientCodegen();
+            codegen.setOutputDir(output.getAbsolutePath());
+            if (bufferResponseBody) {
+                codegen.additionalProperties().put(JavaClientCodegen.BUFFER_RESPONSE_BODY, "true");
+            }
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(codegen)
+                    .swagger(new SwaggerParser().read("src/test/resources/2_0/petstore.yaml")))
+                    .generate();
+            return FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/ApiClient.java"),
+                    StandardCharsets.UTF_8);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    private static void assertCalledInsideTry(String source, String call) {
+        int index = source.indexOf(call);
+        Assert.assertTrue(index >= 0, call + " not found");
+        while (index >= 0) {
+            String before = source.substring(source.lastIndexOf("try {", index), index);
+            Assert.assertFalse(before.contains("}"), call + " isn't inside a try block");
+            int nextTry = source.indexOf("try {", index);
+            int nextCatch = source.indexOf("catch (IOException e)", index);
+            Assert.assertTrue(nextCatch >= 0 && (nextTry < 0 || nextCatch < nextTry), call + " isn't followed by catch (IOException e)");
+            index = source.indexOf(call, index + 1);
+        }
+    }
+
+    @Test
+    public void testConnectionPoolTemplates() throws Exception {
+        File output = Files.createTempDirectory("connection-pool").toFile();
+        try {
+            JavaClientCodegen codegen = new JavaClientCodegen();
+            codegen.setOutputDir(output.getAbsolutePath());
+            codegen.additionalProperties().put(JavaClientCodegen.MAX_CONNECTIONS_PER_HOST, "10");
+            codegen.additionalProperties().put(JavaClientCodegen.READ_TIMEOUT, "30000");
+            codegen.additionalProperties().put(JavaClientCodegen.USE_GZIP_FEATURE, "true");
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(codegen)
+                    .swagger(new SwaggerParser().read("src/test/resources/2_0/petstore.yaml")))
+                    .generate();
+
+            String apiClient = FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/ApiClient.java"),
+                    StandardCharsets.UTF_8);
+            Assert.assertTrue(apiClient.contains("httpClient.setConnectionPool(new ConnectionPool(maxIdleConnections, keepAliveDuration));"));
+            Assert.assertTrue(apiClient.contains("httpClient.getDispatcher().setMaxRequestsPerHost(10);"));
+            Assert.assertTrue(apiClient.contains("httpClient.setReadTimeout(30000, TimeUnit.MILLISECONDS);"));
+            Assert.assertFalse(apiClient.contains("httpClient.setConnectTimeout(0"));
+            Assert.assertTrue(apiClient.contains("setGzipRequests(true);"));
+            Assert.assertTrue(apiClient.contains("public ApiClient shareConnectionPool(ApiClient apiClient)"));
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test
+    public void testNativeLibrary() throws Exception {
+        JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.setLibrary(JavaClientCodegen.NATIVE);
+        codegen.processOpts();
+        Assert.assertEquals(codegen.additionalProperties().get("jackson"), "true");
+        Assert.assertEquals(codegen.typeMapping().get("DateTime"), "OffsetDateTime");
+        Assert.assertEquals(codegen.importMapping().get("OffsetDateTime"), "java.time.OffsetDateTime");
+
+        File output = Files.createTempDirectory("native").toFile();
+        try {
+            codegen = new JavaClientCodegen();
+            codegen.setLibrary(JavaClientCodegen.NATIVE);
+            codegen.setOutputDir(output.getAbsolutePath());
+            new DefaultGenerator().opts(new ClientOptInput().opts(new ClientOpts()).config(codegen)
+                    .swagger(new SwaggerParser().read("src/test/resources/2_0/petstore.yaml")))
+                    .generate();
+
+            String petApi = FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/api/PetApi.java"),
+                    StandardCharsets.UTF_8);
+            Assert.assertTrue(petApi.contains("public CompletableFuture<Pet> getPetById(Long petId) {"));
+            Assert.assertTrue(petApi.contains("public CompletableFuture<ApiResponse<Void>> deletePetWithHttpInfo(Long petId, String apiKey) {"));
+            Assert.assertTrue(petApi.contains("new TypeReference<List<Pet>>() {}"));
+            String apiClient = FileUtils.readFileToString(new File(output, "src/main/java/io/swagger/client/ApiClient.java"),
+                    StandardCharsets.UTF_8);
+            Assert.assertTrue(apiClient.contains("HttpResponse.BodySubscribers.ofInputStream()"));
+            Assert.assertFalse(apiClient.contains("System.setProperty"));
+            Assert.assertTrue(new File(output, "src/main/java/io/swagger/client/JSON.java").isFile());
+            Assert.assertFalse(new File(output, "src/main/AndroidManifest.xml").exists());
+            Assert.assertFalse(new File(output, "src/main/java/io/swagger/client/CustomInstantDeserializer.java").exists());
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
     private CodegenParameter createStringParam(String name){
         CodegenParameter codegenParameter = new CodegenParameter();
         codegenParameter.paramName = name;
@@ -26,6 +26,13 @@ public class JavaClientOptionsProvider extends JavaOptionsProvider {
         options.put(JavaClientCodegen.PERFORM_BEANVALIDATION, PERFORM_BEANVALIDATION);
         options.put(JavaClientCodegen.USE_GZIP_FEATURE, "false");
         options.put(JavaClientCodegen.USE_RUNTIME_EXCEPTION, "false");
+        options.put(JavaClientCodegen.BUFFER_RESPONSE_BODY, "false");
+        options.put(JavaClientCodegen.GENERATE_TYPE_ADAPTERS, "false");
+        options.put(JavaClientCodegen.MAX_IDLE_CONNECTIONS, "5");
+        options.put(JavaClientCodegen.MAX_CONNECTIONS_PER_HOST, "5");
+        options.put(JavaClientCodegen.KEEP_ALIVE_DURATION, "300000");
+        options.put(JavaClientCodegen.CONNECT_TIMEOUT, "0");
+        options.put(JavaClientCodegen.READ_TIMEOUT, "0");
         options.put(JavaClientCodegen.JAVA8_MODE, "false");
         return options;
     }
@@ -37,4 +37,18 @@ public class PythonClientCodegenTest {
         Assert.assertEquals(codegen.isHideGenerationTimestamp(), false);
     }
 
+    @Test
+    public void testUseSlots() throws Exception {
+        final PythonClientCodegen codegen = new PythonClientCodegen();
+        codegen.processOpts();
+
+        Assert.assertEquals(codegen.additionalProperties().get(PythonClientCodegen.USE_SLOTS), Boolean.TRUE);
+
+        final PythonClientCodegen optedOut = new PythonClientCodegen();
+        optedOut.additionalProperties().put(PythonClientCodegen.USE_SLOTS, "false");
+        optedOut.processOpts();
+
+        Assert.assertEquals(optedOut.additionalProperties().get(PythonClientCodegen.USE_SLOTS), Boolean.FALSE);
+    }
+
 }
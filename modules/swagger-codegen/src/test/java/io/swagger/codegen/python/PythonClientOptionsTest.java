@@ -30,6 +30,7 @@ public class PythonClientOptionsTest extends AbstractOptionsTest {
             clientCodegen.setProjectName(PythonClientOptionsProvider.PROJECT_NAME_VALUE);
             clientCodegen.setPackageVersion(PythonClientOptionsProvider.PACKAGE_VERSION_VALUE);
             clientCodegen.setPackageUrl(PythonClientOptionsProvider.PACKAGE_URL_VALUE);
+            clientCodegen.setUseSlots(true);
             // clientCodegen.setLibrary(PythonClientCodegen.DEFAULT_LIBRARY);
             times = 1;
         }};
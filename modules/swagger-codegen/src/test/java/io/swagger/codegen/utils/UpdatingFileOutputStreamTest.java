@@ -0,0 +1,114 @@
+package io.swagger.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.*;
+
+public class UpdatingFileOutputStreamTest {
+    private File dir;
+    private File file;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("updating").toFile();
+        file = new File(dir, "out.txt");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(dir);
+    }
+
+    @Test
+    public void createsNewFile() throws IOException {
+        File nested = new File(dir, "a/b/out.txt");
+        UpdatingFileOutputStream out = write(nested, "hello");
+
+        assertTrue(out.isChanged());
+        assertEquals(read(nested), "hello");
+    }
+
+    @Test
+    public void keepsIdenticalFile() throws IOException {
+        write(file, "same content");
+        file.setLastModified(1000L);
+
+        UpdatingFileOutputStream out = write(file, "same content");
+
+        assertFalse(out.isChanged());
+        assertEquals(file.lastModified(), 1000L);
+        assertEquals(dir.list().length, 1);
+    }
+
+    @Test
+    public void replacesChangedFile() throws IOException {
+        write(file, "same prefix, old suffix");
+
+        assertTrue(write(file, "same prefix, new suffix").isChanged());
+        assertEquals(read(file), "same prefix, new suffix");
+
+        // shorter and longer content than the existing file
+        assertTrue(write(file, "same").isChanged());
+        assertEquals(read(file), "same");
+        assertTrue(write(file, "same but longer").isChanged());
+        assertEquals(read(file), "same but longer");
+        assertEquals(dir.list().length, 1);
+    }
+
+    @Test
+    public void replacesLargeFile() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            sb.append("line ").append(i).append('\n');
+        }
+        String original = sb.toString();
+        write(file, original);
+
+        String changed = original.replace("line 4321\n", "line 4321 changed\n");
+        UpdatingFileOutputStream out = write(file, changed);
+
+        assertTrue(out.isChanged());
+        assertEquals(read(file), changed);
+    }
+
+    @Test
+    public void abortLeavesFileUntouched() throws IOException {
+        write(file, "original");
+
+        UpdatingFileOutputStream out = new UpdatingFileOutputStream(file);
+        out.write("changed".getBytes(StandardCharsets.UTF_8));
+        out.abort();
+
+        assertEquals(read(file), "original");
+        assertEquals(dir.list().length, 1);
+
+        File created = new File(dir, "new.txt");
+        out = new UpdatingFileOutputStream(created);
+        out.write("partial".getBytes(StandardCharsets.UTF_8));
+        out.abort();
+
+        assertFalse(created.exists());
+    }
+
+    private static UpdatingFileOutputStream write(File file, String contents) throws IOException {
+        UpdatingFileOutputStream out = new UpdatingFileOutputStream(file);
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        // mix single byte and bulk writes
+        out.write(bytes[0]);
+        out.write(bytes, 1, bytes.length - 1);
+        out.close();
+        return out;
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
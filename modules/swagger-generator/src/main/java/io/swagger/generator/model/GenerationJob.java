@@ -0,0 +1,150 @@
+package io.swagger.generator.model;
+
+import io.swagger.annotations.ApiModelProperty;
+
+import java.util.Map;
+
+public class GenerationJob {
+    public enum Status {QUEUED, RUNNING, DONE, FAILED}
+
+    private String id;
+    private Status status;
+    private String type;
+    private String language;
+    private String code;
+    private String link;
+    private String statusLink;
+    private String error;
+    private long submitted;
+    private Long queuedMillis;
+    private Long generationMillis;
+    private Map<String, Object> metrics;
+
+    public GenerationJob() {}
+
+    public GenerationJob(GenerationJob job) {
+        this.id = job.id;
+        this.status = job.status;
+        this.type = job.type;
+        this.language = job.language;
+        this.code = job.code;
+        this.link = job.link;
+        this.statusLink = job.statusLink;
+        this.error = job.error;
+        this.submitted = job.submitted;
+        this.queuedMillis = job.queuedMillis;
+        this.generationMillis = job.generationMillis;
+        this.metrics = job.metrics;
+    }
+
+    @ApiModelProperty(value = "Job id", example = "0b3ba4a3-7d5e-4c55-a6a4-7e38c1e1bbd2")
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    @ApiModelProperty(value = "State of the job")
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @ApiModelProperty(value = "client or server", example = "client")
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    @ApiModelProperty(value = "The target language or framework", example = "java")
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    @ApiModelProperty(value = "File download code, once the job is done",
+            example = "d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    @ApiModelProperty(value = "URL for fetching the generated files, once the job is done",
+            example = "http://generator.swagger.io:80/api/gen/download/d40029be-eda6-4d62-b1ef-d05e2e91a72a")
+    public String getLink() {
+        return link;
+    }
+
+    public void setLink(String link) {
+        this.link = link;
+    }
+
+    @ApiModelProperty(value = "URL for polling the state of the job",
+            example = "http://generator.swagger.io:80/api/gen/jobs/0b3ba4a3-7d5e-4c55-a6a4-7e38c1e1bbd2")
+    public String getStatusLink() {
+        return statusLink;
+    }
+
+    public void setStatusLink(String statusLink) {
+        this.statusLink = statusLink;
+    }
+
+    @ApiModelProperty(value = "Why the job failed")
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @ApiModelProperty(value = "When the job was submitted, in milliseconds since the epoch")
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        this.submitted = submitted;
+    }
+
+    @ApiModelProperty(value = "Time the job waited for a worker")
+    public Long getQueuedMillis() {
+        return queuedMillis;
+    }
+
+    public void setQueuedMillis(Long queuedMillis) {
+        this.queuedMillis = queuedMillis;
+    }
+
+    @ApiModelProperty(value = "Time the generation took")
+    public Long getGenerationMillis() {
+        return generationMillis;
+    }
+
+    public void setGenerationMillis(Long generationMillis) {
+        this.generationMillis = generationMillis;
+    }
+
+    @ApiModelProperty(value = "Timings of the generation phases", dataType = "Object")
+    public Map<String, Object> getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(Map<String, Object> metrics) {
+        this.metrics = metrics;
+    }
+}
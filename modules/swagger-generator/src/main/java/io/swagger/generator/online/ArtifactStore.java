@@ -0,0 +1,293 @@
+package io.swagger.generator.online;
+
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.model.Generated;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generated files waiting to be downloaded, by file id.
+ *
+ * Files are removed once downloaded, or when they are older than the time to live. The oldest files are also
+ * removed when there are more than the maximum number of files, or when together they take more than the
+ * maximum size on disk. The limits are read from the environment variables {@value #TTL_VARIABLE} (minutes),
+ * {@value #MAX_COUNT_VARIABLE} and {@value #MAX_SIZE_VARIABLE} (megabytes).
+ *
+ * A file is read through a {@link Lease}. A file removed from the store while it is leased, e.g. by a download
+ * of the whole file during the download of a range, is only deleted once the last lease is closed.
+ */
+public class ArtifactStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactStore.class);
+
+    public static final String TTL_VARIABLE = "GENERATOR_ARTIFACT_TTL";
+    public static final String MAX_COUNT_VARIABLE = "GENERATOR_ARTIFACT_MAX_COUNT";
+    public static final String MAX_SIZE_VARIABLE = "GENERATOR_ARTIFACT_MAX_SIZE";
+
+    public static final long DEFAULT_TTL_MINUTES = 30;
+    public static final int DEFAULT_MAX_COUNT = 1000;
+    public static final long DEFAULT_MAX_SIZE_MB = 2048;
+
+    private static ArtifactStore instance;
+
+    private final long ttlMillis;
+    private final int maxCount;
+    private final long maxBytes;
+    // in the order the files were added, oldest first
+    private final Map<String, Artifact> artifacts = new LinkedHashMap<String, Artifact>();
+    private long totalBytes;
+
+    /**
+     * @param ttlMillis time to live of a file which isn't downloaded
+     * @param maxCount maximum number of files
+     * @param maxBytes maximum size of all files
+     */
+    public ArtifactStore(long ttlMillis, int maxCount, long maxBytes) {
+        this.ttlMillis = ttlMillis;
+        this.maxCount = Math.max(1, maxCount);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the store of the generator service, with the limits of the environment
+     */
+    public static synchronized ArtifactStore getInstance() {
+        if (instance == null) {
+            instance = fromEnvironment(System.getenv());
+        }
+        return instance;
+    }
+
+    static ArtifactStore fromEnvironment(Map<String, String> environment) {
+        long ttlMinutes = longVariable(environment, TTL_VARIABLE, DEFAULT_TTL_MINUTES);
+        long maxCount = longVariable(environment, MAX_COUNT_VARIABLE, DEFAULT_MAX_COUNT);
+        long maxSizeMb = longVariable(environment, MAX_SIZE_VARIABLE, DEFAULT_MAX_SIZE_MB);
+        return new ArtifactStore(TimeUnit.MINUTES.toMillis(ttlMinutes), (int) maxCount, maxSizeMb * 1024 * 1024);
+    }
+
+    /**
+     * Add a generated file, removing the oldest files if needed to stay within the limits.
+     *
+     * @param generated the generated file
+     * @return the id to download the file with
+     * @throws ApiException if the file alone is larger than the maximum size
+     */
+    public String put(Generated generated) throws ApiException {
+        long size = new File(generated.getFilename()).length();
+        if (size > maxBytes) {
+            delete(generated);
+            throw new ApiException(HttpStatus.SC_SERVICE_UNAVAILABLE,
+                    "The generated file is larger than the " + maxBytes + " bytes which can be stored");
+        }
+        String id = UUID.randomUUID().toString();
+        List<Artifact> evicted = new ArrayList<Artifact>();
+        synchronized (this) {
+            evictExpired(evicted);
+            artifacts.put(id, new Artifact(generated, size, currentTimeMillis() + ttlMillis));
+            totalBytes += size;
+            Iterator<Artifact> oldest = artifacts.values().iterator();
+            while (artifacts.size() > maxCount || totalBytes > maxBytes) {
+                Artifact artifact = oldest.next();
+                oldest.remove();
+                discard(artifact, evicted);
+            }
+        }
+        deleteAll(evicted);
+        return id;
+    }
+
+    /**
+     * Look up a file. It may be deleted at any time; use {@link #lease(String)} to read it.
+     *
+     * @param id the file id
+     * @return the generated file, or null if there is none with that id
+     */
+    public Generated get(String id) {
+        List<Artifact> evicted = new ArrayList<Artifact>();
+        Artifact artifact;
+        synchronized (this) {
+            evictExpired(evicted);
+            artifact = artifacts.get(id);
+        }
+        deleteAll(evicted);
+        return artifact != null ? artifact.generated : null;
+    }
+
+    /**
+     * Lease a file which stays available for other downloads, e.g. of another range.
+     *
+     * @param id the file id
+     * @return the lease, to be closed once the file is read, or null if there is no file with that id
+     */
+    public Lease lease(String id) {
+        return lease(id, false);
+    }
+
+    /**
+     * Take a file out of the store to download it. It is deleted once the lease and any other leases of the file
+     * are closed.
+     *
+     * @param id the file id
+     * @return the lease, to be closed once the file is read, or null if there is no file with that id
+     */
+    public Lease remove(String id) {
+        return lease(id, true);
+    }
+
+    public synchronized int size() {
+        return artifacts.size();
+    }
+
+    /**
+     * @return the size of all files in bytes
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Delete a generated file together with the temporary folder it was generated in.
+     *
+     * @param generated the generated file
+     */
+    public static void delete(Generated generated) {
+        File file = new File(generated.getFilename());
+        try {
+            FileUtils.deleteDirectory(file.getParentFile());
+        } catch (IOException e) {
+            LOGGER.warn("failed to delete file " + file.getAbsolutePath());
+        }
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private Lease lease(String id, boolean remove) {
+        List<Artifact> evicted = new ArrayList<Artifact>();
+        Artifact artifact;
+        synchronized (this) {
+            evictExpired(evicted);
+            artifact = remove ? artifacts.remove(id) : artifacts.get(id);
+            if (artifact != null) {
+                artifact.leases++;
+                if (remove) {
+                    discard(artifact, evicted);
+                }
+            }
+        }
+        deleteAll(evicted);
+        return artifact != null ? new Lease(artifact) : null;
+    }
+
+    // called with the artifact already taken out of the map; it is deleted now unless it is leased
+    private void discard(Artifact artifact, List<Artifact> deleted) {
+        totalBytes -= artifact.size;
+        artifact.removed = true;
+        if (artifact.leases == 0) {
+            deleted.add(artifact);
+        }
+    }
+
+    private void release(Artifact artifact) {
+        boolean delete;
+        synchronized (this) {
+            artifact.leases--;
+            delete = artifact.removed && artifact.leases == 0;
+        }
+        if (delete) {
+            delete(artifact.generated);
+        }
+    }
+
+    private void evictExpired(List<Artifact> evicted) {
+        long now = currentTimeMillis();
+        Iterator<Artifact> oldest = artifacts.values().iterator();
+        while (oldest.hasNext()) {
+            Artifact artifact = oldest.next();
+            if (artifact.expires > now) {
+                break;
+            }
+            oldest.remove();
+            discard(artifact, evicted);
+        }
+    }
+
+    private static void deleteAll(List<Artifact> evicted) {
+        for (Artifact artifact : evicted) {
+            LOGGER.info("removing " + artifact.generated.getFilename() + " which was not downloaded");
+            delete(artifact.generated);
+        }
+    }
+
+    private static long longVariable(Map<String, String> environment, String name, long defaultValue) {
+        String value = environment.get(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("ignoring invalid value " + value + " of " + name);
+            return defaultValue;
+        }
+    }
+
+    private static class Artifact {
+        private final Generated generated;
+        private final long size;
+        private final long expires;
+        // guarded by the store
+        private int leases;
+        private boolean removed;
+
+        Artifact(Generated generated, long size, long expires) {
+            this.generated = generated;
+            this.size = size;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Keeps a file from being deleted while it is read.
+     */
+    public class Lease implements Closeable {
+        private final Artifact artifact;
+        private boolean closed;
+
+        private Lease(Artifact artifact) {
+            this.artifact = artifact;
+        }
+
+        public Generated getGenerated() {
+            return artifact.generated;
+        }
+
+        /**
+         * Release the file, deleting it if it was removed from the store and this was its last lease.
+         */
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            release(artifact);
+        }
+    }
+}
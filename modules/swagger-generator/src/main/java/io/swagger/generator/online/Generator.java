@@ -2,27 +2,41 @@ package io.swagger.generator.online;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.codegen.*;
+import io.swagger.codegen.metrics.GenerationListener;
 import io.swagger.generator.exception.ApiException;
 import io.swagger.generator.exception.BadRequestException;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.InputOption;
+import io.swagger.generator.util.ParallelZipOutputSink;
 import io.swagger.generator.util.ZipUtil;
 import io.swagger.models.Swagger;
 import io.swagger.models.auth.AuthorizationValue;
 import io.swagger.parser.SwaggerParser;
 import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.Deflater;
 
 public class Generator {
     static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
 
+    public static final String ZIP_LEVEL_VARIABLE = "GENERATOR_ZIP_LEVEL";
+
     public static Map<String, CliOption> getOptions(String language) throws ApiException {
         CodegenConfig config = null;
         try {
@@ -62,6 +76,21 @@ public class Generator {
 
     private static String generate(String language, GeneratorInput opts, Type type)
             throws ApiException {
+        return generate(language, opts, type, null);
+    }
+
+    /**
+     * Generates a client or server into a zip file.
+     *
+     * @param language the target language or framework
+     * @param opts the spec and generator options
+     * @param type whether a client or a server is generated
+     * @param listener notified of the generation phases, may be null
+     * @return the path of the zip file
+     * @throws ApiException if the input is invalid or the generation failed
+     */
+    public static String generate(String language, GeneratorInput opts, Type type, GenerationListener listener)
+            throws ApiException {
         LOGGER.debug(String.format("generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new BadRequestException("No options were supplied");
@@ -131,38 +160,67 @@ public class Generator {
 
         LOGGER.debug(Json.pretty(clientOpts));
 
+        ResultCache cache = ResultCache.getInstance();
+        String key = null;
+        if (cache.isEnabled()) {
+            key = ResultCache.key(swagger, language, type, opts.getOptions());
+            if (cache.get(key, new File(outputFilename))) {
+                LOGGER.debug("reusing the generated files of " + key);
+                return outputFilename;
+            }
+        }
+
         clientOptInput.setConfig(codegenConfig);
+        clientOptInput.setGenerationListener(listener);
 
         try {
-            List<File> files = new Codegen().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<File>();
-                LOGGER.debug("adding to " + outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new BadRequestException(
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath());
+            OutputStream out = new BufferedOutputStream(new FileOutputStream(outputFilename));
+            try (ZipUtil.Writer zip = new ZipUtil(zipLevel()).newWriter(out)) {
+                ParallelZipOutputSink sink = new ParallelZipOutputSink(zip, outputFolder, new File(outputFolder).getName());
+                clientOptInput.outputSink(sink);
+                List<File> files = new Codegen().opts(clientOptInput).generate();
+                if (files.size() > 0) {
+                    addWrittenFiles(sink, new File(outputFolder));
+                    LOGGER.debug("added generated files to " + outputFilename);
+                } else {
+                    throw new BadRequestException(
+                            "A target generation was attempted, but no files were created!");
                 }
             }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder);
-            }
         } catch (Exception e) {
             throw new BadRequestException("Unable to build target: " + e.getMessage());
         }
+        if (key != null) {
+            cache.put(key, new File(outputFilename));
+        }
         return outputFilename;
     }
 
+    /**
+     * Some generators write files to the output folder directly instead of going through the
+     * generator's output sink (e.g. the spec file of the swagger generators); add those to the
+     * zip as well and remove them.
+     */
+    private static void addWrittenFiles(ParallelZipOutputSink sink, File outputFolder) throws IOException {
+        if (!outputFolder.isDirectory()) {
+            return;
+        }
+        for (File file : FileUtils.listFiles(outputFolder, null, true)) {
+            if (sink.exists(file.getPath())) {
+                continue;
+            }
+            try (InputStream in = new FileInputStream(file);
+                 OutputStream out = sink.open(file.getPath())) {
+                IOUtils.copy(in, out);
+            }
+        }
+        try {
+            FileUtils.deleteDirectory(outputFolder);
+        } catch (IOException e) {
+            LOGGER.error("unable to delete output folder " + outputFolder);
+        }
+    }
+
     public static InputOption clientOptions(@SuppressWarnings("unused") String language) {
         return null;
     }
@@ -171,6 +229,27 @@ public class Generator {
         return null;
     }
 
+    /**
+     * @return the compression level of the generated zip files, from the environment variable
+     * {@value #ZIP_LEVEL_VARIABLE}: 0 (store only) to 9, or -1 for the default level
+     */
+    static int zipLevel() {
+        String value = System.getenv(ZIP_LEVEL_VARIABLE);
+        if (StringUtils.isBlank(value)) {
+            return Deflater.DEFAULT_COMPRESSION;
+        }
+        try {
+            int level = Integer.parseInt(value.trim());
+            if (level >= Deflater.DEFAULT_COMPRESSION && level <= Deflater.BEST_COMPRESSION) {
+                return level;
+            }
+        } catch (NumberFormatException e) {
+            // logged below
+        }
+        LOGGER.warn("ignoring invalid value " + value + " of " + ZIP_LEVEL_VARIABLE);
+        return Deflater.DEFAULT_COMPRESSION;
+    }
+
     protected static File getTmpFolder() {
         try {
             File outputFolder = File.createTempFile("codegen-", "-tmp");
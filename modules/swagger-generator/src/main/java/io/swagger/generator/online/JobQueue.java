@@ -0,0 +1,280 @@
+package io.swagger.generator.online;
+
+import io.swagger.codegen.metrics.GenerationMetrics;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.model.GenerationJob;
+import io.swagger.generator.model.Generated;
+import io.swagger.generator.model.GeneratorInput;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs generation requests on a bounded number of worker threads, so that a burst of large specs doesn't take up
+ * the threads of the servlet container.
+ *
+ * Jobs beyond the queue size are rejected with 429 (Too Many Requests). The number of workers and the queue size
+ * are read from the environment variables {@value #WORKERS_VARIABLE} and {@value #QUEUE_SIZE_VARIABLE}.
+ */
+public class JobQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobQueue.class);
+
+    public static final String WORKERS_VARIABLE = "GENERATOR_WORKERS";
+    public static final String QUEUE_SIZE_VARIABLE = "GENERATOR_QUEUE_SIZE";
+
+    public static final int DEFAULT_QUEUE_SIZE = 50;
+    // finished jobs kept for polling, besides the queued and running ones
+    private static final int FINISHED_JOBS = 1000;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private static JobQueue instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ArtifactStore store;
+    private final Map<String, Entry> jobs;
+
+    /**
+     * @param workers number of jobs running at the same time
+     * @param queueSize number of jobs waiting for a worker
+     * @param store the store receiving the generated files
+     */
+    public JobQueue(int workers, int queueSize, ArtifactStore store) {
+        final int maxJobs = FINISHED_JOBS + workers + queueSize;
+        this.store = store;
+        this.jobs = new LinkedHashMap<String, Entry>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxJobs;
+            }
+        };
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(Math.max(1, queueSize)), new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "swagger-generator-worker-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * @return the queue of the generator service, with the limits of the environment
+     */
+    public static synchronized JobQueue getInstance() {
+        if (instance == null) {
+            instance = fromEnvironment(System.getenv(), ArtifactStore.getInstance());
+        }
+        return instance;
+    }
+
+    static JobQueue fromEnvironment(Map<String, String> environment, ArtifactStore store) {
+        int workers = intVariable(environment, WORKERS_VARIABLE, Runtime.getRuntime().availableProcessors());
+        int queueSize = intVariable(environment, QUEUE_SIZE_VARIABLE, DEFAULT_QUEUE_SIZE);
+        return new JobQueue(Math.max(1, workers), queueSize, store);
+    }
+
+    /**
+     * Queue the generation of a client or server.
+     *
+     * @param type client or server
+     * @param language the target language or framework
+     * @param opts the spec and generator options
+     * @param baseLink the URL the links to the job and to its files start with, e.g. http://localhost:8080/api/gen/
+     * @return the queued job
+     * @throws ApiException with code 429 if the queue is full
+     */
+    public GenerationJob submit(Generator.Type type, String language, GeneratorInput opts, String baseLink)
+            throws ApiException {
+        return snapshot(enqueue(type, language, opts, baseLink).job);
+    }
+
+    /**
+     * Generate a client or server on a worker and wait for it, as if it ran on the calling thread.
+     *
+     * @param type client or server
+     * @param language the target language or framework
+     * @param opts the spec and generator options
+     * @param baseLink the URL the links to the job and to its files start with, e.g. http://localhost:8080/api/gen/
+     * @return the finished job
+     * @throws ApiException with code 429 if the queue is full, or the failure of the generation
+     */
+    public GenerationJob generate(Generator.Type type, String language, GeneratorInput opts, String baseLink)
+            throws ApiException {
+        Entry entry = enqueue(type, language, opts, baseLink);
+        try {
+            entry.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, "Interrupted while waiting for the generation");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ApiException) {
+                throw (ApiException) e.getCause();
+            }
+            throw new ApiException(500, "Unable to build target: " + e.getCause().getMessage());
+        }
+        return snapshot(entry.job);
+    }
+
+    /**
+     * @param id the job id
+     * @return the current state of the job, or null if there is none with that id
+     */
+    public GenerationJob getJob(String id) {
+        Entry entry = getEntry(id);
+        return entry != null ? snapshot(entry.job) : null;
+    }
+
+    /**
+     * Wait for a job to finish.
+     *
+     * @param id the job id
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @return the state of the job, which is still queued or running if it took longer than the timeout,
+     * or null if there is no job with that id
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public GenerationJob await(String id, long timeout, TimeUnit unit) throws InterruptedException {
+        Entry entry = getEntry(id);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            entry.future.get(timeout, unit);
+        } catch (ExecutionException | TimeoutException e) {
+            // the state of the job tells
+        }
+        return snapshot(entry.job);
+    }
+
+    /**
+     * @return the number of jobs waiting for a worker
+     */
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Entry enqueue(final Generator.Type type, final String language, final GeneratorInput opts,
+                          final String baseLink) throws ApiException {
+        final GenerationJob job = new GenerationJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setStatus(GenerationJob.Status.QUEUED);
+        job.setType(type.getTypeName());
+        job.setLanguage(language);
+        job.setStatusLink(baseLink + "jobs/" + job.getId());
+        job.setSubmitted(System.currentTimeMillis());
+
+        Entry entry = new Entry(job);
+        final long submitted = System.nanoTime();
+        try {
+            entry.future = executor.submit(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    return run(job, type, language, opts, baseLink, submitted);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("rejecting " + language + " " + type.getTypeName() + ", " + executor.getQueue().size()
+                    + " jobs are waiting");
+            throw new ApiException(TOO_MANY_REQUESTS, "Too many generation requests, please try again later");
+        }
+        synchronized (jobs) {
+            jobs.put(job.getId(), entry);
+        }
+        return entry;
+    }
+
+    private String run(GenerationJob job, Generator.Type type, String language, GeneratorInput opts,
+                       String baseLink, long submitted) throws Exception {
+        long started = System.nanoTime();
+        GenerationMetrics metrics = new GenerationMetrics();
+        synchronized (job) {
+            job.setStatus(GenerationJob.Status.RUNNING);
+            job.setQueuedMillis(TimeUnit.NANOSECONDS.toMillis(started - submitted));
+        }
+        String code = null;
+        Exception failure = null;
+        try {
+            String filename = Generator.generate(language, opts, type, metrics);
+            Generated generated = new Generated();
+            generated.setFilename(filename);
+            generated.setFriendlyName(language + "-" + type.getTypeName());
+            code = store.put(generated);
+        } catch (Exception e) {
+            failure = e;
+        }
+        synchronized (job) {
+            job.setGenerationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            job.setMetrics(metrics.toReport());
+            if (failure == null) {
+                job.setCode(code);
+                job.setLink(baseLink + "download/" + code);
+                job.setStatus(GenerationJob.Status.DONE);
+            } else {
+                job.setError(failure.getMessage());
+                job.setStatus(GenerationJob.Status.FAILED);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return code;
+    }
+
+    private Entry getEntry(String id) {
+        synchronized (jobs) {
+            return jobs.get(id);
+        }
+    }
+
+    private static GenerationJob snapshot(GenerationJob job) {
+        synchronized (job) {
+            return new GenerationJob(job);
+        }
+    }
+
+    private static int intVariable(Map<String, String> environment, String name, int defaultValue) {
+        String value = environment.get(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("ignoring invalid value " + value + " of " + name);
+            return defaultValue;
+        }
+    }
+
+    private static class Entry {
+        private final GenerationJob job;
+        private Future<String> future;
+
+        Entry(GenerationJob job) {
+            this.job = job;
+        }
+    }
+}
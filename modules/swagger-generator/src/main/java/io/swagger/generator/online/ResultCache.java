@@ -0,0 +1,248 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.swagger.models.Swagger;
+import io.swagger.util.Json;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generated zip files by a hash of their input, so that generating the same spec for the same language with the
+ * same options again is a file copy.
+ *
+ * The least recently used files are removed when there are more than the maximum number of files, or when together
+ * they take more than the maximum size on disk. The limits are read from the environment variables
+ * {@value #MAX_COUNT_VARIABLE} and {@value #MAX_SIZE_VARIABLE} (megabytes); setting either to 0 turns the cache off.
+ */
+public class ResultCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultCache.class);
+
+    public static final String MAX_COUNT_VARIABLE = "GENERATOR_CACHE_MAX_COUNT";
+    public static final String MAX_SIZE_VARIABLE = "GENERATOR_CACHE_MAX_SIZE";
+
+    public static final int DEFAULT_MAX_COUNT = 100;
+    public static final long DEFAULT_MAX_SIZE_MB = 512;
+
+    private static ResultCache instance;
+
+    private final int maxCount;
+    private final long maxBytes;
+    private File directory;
+    // in the order the files were used, least recently used first
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private long totalBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param maxCount maximum number of files
+     * @param maxBytes maximum size of all files
+     */
+    public ResultCache(int maxCount, long maxBytes) {
+        this.maxCount = maxCount;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the cache of the generator service, with the limits of the environment
+     */
+    public static synchronized ResultCache getInstance() {
+        if (instance == null) {
+            instance = fromEnvironment(System.getenv());
+        }
+        return instance;
+    }
+
+    static ResultCache fromEnvironment(Map<String, String> environment) {
+        long maxCount = longVariable(environment, MAX_COUNT_VARIABLE, DEFAULT_MAX_COUNT);
+        long maxSizeMb = longVariable(environment, MAX_SIZE_VARIABLE, DEFAULT_MAX_SIZE_MB);
+        return new ResultCache((int) maxCount, maxSizeMb * 1024 * 1024);
+    }
+
+    /**
+     * The key of a generation: a SHA-256 hash of the parsed spec, written with sorted keys so that the order of
+     * its properties doesn't matter, of the language and of the sorted options.
+     *
+     * @param swagger the parsed spec
+     * @param language the target language or framework
+     * @param type client or server
+     * @param options the generator options, possibly null
+     * @return the key in hexadecimal
+     */
+    public static String key(Swagger swagger, String language, Generator.Type type, Map<String, String> options) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        Map<String, Object> input = new TreeMap<String, Object>();
+        input.put("language", language);
+        input.put("type", type.getTypeName());
+        input.put("options", options != null ? new TreeMap<String, String>(options) : null);
+        // through maps, as the sorting applies to maps but not to beans
+        input.put("spec", Json.mapper().convertValue(swagger, Object.class));
+        try {
+            Json.mapper().writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValue(new DigestOutputStream(new NullOutputStream(), digest), input);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return String.format("%064x", new BigInteger(1, digest.digest()));
+    }
+
+    public boolean isEnabled() {
+        return maxCount > 0 && maxBytes > 0;
+    }
+
+    /**
+     * Copy the file generated for a key.
+     *
+     * @param key the key of the generation
+     * @param target where to copy the file to
+     * @return whether there was a file for the key
+     */
+    public boolean get(String key, File target) {
+        if (!isEnabled()) {
+            return false;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry != null) {
+            try {
+                copy(entry.file, target);
+                hits.incrementAndGet();
+                return true;
+            } catch (IOException e) {
+                // removed in the meantime
+                LOGGER.debug("unable to copy cached " + entry.file + ": " + e.getMessage());
+            }
+        }
+        misses.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Keep a copy of the file generated for a key, removing the least recently used files if needed to stay
+     * within the limits.
+     *
+     * @param key the key of the generation
+     * @param generated the generated file
+     */
+    public void put(String key, File generated) {
+        long size = generated.length();
+        if (!isEnabled() || size > maxBytes) {
+            return;
+        }
+        File file;
+        try {
+            file = new File(getDirectory(), UUID.randomUUID().toString() + ".zip");
+            copy(generated, file);
+        } catch (IOException e) {
+            LOGGER.warn("unable to cache " + generated + ": " + e.getMessage());
+            return;
+        }
+        List<Entry> evicted = new ArrayList<Entry>();
+        synchronized (this) {
+            Entry previous = entries.put(key, new Entry(file, size));
+            totalBytes += size;
+            if (previous != null) {
+                totalBytes -= previous.size;
+                evicted.add(previous);
+            }
+            Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+            while (entries.size() > maxCount || totalBytes > maxBytes) {
+                Entry entry = leastRecentlyUsed.next();
+                leastRecentlyUsed.remove();
+                totalBytes -= entry.size;
+                evicted.add(entry);
+            }
+        }
+        for (Entry entry : evicted) {
+            FileUtils.deleteQuietly(entry.file);
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the size of all files in bytes
+     */
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private synchronized File getDirectory() throws IOException {
+        if (directory == null) {
+            directory = Files.createTempDirectory("codegen-cache-").toFile();
+            directory.deleteOnExit();
+        }
+        return directory;
+    }
+
+    /**
+     * Link the files where the file system allows it, as neither is changed once written.
+     */
+    private static void copy(File source, File target) throws IOException {
+        try {
+            Files.createLink(target.toPath(), source.toPath());
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static long longVariable(Map<String, String> environment, String name, long defaultValue) {
+        String value = environment.get(name);
+        if (StringUtils.isBlank(value)) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("ignoring invalid value " + value + " of " + name);
+            return defaultValue;
+        }
+    }
+
+    private static class Entry {
+        private final File file;
+        private final long size;
+
+        Entry(File file, long size) {
+            this.file = file;
+            this.size = size;
+        }
+    }
+}
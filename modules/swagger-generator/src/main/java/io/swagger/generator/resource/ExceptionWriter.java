@@ -32,7 +32,7 @@ public class ExceptionWriter implements ExceptionMapper<Exception> {
             return Response.status(Status.BAD_REQUEST)
                     .entity(new ApiResponse(ApiResponse.ERROR, exception.getMessage())).build();
         } else if (exception instanceof ApiException) {
-            return Response.status(Status.BAD_REQUEST)
+            return Response.status(((ApiException) exception).getCode())
                     .entity(new ApiResponse(ApiResponse.ERROR, exception.getMessage())).build();
         } else {
             return Response.status(500).entity(new ApiResponse(500, "something bad happened"))
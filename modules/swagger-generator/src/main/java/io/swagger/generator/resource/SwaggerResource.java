@@ -8,11 +8,14 @@ import io.swagger.codegen.Codegen;
 import io.swagger.codegen.CodegenConfig;
 import io.swagger.codegen.CodegenType;
 import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.GenerationJob;
 import io.swagger.generator.model.Generated;
 import io.swagger.generator.model.GeneratorInput;
 import io.swagger.generator.model.ResponseCode;
+import io.swagger.generator.online.ArtifactStore;
 import io.swagger.generator.online.Generator;
-import org.apache.commons.io.FileUtils;
+import io.swagger.generator.online.JobQueue;
+import io.swagger.generator.util.FileStreamingOutput;
 import org.apache.commons.lang3.StringUtils;
 
 import javax.servlet.http.HttpServletRequest;
@@ -20,8 +23,10 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @Path("/gen")
 @Api(value = "/gen", description = "Resource for generating swagger components")
@@ -29,7 +34,6 @@ import java.util.*;
 public class SwaggerResource {
     static List<String> clients = new ArrayList<String>();
     static List<String> servers = new ArrayList<String>();
-    private static Map<String, Generated> fileMap = new HashMap<String, Generated>();
 
     static {
         List<CodegenConfig> extensions = Codegen.getExtensions();
@@ -53,44 +57,69 @@ public class SwaggerResource {
             value = "Downloads a pre-generated file",
             notes = "A valid `fileId` is generated by the `/clients/{language}` or `/servers/{language}` POST "
                     + "operations.  The fileId code can be used just once, after which a new `fileId` will need to "
-                    + "be requested.", response = String.class, tags = {"clients", "servers"})
-    public Response downloadFile(@PathParam("fileId") String fileId) throws Exception {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-        if (g.getFilename() != null) {
-            File file = new java.io.File(g.getFilename());
-            byte[] bytes = org.apache.commons.io.FileUtils.readFileToByteArray(file);
-
-            try {
-                FileUtils.deleteDirectory(file.getParentFile());
-            } catch (Exception e) {
-                System.out.println("failed to delete file " + file.getAbsolutePath());
-            }
-
-            return Response
-                    .ok(bytes, "application/zip")
-                    .header("Content-Disposition",
-                            "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
-                    .header("Accept-Range", "bytes").header("Content-Length", bytes.length).build();
-        } else {
+                    + "be requested.  Requests for a `Range` of bytes don't use up the `fileId`, files which are not "
+                    + "downloaded are removed after a while.", response = String.class, tags = {"clients", "servers"})
+    public Response downloadFile(@PathParam("fileId") String fileId,
+            @ApiParam(value = "A single range of bytes to download") @HeaderParam("Range") String range) throws Exception {
+        final ArtifactStore store = ArtifactStore.getInstance();
+        // the file isn't deleted before the lease is closed, once it is written
+        final ArtifactStore.Lease lease = range == null ? store.remove(fileId) : store.lease(fileId);
+        if (lease == null) {
             return Response.status(404).build();
         }
+        Generated g = lease.getGenerated();
+        if (g.getFilename() == null || !new File(g.getFilename()).isFile()) {
+            lease.close();
+            return Response.status(404).build();
+        }
+        File file = new File(g.getFilename());
+        long size = file.length();
+        String disposition = "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"";
+
+        FileStreamingOutput.Range requested = FileStreamingOutput.Range.parse(range, size);
+        if (requested == FileStreamingOutput.Range.UNSATISFIABLE) {
+            lease.close();
+            return Response.status(416).header("Content-Range", "bytes */" + size).build();
+        } else if (requested != null) {
+            return Response.status(206)
+                    .entity(leased(file, requested.getFirst(), requested.getLength(), lease))
+                    .type("application/zip")
+                    .header("Content-Disposition", disposition)
+                    .header("Accept-Ranges", "bytes")
+                    .header("Content-Range", "bytes " + requested.getFirst() + "-" + requested.getLast() + "/" + size)
+                    .header("Content-Length", requested.getLength()).build();
+        }
+
+        return Response
+                .ok(leased(file, 0, size, lease), "application/zip")
+                .header("Content-Disposition", disposition)
+                .header("Accept-Ranges", "bytes").header("Content-Length", size).build();
+    }
+
+    private static StreamingOutput leased(File file, long offset, long length, final ArtifactStore.Lease lease) {
+        return new FileStreamingOutput(file, offset, length) {
+            @Override
+            protected void completed() {
+                lease.close();
+            }
+        };
     }
 
     @POST
     @Path("/clients/{language}")
     @ApiOperation(
             value = "Generates a client library",
-            notes = "Accepts a `GeneratorInput` options map for spec location and generation options",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options.  With "
+                    + "`async=true` the request returns a `GenerationJob` right away, whose `statusLink` can be "
+                    + "polled until the files are ready.",
             response = ResponseCode.class, tags = "clients")
     public Response generateClient(
             @Context HttpServletRequest request,
             @ApiParam(value = "The target language for the client library", required = true) @PathParam("language") String language,
+            @ApiParam(value = "Return a job to poll instead of waiting for the generation") @QueryParam("async") boolean async,
             @ApiParam(value = "Configuration for building the client library", required = true) GeneratorInput opts)
             throws Exception {
 
-        String filename = Generator.generateClient(language, opts);
         String host = System.getenv("GENERATOR_HOST");
 
         if (StringUtils.isBlank(host)) {
@@ -105,18 +134,7 @@ public class SwaggerResource {
             host = scheme + "://" + request.getServerName() + port;
         }
 
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(language + "-client");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
-        } else {
-            return Response.status(500).build();
-        }
+        return generate(Generator.Type.CLIENT, language, opts, host + "/api/gen/", async);
     }
 
     @GET
@@ -181,32 +199,70 @@ public class SwaggerResource {
     @Path("/servers/{framework}")
     @ApiOperation(
             value = "Generates a server library",
-            notes = "Accepts a `GeneratorInput` options map for spec location and generation options.",
+            notes = "Accepts a `GeneratorInput` options map for spec location and generation options.  With "
+                    + "`async=true` the request returns a `GenerationJob` right away, whose `statusLink` can be "
+                    + "polled until the files are ready.",
             response = ResponseCode.class, tags = "servers")
     public Response generateServerForLanguage(@Context HttpServletRequest request, @ApiParam(
             value = "framework", required = true) @PathParam("framework") String framework,
+            @ApiParam(value = "Return a job to poll instead of waiting for the generation") @QueryParam("async") boolean async,
             @ApiParam(value = "parameters", required = true) GeneratorInput opts) throws Exception {
         if (framework == null) {
             throw new BadRequestException("Framework is required");
         }
-        String filename = Generator.generateServer(framework, opts);
-        System.out.println("generated name: " + filename);
 
         String host =
                 request.getScheme() + "://" + request.getServerName() + ":"
                         + request.getServerPort();
 
-        if (filename != null) {
-            String code = String.valueOf(UUID.randomUUID().toString());
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(framework + "-server");
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
-            String link = host + "/api/gen/download/" + code;
-            return Response.ok().entity(new ResponseCode(code, link)).build();
-        } else {
-            return Response.status(500).build();
+        return generate(Generator.Type.SERVER, framework, opts, host + "/api/gen/", async);
+    }
+
+    @GET
+    @Path("/jobs/{jobId}")
+    @Produces({MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Returns the state of a generation job",
+            notes = "A valid `jobId` is returned by the `/clients/{language}` or `/servers/{framework}` POST "
+                    + "operations with `async=true`.", response = GenerationJob.class, tags = {"clients", "servers"})
+    public Response getJob(@ApiParam(value = "The job id", required = true) @PathParam("jobId") String jobId) {
+        GenerationJob job = JobQueue.getInstance().getJob(jobId);
+        if (job == null) {
+            return Response.status(404).build();
+        }
+        return Response.ok().entity(job).build();
+    }
+
+    @GET
+    @Path("/jobs/{jobId}/download")
+    @Produces({MediaType.APPLICATION_OCTET_STREAM, MediaType.APPLICATION_JSON})
+    @ApiOperation(value = "Downloads the files of a generation job",
+            notes = "Waits up to `timeout` seconds for the job to finish.  Returns the files once the job is done, "
+                    + "or the job with status 202 if it is still queued or running.",
+            response = String.class, tags = {"clients", "servers"})
+    public Response downloadJob(@ApiParam(value = "The job id", required = true) @PathParam("jobId") String jobId,
+            @ApiParam(value = "Seconds to wait for the job", defaultValue = "60") @QueryParam("timeout") @DefaultValue("60") int timeout,
+            @ApiParam(value = "A single range of bytes to download") @HeaderParam("Range") String range) throws Exception {
+        GenerationJob job = JobQueue.getInstance().await(jobId, Math.max(0, timeout), TimeUnit.SECONDS);
+        if (job == null) {
+            return Response.status(404).build();
+        }
+        switch (job.getStatus()) {
+            case DONE:
+                return downloadFile(job.getCode(), range);
+            case FAILED:
+                throw new BadRequestException(job.getError());
+            default:
+                return Response.status(202).entity(job).type(MediaType.APPLICATION_JSON).build();
+        }
+    }
+
+    private Response generate(Generator.Type type, String language, GeneratorInput opts, String baseLink,
+                              boolean async) throws Exception {
+        JobQueue queue = JobQueue.getInstance();
+        if (async) {
+            return Response.status(202).entity(queue.submit(type, language, opts, baseLink)).build();
         }
+        GenerationJob job = queue.generate(type, language, opts, baseLink);
+        return Response.ok().entity(new ResponseCode(job.getCode(), job.getLink())).build();
     }
 }
@@ -0,0 +1,136 @@
+package io.swagger.generator.util;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a file, or a range of it, to the response without reading it into memory. The bytes are transferred
+ * by the file channel, which lets the operating system copy them where the container supports it.
+ */
+public class FileStreamingOutput implements StreamingOutput {
+    private final File file;
+    private final long offset;
+    private final long length;
+
+    public FileStreamingOutput(File file) {
+        this(file, 0, file.length());
+    }
+
+    public FileStreamingOutput(File file, long offset, long length) {
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException {
+        try (RandomAccessFile in = new RandomAccessFile(file, "r")) {
+            FileChannel channel = in.getChannel();
+            WritableByteChannel out = Channels.newChannel(output);
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long transferred = channel.transferTo(position, end - position, out);
+                if (transferred <= 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+                position += transferred;
+            }
+            output.flush();
+        } finally {
+            completed();
+        }
+    }
+
+    /**
+     * Called once the file was written, or writing it failed.
+     */
+    protected void completed() {
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * A single range of bytes requested with a {@code Range} header.
+     */
+    public static class Range {
+        /**
+         * A range which is outside of the file, to be answered with 416.
+         */
+        public static final Range UNSATISFIABLE = new Range(0, -1);
+
+        private final long first;
+        private final long last;
+
+        public Range(long first, long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        /**
+         * Parse a {@code Range} header such as {@code bytes=0-1023}, {@code bytes=1024-} or {@code bytes=-512}.
+         *
+         * @param header the value of the header, possibly null
+         * @param size the size of the file
+         * @return the range, {@link #UNSATISFIABLE}, or null to send the whole file (no header, several ranges or
+         * a header which can't be parsed)
+         */
+        public static Range parse(String header, long size) {
+            if (header == null || !header.trim().startsWith("bytes=")) {
+                return null;
+            }
+            String spec = header.trim().substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0 || spec.indexOf(',') >= 0) {
+                return null;
+            }
+            try {
+                String start = spec.substring(0, dash).trim();
+                String end = spec.substring(dash + 1).trim();
+                if (start.isEmpty()) {
+                    // the last bytes of the file
+                    long suffix = Long.parseLong(end);
+                    if (suffix <= 0 || size == 0) {
+                        return UNSATISFIABLE;
+                    }
+                    return new Range(Math.max(0, size - suffix), size - 1);
+                }
+                long first = Long.parseLong(start);
+                long last = end.isEmpty() ? size - 1 : Math.min(Long.parseLong(end), size - 1);
+                if (first >= size) {
+                    return UNSATISFIABLE;
+                }
+                if (last < first) {
+                    return null;
+                }
+                return new Range(first, last);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        public long getFirst() {
+            return first;
+        }
+
+        public long getLast() {
+            return last;
+        }
+
+        public long getLength() {
+            return last - first + 1;
+        }
+    }
+}
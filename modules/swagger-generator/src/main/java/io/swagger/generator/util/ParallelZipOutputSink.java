@@ -0,0 +1,49 @@
+package io.swagger.generator.util;
+
+import io.swagger.codegen.output.BufferingOutputSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Hands every output file to a {@link ZipUtil.Writer} as soon as it is complete, so that it is deflated on the
+ * shared pool while the generator goes on with the next files. Only the files waiting for their turn are held in
+ * memory. The caller owns the writer and closes it once generation has finished.
+ *
+ * A zip entry can't be replaced; if a file is written a second time, the first content is kept.
+ */
+public class ParallelZipOutputSink extends BufferingOutputSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelZipOutputSink.class);
+
+    private final ZipUtil.Writer zip;
+    private final String prefix;
+    private final Set<String> entries = new HashSet<String>();
+
+    /**
+     * @param zip the writer receiving the files
+     * @param outputDir the output folder of the generator
+     * @param prefix folder prepended to every entry name, may be null
+     */
+    public ParallelZipOutputSink(ZipUtil.Writer zip, String outputDir, String prefix) {
+        super(outputDir);
+        this.zip = zip;
+        this.prefix = prefix == null || prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    @Override
+    protected synchronized boolean contains(String path) {
+        return entries.contains(path);
+    }
+
+    @Override
+    protected synchronized void store(String path, byte[] contents) throws IOException {
+        if (!entries.add(path)) {
+            LOGGER.warn("zip already contains " + path + ", keeping the first version");
+            return;
+        }
+        zip.add(prefix == null ? path : prefix + path, contents);
+    }
+}
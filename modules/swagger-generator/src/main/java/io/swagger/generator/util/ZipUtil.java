@@ -14,32 +14,100 @@
 
 package io.swagger.generator.util;
 
+import org.apache.commons.compress.archivers.zip.Zip64Mode;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 /**
- * This utility compresses a list of files to standard ZIP format file. It is able to compresses all
- * sub files and sub directories, recursively.
- * 
+ * This utility compresses files to standard ZIP format. It is able to compresses all sub files and
+ * sub directories, recursively.
+ *
+ * A {@link Writer} deflates the entries it is given on a pool shared by all zips, and writes them in
+ * the order they were added. A compression level of 0 stores the files without compressing them,
+ * which is fastest for small projects.
+ *
  * @author Ha Minh Nam
  *
  */
 public class ZipUtil {
     /**
-     * A constants for buffer size used to read/write data.
+     * The compression level which stores the files as they are.
+     */
+    public static final int STORE_ONLY = Deflater.NO_COMPRESSION;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // shared by all zips, so that concurrent requests don't each start their own deflate threads
+    private static final ExecutorService DEFLATE_POOL = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "swagger-generator-zip-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final int level;
+    private final int threads;
+
+    public ZipUtil() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level the compression level, from {@link #STORE_ONLY} to {@link Deflater#BEST_COMPRESSION},
+     *              or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public ZipUtil(int level) {
+        this(level, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param level the compression level, from {@link #STORE_ONLY} to {@link Deflater#BEST_COMPRESSION},
+     *              or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param threads number of entries of a zip which are compressed at the same time; 1 compresses them
+     *                on the calling thread
      */
-    private static final int BUFFER_SIZE = 4096;
+    public ZipUtil(int level, int threads) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level " + level);
+        }
+        this.level = level;
+        this.threads = Math.max(1, threads);
+    }
 
     /**
      * Compresses a collection of files to a destination zip file.
-     * 
+     *
      * @param listFiles A collection of files and directories
      * @param destZipFile The path of the destination zip file
      * @throws FileNotFoundException if file not found
@@ -47,24 +115,31 @@ public class ZipUtil {
      */
     public void compressFiles(List<File> listFiles, String destZipFile)
             throws FileNotFoundException, IOException {
-
-        ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(destZipFile));
-
-        for (File file : listFiles) {
-            if (file.isDirectory()) {
-                addFolderToZip(file, file.getName(), zos);
-            } else {
-                addFileToZip(file, zos);
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(destZipFile))) {
+            zos.setLevel(level);
+            for (File file : listFiles) {
+                if (file.isDirectory()) {
+                    addFolderToZip(file, file.getName(), zos);
+                } else {
+                    addFileToZip(file, file.getName(), zos);
+                }
             }
         }
+    }
 
-        zos.flush();
-        zos.close();
+    /**
+     * Start a zip on the given stream.
+     *
+     * @param out the stream receiving the zip, closed with the writer
+     * @return Writer the writer adding entries to the zip
+     */
+    public Writer newWriter(OutputStream out) {
+        return new Writer(out);
     }
 
     /**
      * Adds a directory to the current zip output stream.
-     * 
+     *
      * @param folder the directory to be added
      * @param parentFolder the path of parent directory
      * @param zos the current zip output stream
@@ -76,48 +151,160 @@ public class ZipUtil {
         for (File file : folder.listFiles()) {
             if (file.isDirectory()) {
                 addFolderToZip(file, parentFolder + "/" + file.getName(), zos);
-                continue;
+            } else {
+                addFileToZip(file, parentFolder + "/" + file.getName(), zos);
             }
+        }
+    }
 
-            zos.putNextEntry(new ZipEntry(parentFolder + "/" + file.getName()));
-
-            BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file));
-
-            long bytesRead = 0;
+    /**
+     * Adds a file to the current zip output stream.
+     *
+     * @param file the file to be added
+     * @param name the name of the entry
+     * @param zos the current zip output stream
+     * @throws FileNotFoundException if file not found
+     * @throws IOException if IO exception occurs
+     */
+    private static void addFileToZip(File file, String name, ZipOutputStream zos) throws FileNotFoundException,
+            IOException {
+        zos.putNextEntry(new ZipEntry(name));
+        try (InputStream bis = new BufferedInputStream(new FileInputStream(file))) {
             byte[] bytesIn = new byte[BUFFER_SIZE];
-            int read = 0;
-
+            int read;
             while ((read = bis.read(bytesIn)) != -1) {
                 zos.write(bytesIn, 0, read);
-                bytesRead += read;
             }
+        }
+        zos.closeEntry();
+    }
+
+    private Entry compress(String name, byte[] contents, long time) {
+        CRC32 crc = new CRC32();
+        crc.update(contents);
+        Entry entry = new Entry(name, time, crc.getValue(), contents.length);
+        if (level != STORE_ONLY && contents.length > 0) {
+            Deflater deflater = new Deflater(level, true);
+            try {
+                deflater.setInput(contents);
+                deflater.finish();
+                ByteArrayOutputStream deflated = new ByteArrayOutputStream(Math.max(64, contents.length / 2));
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (!deflater.finished()) {
+                    int length = deflater.deflate(buffer);
+                    deflated.write(buffer, 0, length);
+                }
+                // incompressible content is stored instead
+                if (deflated.size() < contents.length) {
+                    entry.method = ZipEntry.DEFLATED;
+                    entry.data = deflated.toByteArray();
+                    return entry;
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        entry.method = ZipEntry.STORED;
+        entry.data = contents;
+        return entry;
+    }
 
-            zos.closeEntry();
+    private static class Entry {
+        private final String name;
+        private final long time;
+        private final long crc;
+        private final long size;
+        private int method;
+        private byte[] data;
 
+        Entry(String name, long time, long crc, long size) {
+            this.name = name;
+            this.time = time;
+            this.crc = crc;
+            this.size = size;
         }
     }
 
     /**
-     * Adds a file to the current zip output stream.
-     * 
-     * @param file the file to be added
-     * @param zos the current zip output stream
-     * @throws FileNotFoundException if file not found
-     * @throws IOException if IO exception occurs
+     * Writes the entries of one zip. Each entry is deflated on the shared pool and written once it and the entries
+     * added before it are done, so the entries stay in the order they were added. At most as many entries as the
+     * configured number of threads are held while waiting for their turn; {@link #add(String, byte[])} blocks until
+     * there is room. The zip is written in Zip64 format when it outgrows the limits of the standard format.
+     *
+     * A writer must be used from one thread at a time.
      */
-    private static void addFileToZip(File file, ZipOutputStream zos) throws FileNotFoundException,
-            IOException {
-        zos.putNextEntry(new ZipEntry(file.getName()));
+    public class Writer implements Closeable {
+        private final ZipArchiveOutputStream zip;
+        private final Deque<Future<Entry>> pending = new ArrayDeque<Future<Entry>>();
+        private final long time = System.currentTimeMillis();
 
-        BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file));
+        private Writer(OutputStream out) {
+            this.zip = new ZipArchiveOutputStream(out);
+            this.zip.setUseZip64(Zip64Mode.AsNeeded);
+        }
 
-        byte[] bytesIn = new byte[BUFFER_SIZE];
-        int read = 0;
+        /**
+         * @param name the name of the entry, using '/' as separator
+         * @param contents the content of the entry
+         * @throws IOException if the zip can't be written
+         */
+        public void add(final String name, final byte[] contents) throws IOException {
+            if (threads == 1) {
+                write(compress(name, contents, time));
+                return;
+            }
+            pending.add(DEFLATE_POOL.submit(new Callable<Entry>() {
+                @Override
+                public Entry call() {
+                    return compress(name, contents, time);
+                }
+            }));
+            // write each entry as soon as it and the ones before it are compressed
+            while (pending.size() >= threads || (!pending.isEmpty() && pending.peek().isDone())) {
+                write(next());
+            }
+        }
 
-        while ((read = bis.read(bytesIn)) != -1) {
-            zos.write(bytesIn, 0, read);
+        /**
+         * Write the remaining entries and the central directory, and close the stream.
+         *
+         * @throws IOException if the zip can't be written
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                while (!pending.isEmpty()) {
+                    write(next());
+                }
+                zip.finish();
+            } finally {
+                for (Future<Entry> entry : pending) {
+                    entry.cancel(true);
+                }
+                pending.clear();
+                zip.close();
+            }
         }
 
-        zos.closeEntry();
+        private Entry next() throws IOException {
+            try {
+                return pending.poll().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while compressing", e);
+            } catch (ExecutionException e) {
+                throw new IOException("Unable to compress", e.getCause());
+            }
+        }
+
+        private void write(Entry entry) throws IOException {
+            ZipArchiveEntry zipEntry = new ZipArchiveEntry(entry.name);
+            zipEntry.setMethod(entry.method);
+            zipEntry.setTime(entry.time);
+            zipEntry.setCrc(entry.crc);
+            zipEntry.setSize(entry.size);
+            zipEntry.setCompressedSize(entry.data.length);
+            zip.addRawArchiveEntry(zipEntry, new ByteArrayInputStream(entry.data));
+        }
     }
 }
@@ -0,0 +1,178 @@
+package io.swagger.generator.online;
+
+import com.google.common.collect.ImmutableMap;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.model.Generated;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.testng.Assert.*;
+
+public class ArtifactStoreTest {
+    private File root;
+    private long now;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("artifacts").toFile();
+        now = 1000;
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(root);
+    }
+
+    @Test
+    public void testDownloadOnce() throws Exception {
+        ArtifactStore store = new ArtifactStore(60000, 10, 1000);
+        Generated generated = artifact("java", 100);
+        String id = store.put(generated);
+
+        assertSame(store.get(id), generated);
+        assertEquals(store.getTotalBytes(), 100);
+        ArtifactStore.Lease lease = store.remove(id);
+        assertSame(lease.getGenerated(), generated);
+        assertNull(store.remove(id));
+        assertEquals(store.size(), 0);
+        assertEquals(store.getTotalBytes(), 0);
+        // deleted once downloaded
+        assertTrue(new File(generated.getFilename()).exists());
+        lease.close();
+        assertFalse(new File(generated.getFilename()).getParentFile().exists());
+    }
+
+    @Test
+    public void testRemovalWaitsForRangeDownloads() throws Exception {
+        ArtifactStore store = new ArtifactStore(60000, 10, 1000);
+        Generated generated = artifact("java", 100);
+        String id = store.put(generated);
+
+        ArtifactStore.Lease range = store.lease(id);
+        ArtifactStore.Lease otherRange = store.lease(id);
+        ArtifactStore.Lease whole = store.remove(id);
+        assertNull(store.get(id));
+        whole.close();
+        range.close();
+        // closing twice doesn't release the lease of the other download
+        range.close();
+        assertTrue(new File(generated.getFilename()).isFile());
+        otherRange.close();
+        assertFalse(new File(generated.getFilename()).getParentFile().exists());
+    }
+
+    @Test
+    public void testEvictionWaitsForRangeDownloads() throws Exception {
+        ArtifactStore store = timedStore(60000, 1, 1000);
+        Generated first = artifact("first", 10);
+        String firstId = store.put(first);
+        ArtifactStore.Lease lease = store.lease(firstId);
+
+        // evicted by count, and expired
+        store.put(artifact("second", 10));
+        now += 60000;
+        assertNull(store.get(firstId));
+        assertNull(store.lease(firstId));
+        assertEquals(store.getTotalBytes(), 0);
+        assertTrue(new File(first.getFilename()).isFile());
+
+        lease.close();
+        assertFalse(new File(first.getFilename()).exists());
+
+        // a file which was leased and released again is evicted as usual
+        Generated third = artifact("third", 10);
+        String thirdId = store.put(third);
+        store.lease(thirdId).close();
+        now += 60000;
+        assertNull(store.get(thirdId));
+        assertFalse(new File(third.getFilename()).exists());
+    }
+
+    @Test
+    public void testExpiredFilesAreRemoved() throws Exception {
+        ArtifactStore store = timedStore(60000, 10, 1000);
+        Generated first = artifact("first", 10);
+        String firstId = store.put(first);
+        now += 30000;
+        String secondId = store.put(artifact("second", 10));
+
+        now += 30000;
+        assertNull(store.get(firstId));
+        assertFalse(new File(first.getFilename()).exists());
+        assertNotNull(store.get(secondId));
+        assertEquals(store.size(), 1);
+        assertEquals(store.getTotalBytes(), 10);
+    }
+
+    @Test
+    public void testOldestFilesAreRemovedBeyondLimits() throws Exception {
+        ArtifactStore store = timedStore(60000, 2, 250);
+        Generated first = artifact("first", 100);
+        String firstId = store.put(first);
+        String secondId = store.put(artifact("second", 100));
+        String thirdId = store.put(artifact("third", 100));
+
+        // size limit
+        assertNull(store.get(firstId));
+        assertFalse(new File(first.getFilename()).exists());
+        assertEquals(store.getTotalBytes(), 200);
+
+        // count limit
+        String fourthId = store.put(artifact("fourth", 10));
+        assertNull(store.get(secondId));
+        assertNotNull(store.get(thirdId));
+        assertNotNull(store.get(fourthId));
+        assertEquals(store.size(), 2);
+        assertEquals(store.getTotalBytes(), 110);
+    }
+
+    @Test
+    public void testFileLargerThanQuota() throws Exception {
+        ArtifactStore store = new ArtifactStore(60000, 10, 50);
+        Generated generated = artifact("large", 100);
+        try {
+            store.put(generated);
+            fail("file larger than the quota stored");
+        } catch (ApiException e) {
+            assertEquals(e.getCode(), 503);
+        }
+        assertFalse(new File(generated.getFilename()).exists());
+        assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testLimitsFromEnvironment() throws Exception {
+        ArtifactStore store = ArtifactStore.fromEnvironment(ImmutableMap.of(
+                ArtifactStore.MAX_COUNT_VARIABLE, "1", ArtifactStore.TTL_VARIABLE, "invalid"));
+        String firstId = store.put(artifact("first", 10));
+        String secondId = store.put(artifact("second", 10));
+
+        assertNull(store.get(firstId));
+        assertNotNull(store.get(secondId));
+    }
+
+    private ArtifactStore timedStore(long ttlMillis, int maxCount, long maxBytes) {
+        return new ArtifactStore(ttlMillis, maxCount, maxBytes) {
+            @Override
+            protected long currentTimeMillis() {
+                return now;
+            }
+        };
+    }
+
+    private Generated artifact(String name, int size) throws IOException {
+        File folder = new File(root, name);
+        File file = new File(folder, name + "-bundle.zip");
+        FileUtils.writeByteArrayToFile(file, new byte[size]);
+        Generated generated = new Generated();
+        generated.setFilename(file.getAbsolutePath());
+        generated.setFriendlyName(name);
+        return generated;
+    }
+}
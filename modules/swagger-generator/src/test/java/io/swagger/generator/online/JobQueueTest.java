@@ -0,0 +1,134 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.generator.exception.ApiException;
+import io.swagger.generator.exception.BadRequestException;
+import io.swagger.generator.model.Generated;
+import io.swagger.generator.model.GenerationJob;
+import io.swagger.generator.model.GeneratorInput;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.*;
+
+public class JobQueueTest {
+    private ArtifactStore store;
+    private JobQueue queue;
+
+    @BeforeMethod
+    public void setUp() {
+        store = new ArtifactStore(TimeUnit.MINUTES.toMillis(1), 10, Long.MAX_VALUE);
+        queue = new JobQueue(1, 1, store);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        queue.shutdown();
+    }
+
+    @Test
+    public void testGenerateAsync() throws Exception {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(getClass().getClassLoader().getResource("petstore.json")));
+
+        GenerationJob job = queue.submit(Generator.Type.CLIENT, "html", input, "http://localhost/api/gen/");
+        assertNotNull(job.getId());
+        assertEquals(job.getType(), "client");
+        assertEquals(job.getStatusLink(), "http://localhost/api/gen/jobs/" + job.getId());
+
+        GenerationJob done = queue.await(job.getId(), 1, TimeUnit.MINUTES);
+        assertEquals(done.getStatus(), GenerationJob.Status.DONE);
+        assertEquals(done.getLink(), "http://localhost/api/gen/download/" + done.getCode());
+        assertNotNull(done.getQueuedMillis());
+        assertNotNull(done.getGenerationMillis());
+        assertNotNull(done.getMetrics());
+
+        try (ArtifactStore.Lease lease = store.remove(done.getCode())) {
+            assertTrue(new File(lease.getGenerated().getFilename()).isFile());
+        }
+    }
+
+    @Test
+    public void testGenerateRethrowsFailure() throws Exception {
+        try {
+            queue.generate(Generator.Type.CLIENT, "html", new GeneratorInput(), "http://localhost/api/gen/");
+            fail("expected the missing spec to be reported");
+        } catch (BadRequestException e) {
+            assertEquals(e.getMessage(), "No swagger specification was supplied");
+        }
+        assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testFailedJob() throws Exception {
+        GenerationJob job = queue.submit(Generator.Type.SERVER, "jaxrs", new GeneratorInput(), "http://localhost/api/gen/");
+        GenerationJob failed = queue.await(job.getId(), 1, TimeUnit.MINUTES);
+
+        assertEquals(failed.getStatus(), GenerationJob.Status.FAILED);
+        assertEquals(failed.getError(), "No swagger specification was supplied");
+        assertNull(failed.getCode());
+        assertEquals(queue.getJob(job.getId()).getStatus(), GenerationJob.Status.FAILED);
+    }
+
+    @Test
+    public void testRejectWhenFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        GeneratorInput blocking = new BlockingInput(started, release);
+
+        GenerationJob running = queue.submit(Generator.Type.CLIENT, "html", blocking, "");
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        GenerationJob queued = queue.submit(Generator.Type.CLIENT, "html", new GeneratorInput(), "");
+        assertEquals(queue.getQueuedCount(), 1);
+        assertEquals(queue.getJob(running.getId()).getStatus(), GenerationJob.Status.RUNNING);
+        assertEquals(queue.getJob(queued.getId()).getStatus(), GenerationJob.Status.QUEUED);
+        assertEquals(queue.await(queued.getId(), 10, TimeUnit.MILLISECONDS).getStatus(), GenerationJob.Status.QUEUED);
+
+        try {
+            queue.submit(Generator.Type.CLIENT, "html", new GeneratorInput(), "");
+            fail("expected the job to be rejected");
+        } catch (ApiException e) {
+            assertEquals(e.getCode(), 429);
+        }
+
+        release.countDown();
+        assertEquals(queue.await(running.getId(), 1, TimeUnit.MINUTES).getStatus(), GenerationJob.Status.FAILED);
+        assertEquals(queue.await(queued.getId(), 1, TimeUnit.MINUTES).getStatus(), GenerationJob.Status.FAILED);
+    }
+
+    @Test
+    public void testUnknownJob() throws Exception {
+        assertNull(queue.getJob("unknown"));
+        assertNull(queue.await("unknown", 1, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Holds the worker until released, then fails for want of a spec.
+     */
+    private static class BlockingInput extends GeneratorInput {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        BlockingInput(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public JsonNode getSpec() {
+            started.countDown();
+            try {
+                release.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+}
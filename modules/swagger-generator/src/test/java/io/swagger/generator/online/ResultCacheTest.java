@@ -0,0 +1,145 @@
+package io.swagger.generator.online;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableMap;
+import io.swagger.generator.model.GeneratorInput;
+import io.swagger.models.Info;
+import io.swagger.models.Swagger;
+import io.swagger.parser.SwaggerParser;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.testng.Assert.*;
+
+public class ResultCacheTest {
+    private File root;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("results").toFile();
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(root);
+    }
+
+    @Test
+    public void testKeyIgnoresPropertyOrder() {
+        Swagger first = new SwaggerParser().parse("{\"swagger\":\"2.0\",\"info\":{\"title\":\"t\",\"version\":\"1\"},"
+                + "\"paths\":{\"/a\":{\"get\":{\"responses\":{\"200\":{\"description\":\"ok\"}}}},"
+                + "\"/b\":{\"get\":{\"responses\":{\"200\":{\"description\":\"ok\"}}}}}}");
+        Swagger second = new SwaggerParser().parse("{\"paths\":{\"/b\":{\"get\":{\"responses\":{\"200\":{\"description\":\"ok\"}}}},"
+                + "\"/a\":{\"get\":{\"responses\":{\"200\":{\"description\":\"ok\"}}}}},"
+                + "\"info\":{\"version\":\"1\",\"title\":\"t\"},\"swagger\":\"2.0\"}");
+
+        String key = ResultCache.key(first, "java", Generator.Type.CLIENT,
+                ImmutableMap.of("a", "1", "b", "2"));
+        assertEquals(key.length(), 64);
+        assertEquals(ResultCache.key(second, "java", Generator.Type.CLIENT,
+                ImmutableMap.of("b", "2", "a", "1")), key);
+
+        assertNotEquals(ResultCache.key(first, "java", Generator.Type.CLIENT, ImmutableMap.of("a", "1")), key);
+        assertNotEquals(ResultCache.key(first, "java", Generator.Type.CLIENT, null), key);
+        assertNotEquals(ResultCache.key(first, "php", Generator.Type.CLIENT,
+                ImmutableMap.of("a", "1", "b", "2")), key);
+        assertNotEquals(ResultCache.key(first, "java", Generator.Type.SERVER,
+                ImmutableMap.of("a", "1", "b", "2")), key);
+
+        second.setInfo(new Info().title("t").version("2"));
+        assertNotEquals(ResultCache.key(second, "java", Generator.Type.CLIENT,
+                ImmutableMap.of("a", "1", "b", "2")), key);
+    }
+
+    @Test
+    public void testGetCopy() throws Exception {
+        ResultCache cache = new ResultCache(10, 1000);
+        File target = new File(root, "target.zip");
+        assertFalse(cache.get("key", target));
+
+        File generated = file("generated.zip", 100);
+        cache.put("key", generated);
+        FileUtils.deleteQuietly(generated);
+        assertTrue(cache.get("key", target));
+        assertEquals(target.length(), 100);
+
+        // the copy may be deleted with the rest of the download
+        FileUtils.deleteQuietly(target);
+        assertTrue(cache.get("key", new File(root, "again.zip")));
+        assertEquals(cache.getHits(), 2);
+        assertEquals(cache.getMisses(), 1);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws Exception {
+        ResultCache cache = new ResultCache(2, 1000);
+        cache.put("first", file("first.zip", 10));
+        cache.put("second", file("second.zip", 10));
+        assertTrue(cache.get("first", new File(root, "first-copy.zip")));
+        cache.put("third", file("third.zip", 10));
+
+        assertEquals(cache.size(), 2);
+        assertTrue(cache.get("first", new File(root, "first-again.zip")));
+        assertFalse(cache.get("second", new File(root, "second-copy.zip")));
+        assertTrue(cache.get("third", new File(root, "third-copy.zip")));
+    }
+
+    @Test
+    public void testEvictForSize() throws Exception {
+        ResultCache cache = new ResultCache(10, 250);
+        cache.put("first", file("first.zip", 100));
+        cache.put("second", file("second.zip", 100));
+        cache.put("third", file("third.zip", 100));
+        cache.put("huge", file("huge.zip", 300));
+
+        assertEquals(cache.size(), 2);
+        assertEquals(cache.getTotalBytes(), 200);
+        assertFalse(cache.get("first", new File(root, "first-copy.zip")));
+        assertFalse(cache.get("huge", new File(root, "huge-copy.zip")));
+
+        cache.put("second", file("second-bis.zip", 50));
+        assertEquals(cache.getTotalBytes(), 150);
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        ResultCache cache = ResultCache.fromEnvironment(ImmutableMap.of(ResultCache.MAX_COUNT_VARIABLE, "0"));
+        assertFalse(cache.isEnabled());
+        cache.put("key", file("generated.zip", 10));
+        assertEquals(cache.size(), 0);
+        assertFalse(cache.get("key", new File(root, "target.zip")));
+    }
+
+    @Test
+    public void testGenerateTwice() throws Exception {
+        GeneratorInput input = new GeneratorInput();
+        input.setSpec(new ObjectMapper().readTree(getClass().getClassLoader().getResource("petstore.json")));
+        input.setOptions(ImmutableMap.of("outputFolder", "cached-html"));
+        ResultCache cache = ResultCache.getInstance();
+        long hits = cache.getHits();
+
+        File first = new File(Generator.generateClient("html", input));
+        File second = new File(Generator.generateClient("html", input));
+        try {
+            assertEquals(cache.getHits(), hits + 1);
+            assertNotEquals(second, first);
+            assertTrue(FileUtils.contentEquals(first, second));
+        } finally {
+            FileUtils.deleteDirectory(first.getParentFile());
+            FileUtils.deleteDirectory(second.getParentFile());
+        }
+    }
+
+    private File file(String name, int size) throws IOException {
+        File file = new File(root, name);
+        FileUtils.writeStringToFile(file, new String(new char[size]).replace('\0', 'x'), StandardCharsets.UTF_8);
+        return file;
+    }
+}
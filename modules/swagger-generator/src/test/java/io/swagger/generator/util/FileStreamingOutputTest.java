@@ -0,0 +1,68 @@
+package io.swagger.generator.util;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.*;
+
+public class FileStreamingOutputTest {
+
+    @Test
+    public void testWriteRange() throws Exception {
+        byte[] content = new byte[100000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        File file = File.createTempFile("streaming", ".zip");
+        try {
+            FileUtils.writeByteArrayToFile(file, content);
+            final AtomicBoolean completed = new AtomicBoolean();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            new FileStreamingOutput(file) {
+                @Override
+                protected void completed() {
+                    completed.set(true);
+                }
+            }.write(out);
+            assertEquals(out.toByteArray(), content);
+            assertTrue(completed.get());
+
+            out = new ByteArrayOutputStream();
+            new FileStreamingOutput(file, 1000, 500).write(out);
+            assertEquals(out.toByteArray(), Arrays.copyOfRange(content, 1000, 1500));
+        } finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void testParseRange() {
+        assertNull(FileStreamingOutput.Range.parse(null, 1000));
+        assertNull(FileStreamingOutput.Range.parse("items=0-10", 1000));
+        assertNull(FileStreamingOutput.Range.parse("bytes=0-10,20-30", 1000));
+        assertNull(FileStreamingOutput.Range.parse("bytes=x-10", 1000));
+        assertNull(FileStreamingOutput.Range.parse("bytes=10-5", 1000));
+
+        assertRange(FileStreamingOutput.Range.parse("bytes=0-99", 1000), 0, 99);
+        assertRange(FileStreamingOutput.Range.parse("bytes=900-", 1000), 900, 999);
+        assertRange(FileStreamingOutput.Range.parse("bytes=900-5000", 1000), 900, 999);
+        assertRange(FileStreamingOutput.Range.parse("bytes=-100", 1000), 900, 999);
+        assertRange(FileStreamingOutput.Range.parse("bytes=-5000", 1000), 0, 999);
+
+        assertSame(FileStreamingOutput.Range.parse("bytes=1000-", 1000), FileStreamingOutput.Range.UNSATISFIABLE);
+        assertSame(FileStreamingOutput.Range.parse("bytes=-0", 1000), FileStreamingOutput.Range.UNSATISFIABLE);
+    }
+
+    private static void assertRange(FileStreamingOutput.Range range, long first, long last) {
+        assertNotNull(range);
+        assertEquals(range.getFirst(), first);
+        assertEquals(range.getLast(), last);
+        assertEquals(range.getLength(), last - first + 1);
+    }
+}
@@ -0,0 +1,201 @@
+package io.swagger.generator.util;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import static org.testng.Assert.*;
+
+public class ZipUtilTest {
+
+    @Test
+    public void testParallelCompression() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<String, byte[]>();
+        for (int i = 0; i < 50; i++) {
+            StringBuilder contents = new StringBuilder();
+            for (int j = 0; j <= i * 20; j++) {
+                contents.append("public class Model").append(i).append(" { int field").append(j).append("; }\n");
+            }
+            files.put("client/src/Model" + (49 - i) + ".java", contents.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        files.put("client/README.md", new byte[0]);
+
+        byte[] parallel = zip(new ZipUtil(Deflater.DEFAULT_COMPRESSION, 4), files);
+        byte[] sequential = zip(new ZipUtil(Deflater.DEFAULT_COMPRESSION, 1), files);
+        assertEquals(parallel.length, sequential.length);
+
+        Map<String, byte[]> read = unzip(parallel);
+        // in the order they were added
+        assertEquals(read.keySet().toArray()[0], "client/src/Model49.java");
+        assertEquals(read.keySet().toArray()[50], "client/README.md");
+        assertEquals(read.size(), files.size());
+        for (Map.Entry<String, byte[]> file : files.entrySet()) {
+            assertTrue(Arrays.equals(read.get(file.getKey()), file.getValue()), file.getKey());
+        }
+        assertTrue(parallel.length < files.get("client/src/Model0.java").length * 50);
+    }
+
+    @Test
+    public void testStoreOnly() throws Exception {
+        Map<String, byte[]> files = new LinkedHashMap<String, byte[]>();
+        byte[] text = new String(new char[1000]).replace('\0', 'a').getBytes(StandardCharsets.UTF_8);
+        files.put("text.txt", text);
+
+        byte[] stored = zip(new ZipUtil(ZipUtil.STORE_ONLY), files);
+        assertEquals(method(stored, "text.txt"), ZipEntry.STORED);
+        assertTrue(stored.length > text.length);
+        assertTrue(Arrays.equals(unzip(stored).get("text.txt"), text));
+
+        byte[] deflated = zip(new ZipUtil(Deflater.BEST_COMPRESSION), files);
+        assertEquals(method(deflated, "text.txt"), ZipEntry.DEFLATED);
+        assertTrue(deflated.length < text.length);
+    }
+
+    @Test
+    public void testIncompressibleStored() throws Exception {
+        byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+        Map<String, byte[]> files = new LinkedHashMap<String, byte[]>();
+        files.put("random.bin", random);
+        files.put("déjà/vu.txt", "deja vu".getBytes(StandardCharsets.UTF_8));
+
+        byte[] zip = zip(new ZipUtil(), files);
+        assertEquals(method(zip, "random.bin"), ZipEntry.STORED);
+        Map<String, byte[]> read = unzip(zip);
+        assertTrue(Arrays.equals(read.get("random.bin"), random));
+        assertEquals(new String(read.get("déjà/vu.txt"), StandardCharsets.UTF_8), "deja vu");
+    }
+
+    @Test
+    public void testCompressFolder() throws Exception {
+        File root = Files.createTempDirectory("zip").toFile();
+        try {
+            File folder = new File(root, "petstore");
+            FileUtils.writeStringToFile(new File(folder, "pom.xml"), "<project/>", StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(new File(folder, "src/Pet.java"), "class Pet {}", StandardCharsets.UTF_8);
+            File readme = new File(root, "README.md");
+            FileUtils.writeStringToFile(readme, "# petstore", StandardCharsets.UTF_8);
+            File zip = new File(root, "petstore.zip");
+
+            new ZipUtil().compressFiles(Arrays.asList(folder, readme), zip.getAbsolutePath());
+
+            try (ZipFile zipFile = new ZipFile(zip)) {
+                assertEquals(zipFile.size(), 3);
+                assertEquals(IOUtils.toString(zipFile.getInputStream(zipFile.getEntry("petstore/src/Pet.java")),
+                        StandardCharsets.UTF_8), "class Pet {}");
+                assertNotNull(zipFile.getEntry("petstore/pom.xml"));
+                assertNotNull(zipFile.getEntry("README.md"));
+            }
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    @Test
+    public void testManyEntries() throws Exception {
+        // more entries than the standard format can count
+        File zip = File.createTempFile("zip", ".zip");
+        try {
+            try (ZipUtil.Writer writer = new ZipUtil(ZipUtil.STORE_ONLY, 4).newWriter(new FileOutputStream(zip))) {
+                for (int i = 0; i < 70000; i++) {
+                    writer.add("f" + i, new byte[]{(byte) i});
+                }
+            }
+            try (ZipFile zipFile = new ZipFile(zip)) {
+                assertEquals(zipFile.size(), 70000);
+                assertEquals(IOUtils.toByteArray(zipFile.getInputStream(zipFile.getEntry("f69999"))), new byte[]{(byte) 69999});
+            }
+        } finally {
+            FileUtils.deleteQuietly(zip);
+        }
+    }
+
+    @Test
+    public void testSink() throws Exception {
+        File root = Files.createTempDirectory("zip").toFile();
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ZipUtil.Writer zip = new ZipUtil(Deflater.DEFAULT_COMPRESSION, 2).newWriter(out)) {
+                ParallelZipOutputSink sink = new ParallelZipOutputSink(zip, root.getPath(), "petstore");
+                for (String name : Arrays.asList("pom.xml", "src/Pet.java", "pom.xml")) {
+                    try (OutputStream file = sink.open(new File(root, name).getPath())) {
+                        file.write(name.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                assertTrue(sink.exists(new File(root, "src/Pet.java").getPath()));
+            }
+            Map<String, byte[]> read = unzip(out.toByteArray());
+            assertEquals(read.keySet().toArray(), new Object[]{"petstore/pom.xml", "petstore/src/Pet.java"});
+            assertEquals(new String(read.get("petstore/src/Pet.java"), StandardCharsets.UTF_8), "src/Pet.java");
+        } finally {
+            FileUtils.deleteDirectory(root);
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidLevel() {
+        new ZipUtil(10);
+    }
+
+    private static byte[] zip(ZipUtil zipUtil, Map<String, byte[]> files) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipUtil.Writer zip = zipUtil.newWriter(out)) {
+            for (Map.Entry<String, byte[]> file : files.entrySet()) {
+                zip.add(file.getKey(), file.getValue());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> files = new LinkedHashMap<String, byte[]>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                files.put(entry.getName(), IOUtils.toByteArray(in));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Read through the central directory, as {@link ZipFile} does.
+     */
+    private static int method(byte[] zip, String name) throws IOException {
+        File file = File.createTempFile("zip", ".zip");
+        try {
+            FileUtils.writeByteArrayToFile(file, zip);
+            try (ZipFile zipFile = new ZipFile(file)) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    ZipEntry entry = entries.nextElement();
+                    if (entry.getName().equals(name)) {
+                        assertEquals(IOUtils.toByteArray(zipFile.getInputStream(entry)).length, entry.getSize());
+                        return entry.getMethod();
+                    }
+                }
+            }
+        } finally {
+            FileUtils.deleteQuietly(file);
+        }
+        throw new AssertionError(name + " not found");
+    }
+}